@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Mede o tempo até a primeira requisição respondida e o RSS logo depois dela, em cada modo de execução.
+#
+# Pré-requisitos, a partir da raiz do projeto:
+#   jvm, aot e cds: mvn -Pproducao package
+#   native:         mvn -Pproducao,native native:compile (GraalVM)
+#
+# Uso:       scripts/benchmark-inicializacao.sh [jvm] [aot] [cds] [native]   (padrão: todos)
+# Resultado: target/inicializacao.csv com modo,rodada,primeira_requisicao_ms,rss_mb
+set -euo pipefail
+
+RODADAS=${RODADAS:-5}
+PORTA=${PORTA:-18080}
+URL="http://localhost:${PORTA}/v1/validar/cpf?documento=52998224725"
+RESULTADO=target/inicializacao.csv
+MODOS=("$@")
+[ ${#MODOS[@]} -eq 0 ] && MODOS=(jvm aot cds native)
+
+JAR=$(ls target/validador-*.jar 2>/dev/null | grep -v plain | head -1 || true)
+NATIVO=target/validador
+DIRETORIO_CDS=target/cds
+
+export SPRING_PROFILES_ACTIVE=producao
+export SERVER_PORT=$PORTA
+
+comando() {
+    case "$1" in
+        jvm)    echo "java -jar $JAR" ;;
+        aot)    echo "java -Dspring.aot.enabled=true -jar $JAR" ;;
+        cds)    echo "java -XX:SharedArchiveFile=$DIRETORIO_CDS/app.jsa -Dspring.aot.enabled=true -jar $DIRETORIO_CDS/$(basename "$JAR")" ;;
+        native) echo "$NATIVO" ;;
+        *)      echo "Modo desconhecido: $1" >&2; exit 2 ;;
+    esac
+}
+
+preparar() {
+    case "$1" in
+        native) [ -x "$NATIVO" ] || { echo "Imagem nativa não encontrada em $NATIVO" >&2; exit 1; } ;;
+        *)      [ -n "$JAR" ] || { echo "Jar não encontrado em target/, rode mvn -Pproducao package" >&2; exit 1; } ;;
+    esac
+
+    if [ "$1" = cds ]; then
+        # extrai o jar e gera o arquivo CDS com uma execução de treino que para após o refresh do contexto
+        rm -rf "$DIRETORIO_CDS"
+        java -Djarmode=tools -jar "$JAR" extract --destination "$DIRETORIO_CDS"
+        java -XX:ArchiveClassesAtExit="$DIRETORIO_CDS/app.jsa" -Dspring.context.exit=onRefresh \
+            -Dspring.aot.enabled=true -jar "$DIRETORIO_CDS/$(basename "$JAR")" > /dev/null
+    fi
+}
+
+medir() {
+    local modo=$1 rodada=$2
+    local inicio fim pid rss_kb
+
+    inicio=$(date +%s%N)
+    $(comando "$modo") > /dev/null 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Aplicação encerrou antes de responder no modo $modo" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    fim=$(date +%s%N)
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    printf '%s,%d,%d,%.1f\n' "$modo" "$rodada" $(( (fim - inicio) / 1000000 )) "$(echo "$rss_kb / 1024" | bc -l)" >> "$RESULTADO"
+}
+
+mkdir -p target
+echo "modo,rodada,primeira_requisicao_ms,rss_mb" > "$RESULTADO"
+for modo in "${MODOS[@]}"; do
+    preparar "$modo"
+    for rodada in $(seq 1 "$RODADAS"); do
+        medir "$modo" "$rodada"
+    done
+done
+
+column -s, -t < "$RESULTADO"
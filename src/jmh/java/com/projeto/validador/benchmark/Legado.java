@@ -0,0 +1,95 @@
+package com.projeto.validador.benchmark;
+
+/**
+ * Implementações anteriores das regras, mantidas apenas como linha de base dos benchmarks.
+ */
+final class Legado {
+
+    private Legado() {
+    }
+
+    // RegrasCnpj.cnpjAlfanumericoValido antes do cálculo em uma única passada
+    static boolean cnpjAlfanumericoValido(String entrada) {
+        if (entrada == null) return false;
+
+        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+        if (limpo.length() != 14) return false;
+
+        String base12 = limpo.substring(0, 12);
+        String dvsInformados = limpo.substring(12);
+        if (!dvsInformados.matches("\\d{2}")) return false;
+
+        int dvCalculado1 = calcularDvCnpj(base12, true);
+        if (dvCalculado1 < 0) return false;
+        int dvCalculado2 = calcularDvCnpj(base12 + dvCalculado1, false);
+
+        return Character.getNumericValue(dvsInformados.charAt(0)) == dvCalculado1
+                && Character.getNumericValue(dvsInformados.charAt(1)) == dvCalculado2;
+    }
+
+    // RegrasCnpj.formatar antes do FormatadorDocumento
+    static String formatarCnpj(String entrada) {
+        if (entrada == null) return null;
+        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+        if (limpo.length() != 14) {
+            return limpo;
+        }
+        return String.format("%s.%s.%s/%s-%s",
+                limpo.substring(0,2),
+                limpo.substring(2,5),
+                limpo.substring(5,8),
+                limpo.substring(8,12),
+                limpo.substring(12));
+    }
+
+    private static int calcularDvCnpj(String caracteres, boolean primeiraRodada) {
+        int[] pesos = primeiraRodada
+                ? new int[]{5,4,3,2,9,8,7,6,5,4,3,2}
+                : new int[]{6,5,4,3,2,9,8,7,6,5,4,3,2};
+        if (caracteres.length() != pesos.length) return -1;
+
+        int soma = 0;
+        for (int i = 0; i < caracteres.length(); i++) {
+            char caractere = caracteres.charAt(i);
+            if (!Character.isLetterOrDigit(caractere)) return -1;
+            soma += (((int) caractere) - 48) * pesos[i];
+        }
+
+        int dv = 11 - soma % 11;
+        return dv == 10 || dv == 11 ? 0 : dv;
+    }
+
+    // RegrasCpf.cpfValido antes do cálculo por tabela
+    static boolean cpfValido(String cpf) {
+        if (cpf == null || cpf.length() != 11 || !cpf.matches("\\d+")) {
+            return false;
+        }
+        if (cpf.chars().distinct().count() == 1) {
+            return false;
+        }
+        try {
+            int soma1 = 0, soma2 = 0;
+            for (int i = 0; i < 9; i++) {
+                int num = Character.getNumericValue(cpf.charAt(i));
+                soma1 += num * (10 - i);
+                soma2 += num * (11 - i);
+            }
+            int digito1 = (soma1 * 10) % 11;
+            if (digito1 == 10) digito1 = 0;
+            soma2 += digito1 * 2;
+            int digito2 = (soma2 * 10) % 11;
+            if (digito2 == 10) digito2 = 0;
+            return digito1 == Character.getNumericValue(cpf.charAt(9)) &&
+                    digito2 == Character.getNumericValue(cpf.charAt(10));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // DocumentoInvalidoException antes de deixar de capturar a stack trace
+    static class DocumentoInvalidoException extends RuntimeException {
+        DocumentoInvalidoException(String documento, String motivo) {
+            super("Documento inválido: " + documento + " - Motivo: " + motivo);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.projeto.validador.benchmark;
+
+import com.projeto.validador.domain.DigitosCpf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação de CPFs em lote: buffer de largura fixa contra {@code String[]} e contra a regra
+ * anterior chamada um a um. O throughput é por CPF.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoteCpfBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    private String[] cpfs;
+    private byte[] dados;
+    private boolean[] resultado;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        cpfs = new String[QUANTIDADE];
+        dados = new byte[QUANTIDADE * DigitosCpf.TAMANHO];
+        resultado = new boolean[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < DigitosCpf.TAMANHO; j++) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+            cpfs[i] = sb.toString();
+            System.arraycopy(cpfs[i].getBytes(StandardCharsets.US_ASCII), 0, dados, i * DigitosCpf.TAMANHO, DigitosCpf.TAMANHO);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public boolean[] buffer() {
+        DigitosCpf.validar(dados, 0, DigitosCpf.TAMANHO, QUANTIDADE, resultado);
+        return resultado;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public boolean[] array() {
+        DigitosCpf.validar(cpfs, resultado);
+        return resultado;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public boolean[] legado() {
+        for (int i = 0; i < QUANTIDADE; i++) {
+            resultado[i] = Legado.cpfValido(cpfs[i]);
+        }
+        return resultado;
+    }
+}
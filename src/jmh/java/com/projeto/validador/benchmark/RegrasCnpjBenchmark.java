@@ -0,0 +1,85 @@
+package com.projeto.validador.benchmark;
+
+import com.projeto.validador.domain.FormatadorDocumento;
+import com.projeto.validador.domain.RegrasCnpj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regra e formatação de CNPJ isoladas, comparadas à implementação anterior por regex
+ * ({@link Legado}). A formatação é medida devolvendo {@code String} e escrevendo em destinos
+ * reaproveitados, como em logs e respostas. Rodar com {@code -prof gc} (padrão do perfil jmh) para acompanhar a
+ * taxa de alocação junto com o throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegrasCnpjBenchmark {
+
+    @Param({
+        "11222333000181",      // numérico válido
+        "11.222.333/0001-81",  // numérico válido com máscara
+        "11222333000182",      // numérico com DV incorreto
+        "12ABC34501DE35",      // alfanumérico válido
+        "12.ABC.345/01DE-35",  // alfanumérico válido com máscara
+        "12ABC34501DE3X"       // alfanumérico com DV não numérico
+    })
+    public String cnpj;
+
+    private final StringBuilder sb = new StringBuilder(32);
+    private final char[] chars = new char[32];
+    private final ByteBuffer bytes = ByteBuffer.allocate(32);
+
+    @Benchmark
+    public boolean cnpjAlfanumericoValido() {
+        return RegrasCnpj.cnpjAlfanumericoValido(cnpj);
+    }
+
+    @Benchmark
+    public boolean cnpjAlfanumericoValidoLegado() {
+        return Legado.cnpjAlfanumericoValido(cnpj);
+    }
+
+    @Benchmark
+    public String formatar() {
+        return RegrasCnpj.formatar(cnpj);
+    }
+
+    @Benchmark
+    public String formatarLegado() {
+        return Legado.formatarCnpj(cnpj);
+    }
+
+    @Benchmark
+    public StringBuilder formatarEmStringBuilder() {
+        sb.setLength(0);
+        FormatadorDocumento.CNPJ.formatar(cnpj, sb);
+        return sb;
+    }
+
+    @Benchmark
+    public int formatarEmChars() {
+        return FormatadorDocumento.CNPJ.formatar(cnpj, chars, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer formatarEmByteBuffer() {
+        bytes.clear();
+        FormatadorDocumento.CNPJ.formatar(cnpj, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,47 @@
+package com.projeto.validador.benchmark;
+
+import com.projeto.validador.domain.RegrasCpf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regra de CPF isolada, comparada à implementação anterior com regex e stream
+ * ({@link Legado}). Rodar com {@code -prof gc} (padrão do perfil jmh)
+ * para acompanhar a taxa de alocação junto com o throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegrasCpfBenchmark {
+
+    @Param({
+        "52998224725",     // válido
+        "52998224724",     // DV incorreto
+        "529.982.247-25",  // com máscara
+        "11111111111"      // todos os dígitos iguais
+    })
+    public String cpf;
+
+    @Benchmark
+    public boolean cpfValido() {
+        return RegrasCpf.cpfValido(cpf);
+    }
+
+    @Benchmark
+    public boolean cpfValidoLegado() {
+        return Legado.cpfValido(cpf);
+    }
+}
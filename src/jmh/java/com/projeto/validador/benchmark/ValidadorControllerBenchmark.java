@@ -0,0 +1,125 @@
+package com.projeto.validador.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.binario.CodecLoteBinario;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.config.ConversorResultadoValidacao;
+import com.projeto.validador.controller.ValidadorController;
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import com.projeto.validador.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * {@code GET /v1/validar/cpf} pelo MockMvc, do dispatcher até os bytes da resposta: o controller atual, que
+ * escreve {@link ResultadoValidacao} a partir de bytes pré-codificados, contra o anterior, que montava o
+ * texto com {@code String.format} e deixava o JSON para a serialização por reflexão do Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidadorControllerBenchmark {
+
+    @Param({"texto", "json"})
+    public String formato;
+
+    @Param({"52998224725", "529.982.247-24"})
+    public String documento;
+
+    private MockMvc atual;
+    private MockMvc anterior;
+    private MediaType aceito;
+
+    @Setup
+    public void setup() {
+        ValidadorCpf validadorCpf = new ValidadorCpf();
+        ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+        ValidadorFactory factory = new ValidadorFactory(List.of(validadorCpf, validadorCnpj));
+        MetricasValidacao metricas = new MetricasValidacao(new SimpleMeterRegistry(), List.of(validadorCpf, validadorCnpj));
+        ValidadorService validadorService = new ValidadorService(factory, metricas, CadastroDocumentos.desabilitado(),
+                AuditoriaValidacao.desabilitada());
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        atual = MockMvcBuilders
+                .standaloneSetup(new ValidadorController(validadorService,
+                        new ValidadorLoteService(factory, metricas, AuditoriaValidacao.desabilitada(), objectMapper, 256),
+                        new CodecLoteBinario(metricas, AuditoriaValidacao.desabilitada())))
+                .setMessageConverters(new ConversorResultadoValidacao(),
+                        new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        anterior = MockMvcBuilders
+                .standaloneSetup(new ControllerAnterior(validadorService))
+                .setMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        aceito = formato.equals("json") ? MediaType.APPLICATION_JSON : MediaType.TEXT_PLAIN;
+    }
+
+    @Benchmark
+    public byte[] atual() throws Exception {
+        return atual.perform(get("/v1/validar/cpf").param("documento", documento).accept(aceito))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] anterior() throws Exception {
+        return anterior.perform(get("/v1/validar/cpf").param("documento", documento).accept(aceito))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @RestController
+    static class ControllerAnterior {
+
+        private final ValidadorService validadorService;
+
+        ControllerAnterior(ValidadorService validadorService) {
+            this.validadorService = validadorService;
+        }
+
+        @GetMapping(value = "/v1/validar/cpf", produces = MediaType.TEXT_PLAIN_VALUE)
+        public ResponseEntity<String> texto(@RequestParam String documento) {
+            ResultadoValidacao resultado = validadorService.avaliar(documento, "CPF");
+            return ResponseEntity.ok().body(String.format(resultado.isValido() ? " %s valido" : " %s invalido", resultado.getTipo()));
+        }
+
+        @GetMapping(value = "/v1/validar/cpf", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<ResultadoValidacao> json(@RequestParam String documento) {
+            return ResponseEntity.ok().body(validadorService.avaliar(documento, "CPF"));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.projeto.validador.benchmark;
+
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.factory.ResolucaoValidador;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.interfaces.Validador;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de rejeitar uma entrada inválida na factory comparado ao de encontrar o validador:
+ * resolução sem exceção, exceção sem stack trace e exceção com stack trace (comportamento anterior).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidadorFactoryBenchmark {
+
+    @Param({
+        "52998224725",     // tamanho válido
+        "529.982.247-25",  // com máscara
+        "123"              // tamanho inválido
+    })
+    public String documento;
+
+    private ValidadorFactory factory;
+
+    @Setup
+    public void setup() {
+        factory = new ValidadorFactory(List.of(new ValidadorCpf(), new ValidadorCnpj()));
+    }
+
+    @Benchmark
+    public Object resolver() {
+        ResolucaoValidador resolucao = factory.resolver(documento);
+        return resolucao instanceof ResolucaoValidador.Rejeitado rejeitado ? rejeitado.motivo() : resolucao;
+    }
+
+    @Benchmark
+    public Object resolverComTipoDeclarado() {
+        ResolucaoValidador resolucao = factory.resolver(documento, "CPF");
+        return resolucao instanceof ResolucaoValidador.Rejeitado rejeitado ? rejeitado.motivo() : resolucao;
+    }
+
+    @Benchmark
+    public Object getValidator() {
+        try {
+            return factory.getValidator(documento);
+        } catch (DocumentoInvalidoException die) {
+            return die.getMotivo();
+        }
+    }
+
+    @Benchmark
+    public Object getValidatorComStackTrace() {
+        try {
+            Validador validador = factory.resolver(documento) instanceof ResolucaoValidador.Encontrado encontrado
+                    ? encontrado.validador()
+                    : null;
+            if (validador == null) {
+                throw new Legado.DocumentoInvalidoException(documento, "Tamanho inválido para documento: " + documento.length());
+            }
+            return validador;
+        } catch (Legado.DocumentoInvalidoException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.projeto.validador.benchmark;
+
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo de {@link ValidadorService#validar(String)}: escolha do validador pela
+ * factory, regra, métricas e resposta em texto, que vem pronta do desfecho. O custo de escrever a
+ * resposta HTTP fica em {@link ValidadorControllerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidadorServiceBenchmark {
+
+    @Param({
+        "52998224725",     // CPF válido
+        "52998224724",     // CPF inválido
+        "11222333000181",  // CNPJ numérico válido
+        "12ABC34501DE35",  // CNPJ alfanumérico válido
+        "12ABC34501DE36"   // CNPJ alfanumérico inválido
+    })
+    public String documento;
+
+    private ValidadorService validadorService;
+
+    @Setup
+    public void setup() {
+        ValidadorCpf validadorCpf = new ValidadorCpf();
+        ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+        validadorService = new ValidadorService(
+                new ValidadorFactory(List.of(validadorCpf, validadorCnpj)),
+                new MetricasValidacao(new SimpleMeterRegistry(), List.of(validadorCpf, validadorCnpj)),
+                CadastroDocumentos.desabilitado(),
+                AuditoriaValidacao.desabilitada());
+    }
+
+    @Benchmark
+    public String validar() {
+        return validadorService.validar(documento);
+    }
+}
@@ -0,0 +1,48 @@
+package com.projeto.validador.admissao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem trava, no formato GCRA (generic cell rate algorithm): em vez de guardar tokens e
+ * instante da última recarga, guarda um único {@code long}, o instante teórico em que o balde estaria
+ * cheio de novo. Admitir é um CAS nesse campo, sem relógio de recarga nem trava por cliente.
+ *
+ * Com taxa {@code r} por segundo e rajada {@code b}, aceita no máximo {@code b} requisições de uma vez
+ * e depois uma a cada {@code 1/r} segundo, como um balde de capacidade {@code b} recarregado a {@code r}.
+ */
+public final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong cheioEm;
+
+    public BaldeTokens(double requisicoesPorSegundo, int rajada, long agoraNanos) {
+        if (requisicoesPorSegundo <= 0 || rajada < 1) {
+            throw new IllegalArgumentException("Taxa e rajada devem ser positivas: " + requisicoesPorSegundo + ", " + rajada);
+        }
+        this.intervaloNanos = Math.max(1, (long) (1_000_000_000L / requisicoesPorSegundo));
+        this.toleranciaNanos = intervaloNanos * (rajada - 1);
+        this.cheioEm = new AtomicLong(agoraNanos);
+    }
+
+    /**
+     * Consome um token no instante {@code agoraNanos} ({@link System#nanoTime()}). Devolve false, sem
+     * alterar o balde, quando ele está vazio.
+     */
+    public boolean tentarConsumir(long agoraNanos) {
+        while (true) {
+            long atual = cheioEm.get();
+            // balde cheio há tempo: os tokens acumulados não passam da rajada
+            long base = atual - agoraNanos < 0 ? agoraNanos : atual;
+            if (base - agoraNanos > toleranciaNanos) return false;
+            if (cheioEm.compareAndSet(atual, base + intervaloNanos)) return true;
+        }
+    }
+
+    /**
+     * Tempo até o próximo token, para o header {@code Retry-After}.
+     */
+    public long esperaNanos(long agoraNanos) {
+        return Math.max(0, cheioEm.get() - agoraNanos - toleranciaNanos);
+    }
+}
@@ -0,0 +1,161 @@
+package com.projeto.validador.admissao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decide se uma requisição entra, antes de ela ocupar uma thread do Tomcat com validação.
+ *
+ * Por endpoint há um balde de tokens por cliente ({@link BaldeTokens}, um CAS por requisição) em um cache
+ * Caffeine, que é particionado internamente: clientes diferentes não disputam a mesma posição de memória,
+ * e o único ponto compartilhado do endpoint é o contador de requisições em andamento.
+ *
+ * Métricas:
+ * - {@code validador.admissao}, tags {@code endpoint} e {@code resultado} (admitido/taxa/concorrencia);
+ * - {@code validador.admissao.em.andamento}, tag {@code endpoint}.
+ */
+public class ControleAdmissao {
+
+    public enum Decisao {
+        ADMITIDO,
+        /** O cliente passou da taxa configurada para o endpoint. */
+        TAXA_EXCEDIDA,
+        /** O endpoint já tem o máximo de requisições em andamento. */
+        CONCORRENCIA_EXCEDIDA
+    }
+
+    // do caminho mais longo para o mais curto, para que o prefixo mais específico vença
+    private final Endpoint[] endpoints;
+
+    /**
+     * Sem {@code habilitado}, nenhum endpoint é controlado, e nem os baldes nem as métricas são criados.
+     */
+    public ControleAdmissao(PropriedadesAdmissao propriedades, MeterRegistry registry) {
+        this.endpoints = !propriedades.habilitado() ? new Endpoint[0] : propriedades.endpoints().entrySet().stream()
+                .map(e -> new Endpoint(e.getKey(), e.getValue(), propriedades, registry))
+                .sorted(Comparator.comparingInt((Endpoint e) -> e.caminho.length()).reversed())
+                .toArray(Endpoint[]::new);
+    }
+
+    /**
+     * Endpoint controlado que atende {@code caminho}, ou null quando o caminho não tem limites. O prefixo
+     * casa por segmento: {@code /v1/validar} atende {@code /v1/validar} e {@code /v1/validar/cpf}, não {@code /v1/validarX}.
+     */
+    public Endpoint endpoint(String caminho) {
+        for (Endpoint endpoint : endpoints) {
+            if (atende(endpoint.caminho, caminho)) return endpoint;
+        }
+        return null;
+    }
+
+    private static boolean atende(String prefixo, String caminho) {
+        if (!caminho.startsWith(prefixo)) return false;
+        return caminho.length() == prefixo.length()
+                || prefixo.endsWith("/")
+                || caminho.charAt(prefixo.length()) == '/';
+    }
+
+    public static final class Endpoint {
+
+        private final String nome;
+        private final String caminho;
+        private final int concorrenciaMaxima;
+        private final double requisicoesPorSegundo;
+        private final int rajada;
+
+        private final Cache<String, BaldeTokens> baldes;
+        private final AtomicInteger emAndamento = new AtomicInteger();
+
+        private final Counter admitidos;
+        private final Counter excedeuTaxa;
+        private final Counter excedeuConcorrencia;
+
+        Endpoint(String nome, PropriedadesAdmissao.Endpoint config, PropriedadesAdmissao propriedades, MeterRegistry registry) {
+            if (config.caminho() == null || !config.caminho().startsWith("/")) {
+                throw new IllegalArgumentException("Caminho inválido para o endpoint " + nome + ": " + config.caminho());
+            }
+            this.nome = nome;
+            this.caminho = config.caminho();
+            this.concorrenciaMaxima = config.concorrenciaMaxima();
+            this.requisicoesPorSegundo = config.requisicoesPorSegundo();
+            this.rajada = config.rajada();
+
+            this.baldes = requisicoesPorSegundo <= 0 ? null : Caffeine.newBuilder()
+                    .maximumSize(propriedades.clientesMaximos())
+                    .expireAfterAccess(propriedades.expiracaoCliente())
+                    .build();
+
+            this.admitidos = contador(registry, "admitido");
+            this.excedeuTaxa = contador(registry, "taxa");
+            this.excedeuConcorrencia = contador(registry, "concorrencia");
+            Gauge.builder("validador.admissao.em.andamento", emAndamento, AtomicInteger::get)
+                    .description("Requisições admitidas ainda em andamento")
+                    .tag("endpoint", nome)
+                    .register(registry);
+        }
+
+        /**
+         * Admite ou rejeita a requisição de {@code cliente}. Toda requisição admitida precisa de um
+         * {@link #liberar()} quando terminar.
+         */
+        public Decisao admitir(String cliente) {
+            if (baldes != null) {
+                long agora = System.nanoTime();
+                if (!balde(cliente, agora).tentarConsumir(agora)) {
+                    excedeuTaxa.increment();
+                    return Decisao.TAXA_EXCEDIDA;
+                }
+            }
+
+            if (emAndamento.incrementAndGet() > concorrenciaMaxima && concorrenciaMaxima > 0) {
+                emAndamento.decrementAndGet();
+                excedeuConcorrencia.increment();
+                return Decisao.CONCORRENCIA_EXCEDIDA;
+            }
+
+            admitidos.increment();
+            return Decisao.ADMITIDO;
+        }
+
+        public void liberar() {
+            emAndamento.decrementAndGet();
+        }
+
+        /**
+         * Segundos até o cliente ter um token de novo, para o header {@code Retry-After} (no mínimo 1).
+         */
+        public long esperaSegundos(String cliente) {
+            BaldeTokens balde = baldes == null ? null : baldes.getIfPresent(cliente);
+            long espera = balde == null ? 0 : balde.esperaNanos(System.nanoTime());
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(espera + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        int emAndamento() {
+            return emAndamento.get();
+        }
+
+        // sem lambda capturando o instante no caminho comum: o balde já existe
+        private BaldeTokens balde(String cliente, long agora) {
+            BaldeTokens balde = baldes.getIfPresent(cliente);
+            return balde != null ? balde : baldes.get(cliente, c -> new BaldeTokens(requisicoesPorSegundo, rajada, agora));
+        }
+
+        private Counter contador(MeterRegistry registry, String resultado) {
+            return Counter.builder("validador.admissao")
+                    .description("Requisições admitidas e rejeitadas pelo controle de admissão")
+                    .tags("endpoint", nome, "resultado", resultado)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.projeto.validador.admissao;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Aplica o {@link ControleAdmissao} antes do dispatcher do Spring. A rejeição é uma resposta 429 curta,
+ * escrita direto no filtro, sem passar pela página de erro: sob sobrecarga, rejeitar precisa custar pouco.
+ *
+ * O endpoint é escolhido pelo caminho que o Spring usa para rotear (decodificado e sem os parâmetros de
+ * {@code ;}), não pelo URI bruto: senão {@code /v1/validar/lote;x} ou {@code /v1/%76alidar/cpf} chegariam ao
+ * mesmo controller escapando do limite.
+ *
+ * Requisições assíncronas (lote em streaming) só liberam a vaga quando a resposta termina, não quando
+ * o filtro retorna.
+ */
+public class FiltroAdmissao extends OncePerRequestFilter {
+
+    private static final byte[] TAXA_EXCEDIDA = "Limite de requisições por cliente excedido\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CONCORRENCIA_EXCEDIDA = "Servidor sobrecarregado, tente novamente\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ControleAdmissao controleAdmissao;
+    private final boolean confiarXForwardedFor;
+
+    public FiltroAdmissao(ControleAdmissao controleAdmissao, boolean confiarXForwardedFor) {
+        this.controleAdmissao = controleAdmissao;
+        this.confiarXForwardedFor = confiarXForwardedFor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ControleAdmissao.Endpoint endpoint = controleAdmissao.endpoint(UrlPathHelper.defaultInstance.getLookupPathForRequest(request));
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String cliente = cliente(request);
+        ControleAdmissao.Decisao decisao = endpoint.admitir(cliente);
+        if (decisao != ControleAdmissao.Decisao.ADMITIDO) {
+            rejeitar(response, decisao, endpoint.esperaSegundos(cliente));
+            return;
+        }
+
+        boolean liberarAoRetornar = true;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberarAoConcluir(endpoint));
+                liberarAoRetornar = false;
+            }
+        } finally {
+            if (liberarAoRetornar) endpoint.liberar();
+        }
+    }
+
+    // primeiro endereço do X-Forwarded-For (o cliente original) ou, sem proxy confiável, o endereço remoto
+    String cliente(HttpServletRequest request) {
+        if (confiarXForwardedFor) {
+            String encaminhado = request.getHeader("X-Forwarded-For");
+            if (encaminhado != null && !encaminhado.isBlank()) {
+                int virgula = encaminhado.indexOf(',');
+                return (virgula < 0 ? encaminhado : encaminhado.substring(0, virgula)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void rejeitar(HttpServletResponse response, ControleAdmissao.Decisao decisao, long esperaSegundos)
+            throws IOException {
+        byte[] corpo = decisao == ControleAdmissao.Decisao.TAXA_EXCEDIDA ? TAXA_EXCEDIDA : CONCORRENCIA_EXCEDIDA;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(esperaSegundos));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+
+    // onComplete é chamado também depois de erro ou timeout, então a vaga é liberada uma única vez
+    private record LiberarAoConcluir(ControleAdmissao.Endpoint endpoint) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            endpoint.liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
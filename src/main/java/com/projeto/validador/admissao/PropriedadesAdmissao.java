@@ -0,0 +1,44 @@
+package com.projeto.validador.admissao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do controle de admissão ({@code validador.admissao}). Cada endpoint é um prefixo de caminho,
+ * casado por segmento inteiro ({@code /v1/validar} atende {@code /v1/validar/cpf}, mas não {@code /v1/validarX}), com
+ * limites próprios; limite 0 desliga aquela verificação. Caminhos fora de todos os prefixos passam direto.
+ *
+ * @param confiarXForwardedFor identifica o cliente pelo primeiro endereço do {@code X-Forwarded-For}, o que só
+ *                             é seguro atrás de um proxy que sobrescreve o header: sem ele, cada cliente escolhe a própria chave
+ *                             e escapa do limite. Desligado (padrão), vale o endereço remoto
+ * @param clientesMaximos      baldes mantidos por endpoint; os menos usados saem primeiro
+ * @param expiracaoCliente     tempo sem requisições até o balde do cliente ser descartado
+ */
+@ConfigurationProperties("validador.admissao")
+public record PropriedadesAdmissao(
+        @DefaultValue("false") boolean habilitado,
+        @DefaultValue("false") boolean confiarXForwardedFor,
+        @DefaultValue("100000") int clientesMaximos,
+        @DefaultValue("10m") Duration expiracaoCliente,
+        Map<String, Endpoint> endpoints) {
+
+    /**
+     * @param caminho             prefixo do caminho; vale o prefixo mais longo que casar
+     * @param concorrenciaMaxima  requisições em andamento no endpoint, somando todos os clientes
+     * @param requisicoesPorSegundo taxa sustentada por cliente
+     * @param rajada              requisições aceitas de uma vez por cliente antes de a taxa valer
+     */
+    public record Endpoint(
+            String caminho,
+            @DefaultValue("0") int concorrenciaMaxima,
+            @DefaultValue("0") double requisicoesPorSegundo,
+            @DefaultValue("1") int rajada) {
+    }
+
+    public PropriedadesAdmissao {
+        endpoints = endpoints == null ? Map.of() : endpoints;
+    }
+}
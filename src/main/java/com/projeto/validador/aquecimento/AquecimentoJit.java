@@ -0,0 +1,237 @@
+package com.projeto.validador.aquecimento;
+
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.binario.CodecLoteBinario;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.controller.ValidadorController;
+import com.projeto.validador.controller.ValidadorReativoController;
+import com.projeto.validador.domain.GeradorDocumentos;
+import com.projeto.validador.domain.RegrasCnpj;
+import com.projeto.validador.domain.RegrasCpf;
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.interfaces.Validador;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import com.projeto.validador.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Aquecimento do JIT antes de a instância receber tráfego. Recém-criada (scale-to-zero), a JVM roda o caminho
+ * de validação no interpretador e no C1 por milhares de requisições, com latência de cauda várias vezes a do
+ * regime; aqui esse caminho é exercitado até o C2 compilá-lo, e só então a instância fica pronta.
+ *
+ * Depois do {@link ApplicationReadyEvent}, uma thread própria percorre um corpus gerado com semente fixa
+ * (CPFs e CNPJs válidos e com DVs errados, com e sem máscara, CNPJs alfanuméricos e tamanhos errados):
+ *
+ * - chamando o controller de {@code /v1/validar} (servlet ou reativo) até {@code validador.aquecimento.iteracoes}
+ *   validações, e serializando cada resultado em texto e JSON. Controller e serviço são instâncias próprias, com
+ *   métricas num registry descartável e sem auditoria: o código compilado é o mesmo, e as validações do
+ *   aquecimento não aparecem nas métricas nem na trilha de auditoria;
+ * - depois, com {@code validador.aquecimento.requisicoes-http}, enviando requisições HTTP à própria porta, para
+ *   aquecer também o servidor, o dispatcher e os conversores. Essas passam pelos beans da aplicação, mas levam a
+ *   {@link MarcaAquecimento} e ficam fora das métricas ({@code validador.*} e {@code http.server.requests}) e da
+ *   auditoria.
+ *
+ * Vem desligado ({@code validador.aquecimento.habilitado}): só vale a pena onde a instância nasce para receber
+ * tráfego, e é ligado no profile {@code producao} e na imagem do container. Nos testes, cada contexto subiria
+ * o aquecimento inteiro.
+ *
+ * O aquecimento para ao chegar em {@code validador.aquecimento.tempo-maximo}, mesmo no meio. Enquanto ele roda,
+ * este indicador (bem {@code aquecimento}, no grupo {@code readiness}) responde OUT_OF_SERVICE, e a probe de
+ * readiness fica fora até ele terminar. A liveness não depende dele.
+ */
+@Slf4j
+@Component("aquecimento")
+public class AquecimentoJit implements HealthIndicator {
+
+    private static final long SEMENTE = 20240601L;
+    private static final int TAMANHO_CORPUS = 4096;
+
+    private final boolean habilitado;
+    private final int iteracoes;
+    private final Duration tempoMaximo;
+    private final int requisicoesHttp;
+    private final BiFunction<String, String, ResponseEntity<ResultadoValidacao>> controller;
+    private final List<Entrada> corpus;
+
+    private volatile Estado estado;
+    private volatile long validacoes;
+    private volatile long requisicoes;
+    private volatile Duration duracao;
+    // consumido no fim para o JIT não descartar as validações do laço
+    private long consumidos;
+
+    record Entrada(String tipo, String documento) {
+    }
+
+    enum Estado {
+        AGUARDANDO, AQUECENDO, CONCLUIDO, DESABILITADO
+    }
+
+    public AquecimentoJit(@Value("${validador.aquecimento.habilitado:false}") boolean habilitado,
+                          @Value("${validador.aquecimento.iteracoes:200000}") int iteracoes,
+                          @Value("${validador.aquecimento.tempo-maximo:30s}") Duration tempoMaximo,
+                          @Value("${validador.aquecimento.requisicoes-http:1000}") int requisicoesHttp,
+                          ValidadorFactory validadorFactory,
+                          List<Validador> validadores,
+                          CadastroDocumentos cadastroDocumentos,
+                          ValidadorLoteService validadorLoteService,
+                          CodecLoteBinario codecLoteBinario,
+                          ObjectProvider<ValidadorController> controllerServlet) {
+        this.habilitado = habilitado;
+        this.iteracoes = iteracoes;
+        this.tempoMaximo = tempoMaximo;
+        this.requisicoesHttp = requisicoesHttp;
+        this.estado = habilitado ? Estado.AGUARDANDO : Estado.DESABILITADO;
+
+        ValidadorService servico = new ValidadorService(validadorFactory,
+                new MetricasValidacao(new SimpleMeterRegistry(), validadores), cadastroDocumentos,
+                AuditoriaValidacao.desabilitada());
+        if (controllerServlet.getIfAvailable() != null) {
+            ValidadorController controllerAquecimento = new ValidadorController(servico, validadorLoteService, codecLoteBinario);
+            this.controller = (tipo, documento) -> controllerAquecimento.documento(tipo, documento, null);
+        } else {
+            ValidadorReativoController controllerAquecimento = new ValidadorReativoController(servico, validadorLoteService);
+            this.controller = (tipo, documento) -> controllerAquecimento.documento(tipo, documento, null);
+        }
+        this.corpus = corpus();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar(ApplicationReadyEvent evento) {
+        if (!habilitado) return;
+
+        int porta = evento.getApplicationContext() instanceof WebServerApplicationContext web
+                ? web.getWebServer().getPort() : -1;
+        estado = Estado.AQUECENDO;
+        Thread.ofPlatform().name("aquecimento-jit").daemon().start(() -> aquecer(porta));
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder saude = switch (estado) {
+            case CONCLUIDO, DESABILITADO -> Health.up();
+            case AGUARDANDO, AQUECENDO -> Health.outOfService();
+        };
+        saude.withDetail("estado", estado.name())
+                .withDetail("validacoes", validacoes)
+                .withDetail("requisicoesHttp", requisicoes);
+        if (duracao != null) {
+            saude.withDetail("duracao", duracao.toString());
+        }
+        return saude.build();
+    }
+
+    void aquecer(int porta) {
+        long inicio = System.nanoTime();
+        long limite = inicio + tempoMaximo.toNanos();
+        try {
+            validar(limite);
+            if (requisicoesHttp > 0 && porta > 0) {
+                requisitar(porta, limite);
+            }
+        } catch (Exception e) {
+            // o aquecimento só melhora a latência inicial; falhar nele não pode deixar a instância fora
+            log.warn("Aquecimento interrompido por erro", e);
+        } finally {
+            duracao = Duration.ofNanos(System.nanoTime() - inicio);
+            estado = Estado.CONCLUIDO;
+            log.info("Aquecimento concluído em {} ms: {} validações, {} requisições HTTP",
+                    duracao.toMillis(), validacoes, requisicoes);
+        }
+    }
+
+    private void validar(long limite) {
+        long soma = 0;
+        int i = 0;
+        for (; i < iteracoes; i++) {
+            // relógio a cada 256 validações: o laço deve medir a validação, não o nanoTime
+            if ((i & 0xFF) == 0) {
+                validacoes = i;
+                if (System.nanoTime() - limite >= 0) break;
+            }
+            Entrada entrada = corpus.get(i % corpus.size());
+            try {
+                ResultadoValidacao resultado = controller.apply(entrada.tipo(), entrada.documento()).getBody();
+                soma += resultado.textoUtf8().length + resultado.jsonUtf8().length;
+            } catch (DocumentoInvalidoException e) {
+                soma += e.getMessage().length();
+            }
+        }
+        validacoes = i;
+        consumidos = soma;
+    }
+
+    private void requisitar(int porta, long limite) throws Exception {
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        for (int i = 0; i < requisicoesHttp && System.nanoTime() - limite < 0; i++) {
+            Entrada entrada = corpus.get(i % corpus.size());
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/v1/validar/"
+                            + entrada.tipo().toLowerCase(Locale.ROOT)
+                            + "?documento=" + URLEncoder.encode(entrada.documento(), StandardCharsets.UTF_8)))
+                    .header(MarcaAquecimento.CABECALHO, MarcaAquecimento.valor())
+                    .timeout(Duration.ofSeconds(5));
+            if (i % 2 == 1) {
+                request.header("Accept", "application/json");
+            }
+            cliente.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            requisicoes = i + 1;
+        }
+    }
+
+    /**
+     * Metade CPFs e metade CNPJs (metade destes alfanuméricos); 70% válidos, 30% com DVs errados; um terço com
+     * máscara; um a cada 16 com um caractere a menos, rejeitado antes da regra.
+     */
+    static List<Entrada> corpus() {
+        GeradorDocumentos gerador = new GeradorDocumentos(SEMENTE);
+        SplittableRandom sorteio = new SplittableRandom(SEMENTE);
+        byte[] buffer = new byte[14];
+        Entrada[] entradas = new Entrada[TAMANHO_CORPUS];
+        for (int i = 0; i < entradas.length; i++) {
+            boolean valido = sorteio.nextInt(10) < 7;
+            boolean cpf = i % 2 == 0;
+            int fim = cpf ? gerador.cpf(buffer, 0, valido) : gerador.cnpj(buffer, 0, valido, sorteio.nextBoolean());
+            String documento = new String(buffer, 0, fim, StandardCharsets.US_ASCII);
+            if (sorteio.nextInt(16) == 0) {
+                documento = documento.substring(1);
+            } else if (sorteio.nextInt(3) == 0) {
+                documento = cpf ? RegrasCpf.formatar(documento) : RegrasCnpj.formatar(documento);
+            }
+            entradas[i] = new Entrada(cpf ? "CPF" : "CNPJ", documento);
+        }
+        return List.of(entradas);
+    }
+
+    Estado getEstado() {
+        return estado;
+    }
+
+    long getValidacoes() {
+        return validacoes;
+    }
+}
@@ -0,0 +1,42 @@
+package com.projeto.validador.aquecimento;
+
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Marca das requisições HTTP que o {@link AquecimentoJit} faz à própria porta: o cabeçalho {@link #CABECALHO}
+ * com um valor sorteado a cada inicialização, que não sai do processo. Requisições marcadas não entram nas
+ * métricas de validação, em {@code http.server.requests} nem na auditoria; um cliente de fora não tem como
+ * acertar o valor e escapar da trilha.
+ */
+public final class MarcaAquecimento {
+
+    public static final String CABECALHO = "X-Validador-Aquecimento";
+
+    private static final String VALOR;
+
+    static {
+        byte[] sorteio = new byte[16];
+        new SecureRandom().nextBytes(sorteio);
+        VALOR = HexFormat.of().formatHex(sorteio);
+    }
+
+    private MarcaAquecimento() {
+    }
+
+    /**
+     * Se {@code valor}, do cabeçalho {@link #CABECALHO}, é a marca desta instância.
+     */
+    public static boolean confere(@Nullable String valor) {
+        return valor != null && MessageDigest.isEqual(VALOR.getBytes(StandardCharsets.US_ASCII),
+                valor.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static String valor() {
+        return VALOR;
+    }
+}
@@ -0,0 +1,97 @@
+package com.projeto.validador.arquivo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Divisão de uma região em trechos definidos pelo conteúdo e impressão (hash de 64 bits, não criptográfico)
+ * de cada trecho, para a validação incremental de {@link ValidadorArquivo}.
+ *
+ * O fim de um trecho depende só dos bytes em volta dele: um hash "gear" rolante percorre o trecho e, quando os
+ * bits altos zeram, o trecho termina na quebra de linha seguinte. Inserir, alterar ou apagar linhas muda só os
+ * trechos em volta da alteração; os demais voltam com os mesmos bytes e a mesma impressão na próxima execução,
+ * o que uma divisão por tamanho fixo não daria, já que tudo depois da alteração mudaria de lugar.
+ *
+ * Os trechos têm pelo menos 1/4 e, salvo linhas muito longas, no máximo 4 vezes o tamanho médio. A tabela do
+ * hash e a impressão são fixas: mudá-las invalida os manifestos gravados ({@link ManifestoArquivo#VERSAO}).
+ */
+final class DivisorConteudo {
+
+    static final int TAMANHO_MEDIO = 64 * 1024;
+    static final int TAMANHO_MEDIO_MINIMO = 64;
+    static final int TAMANHO_MEDIO_MAXIMO = 64 << 20;
+
+    private static final long PRIMO_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIMO_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIMO_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIMO_5 = 0x27D4EB2F165667C5L;
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long semente = 0x56414C4944414441L;
+        for (int i = 0; i < GEAR.length; i++) {
+            semente += 0x9E3779B97F4A7C15L;
+            GEAR[i] = misturar(semente);
+        }
+    }
+
+    private final int minimo;
+    private final int maximo;
+    private final long mascara;
+
+    DivisorConteudo(int tamanhoMedio) {
+        if (tamanhoMedio < TAMANHO_MEDIO_MINIMO || tamanhoMedio > TAMANHO_MEDIO_MAXIMO) {
+            throw new IllegalArgumentException("Tamanho médio de trecho inválido: " + tamanhoMedio);
+        }
+        this.minimo = tamanhoMedio / 4;
+        this.maximo = tamanhoMedio * 4;
+        // depois do mínimo, um corte a cada ~3/4 do tamanho médio
+        int bits = 31 - Integer.numberOfLeadingZeros(tamanhoMedio - minimo);
+        this.mascara = -1L << (64 - bits);
+    }
+
+    /**
+     * Fim (exclusivo) do trecho que começa em {@code inicio}, logo depois de uma quebra de linha ou em {@code fim}.
+     */
+    int corte(ByteBuffer buffer, int inicio, int fim) {
+        int posicao = inicio + minimo;
+        if (posicao >= fim || posicao < 0) return fim;
+        int limite = (int) Math.min(fim, (long) inicio + maximo);
+
+        // bits altos do gear: cada byte sai do hash depois de 64 deslocamentos
+        int corte = limite;
+        long hash = 0;
+        for (; posicao < limite; posicao++) {
+            hash = (hash << 1) + GEAR[buffer.get(posicao) & 0xFF];
+            if ((hash & mascara) == 0) {
+                corte = posicao + 1;
+                break;
+            }
+        }
+        while (corte < fim && buffer.get(corte - 1) != '\n') corte++;
+        return corte;
+    }
+
+    /**
+     * Impressão de {@code [inicio, fim)}: uma via do XXH64, 8 bytes por vez, com o tamanho na semente.
+     */
+    static long impressao(ByteBuffer buffer, int inicio, int fim) {
+        long hash = PRIMO_5 + (fim - inicio);
+        int i = inicio;
+        for (; i + Long.BYTES <= fim; i += Long.BYTES) {
+            hash ^= Long.rotateLeft(buffer.getLong(i) * PRIMO_2, 31) * PRIMO_1;
+            hash = Long.rotateLeft(hash, 27) * PRIMO_1 + PRIMO_4;
+        }
+        for (; i < fim; i++) {
+            hash ^= (buffer.get(i) & 0xFFL) * PRIMO_5;
+            hash = Long.rotateLeft(hash, 11) * PRIMO_1;
+        }
+        return misturar(hash);
+    }
+
+    private static long misturar(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,116 @@
+package com.projeto.validador.arquivo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manifesto da validação incremental: a configuração da execução e, para cada trecho, a impressão, o tamanho
+ * e o resultado da validação, com as linhas inválidas guardadas como {@code [linha, offset, tamanho, código]}
+ * relativos ao início do trecho. O conteúdo das linhas não é guardado: é lido do arquivo atual, que tem os
+ * mesmos bytes no trecho reaproveitado.
+ *
+ * É um arquivo binário pequeno (dezenas de bytes por trecho, mais 16 por linha inválida), regravado inteiro a
+ * cada execução num arquivo temporário e movido por cima do anterior, para que uma execução interrompida não
+ * deixe um manifesto pela metade. Manifesto ausente, truncado, de outra versão ou de outra configuração é
+ * ignorado, e a validação é completa.
+ */
+final class ManifestoArquivo {
+
+    static final int MAGICO = 0x56414D46;
+    static final int VERSAO = 1;
+
+    record Configuracao(int coluna, byte separador, boolean cabecalho, int tamanhoMedioTrecho) {
+    }
+
+    record Entrada(long impressao,
+                   int tamanho,
+                   int linhas,
+                   int cpfValidos,
+                   int cpfInvalidos,
+                   int cnpjValidos,
+                   int cnpjInvalidos,
+                   int rejeitados,
+                   int[] invalidos) {
+    }
+
+    private ManifestoArquivo() {
+    }
+
+    /**
+     * Entradas do manifesto por impressão, ou vazio quando ele não serve para {@code configuracao}.
+     */
+    static Map<Long, Entrada> ler(Path manifesto, Configuracao configuracao) throws IOException {
+        if (!Files.isRegularFile(manifesto)) return Map.of();
+
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(manifesto), 1 << 16))) {
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSAO) return Map.of();
+            Configuracao gravada = new Configuracao(entrada.readInt(), entrada.readByte(), entrada.readBoolean(), entrada.readInt());
+            if (!gravada.equals(configuracao)) return Map.of();
+
+            int quantidade = entrada.readInt();
+            if (quantidade < 0) return Map.of();
+            Map<Long, Entrada> entradas = new HashMap<>(2 * Math.min(quantidade, 1 << 20));
+            for (int i = 0; i < quantidade; i++) {
+                long impressao = entrada.readLong();
+                int tamanho = entrada.readInt();
+                int linhas = entrada.readInt();
+                int cpfValidos = entrada.readInt();
+                int cpfInvalidos = entrada.readInt();
+                int cnpjValidos = entrada.readInt();
+                int cnpjInvalidos = entrada.readInt();
+                int rejeitados = entrada.readInt();
+                int quantidadeInvalidos = entrada.readInt();
+                if (quantidadeInvalidos < 0 || quantidadeInvalidos > linhas) return Map.of();
+
+                int[] invalidos = new int[4 * quantidadeInvalidos];
+                for (int j = 0; j < invalidos.length; j++) {
+                    invalidos[j] = entrada.readInt();
+                }
+                entradas.put(impressao, new Entrada(impressao, tamanho, linhas, cpfValidos, cpfInvalidos,
+                        cnpjValidos, cnpjInvalidos, rejeitados, invalidos));
+            }
+            return entradas;
+        } catch (EOFException e) {
+            return Map.of();
+        }
+    }
+
+    static void gravar(Path manifesto, Configuracao configuracao, List<Entrada> entradas) throws IOException {
+        Path temporario = manifesto.resolveSibling(manifesto.getFileName() + ".tmp");
+        try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario), 1 << 16))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeInt(configuracao.coluna());
+            saida.writeByte(configuracao.separador());
+            saida.writeBoolean(configuracao.cabecalho());
+            saida.writeInt(configuracao.tamanhoMedioTrecho());
+
+            saida.writeInt(entradas.size());
+            for (Entrada entrada : entradas) {
+                saida.writeLong(entrada.impressao());
+                saida.writeInt(entrada.tamanho());
+                saida.writeInt(entrada.linhas());
+                saida.writeInt(entrada.cpfValidos());
+                saida.writeInt(entrada.cpfInvalidos());
+                saida.writeInt(entrada.cnpjValidos());
+                saida.writeInt(entrada.cnpjInvalidos());
+                saida.writeInt(entrada.rejeitados());
+                saida.writeInt(entrada.invalidos().length / 4);
+                for (int valor : entrada.invalidos()) {
+                    saida.writeInt(valor);
+                }
+            }
+        }
+        Files.move(temporario, manifesto, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
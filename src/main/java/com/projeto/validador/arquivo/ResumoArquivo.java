@@ -0,0 +1,56 @@
+package com.projeto.validador.arquivo;
+
+import java.nio.file.Path;
+
+/**
+ * Totais de uma validação de arquivo feita por {@link ValidadorArquivo}.
+ *
+ * {@code linhas} conta todas as linhas do arquivo, inclusive cabeçalho e linhas vazias;
+ * os demais totais contam apenas as linhas com documento. {@code trechos}, {@code trechosReaproveitados}
+ * e {@code bytesReaproveitados} só são preenchidos na validação incremental, e ficam zerados na completa.
+ */
+public record ResumoArquivo(Path arquivo,
+                            long bytes,
+                            long linhas,
+                            long cpfValidos,
+                            long cpfInvalidos,
+                            long cnpjValidos,
+                            long cnpjInvalidos,
+                            long rejeitados,
+                            long duracaoNanos,
+                            long trechos,
+                            long trechosReaproveitados,
+                            long bytesReaproveitados) {
+
+    public long documentos() {
+        return cpfValidos + cpfInvalidos + cnpjValidos + cnpjInvalidos + rejeitados;
+    }
+
+    public long invalidos() {
+        return cpfInvalidos + cnpjInvalidos + rejeitados;
+    }
+
+    public String relatorio() {
+        double segundos = Math.max(duracaoNanos, 1) / 1e9;
+        String relatorio = """
+                Arquivo: %s
+                Tamanho: %d bytes
+                Linhas: %d
+                Documentos: %d
+                CPF válidos: %d
+                CPF inválidos: %d
+                CNPJ válidos: %d
+                CNPJ inválidos: %d
+                Rejeitados: %d
+                Tempo: %.3f s
+                Vazão: %.1f MB/s, %.0f documentos/s
+                """.formatted(arquivo, bytes, linhas, documentos(), cpfValidos, cpfInvalidos,
+                cnpjValidos, cnpjInvalidos, rejeitados, segundos,
+                bytes / segundos / (1024 * 1024), documentos() / segundos);
+        if (trechos == 0) return relatorio;
+        return relatorio + """
+                Trechos: %d
+                Trechos reaproveitados: %d (%.1f%% dos bytes)
+                """.formatted(trechos, trechosReaproveitados, 100.0 * bytesReaproveitados / Math.max(bytes, 1));
+    }
+}
@@ -0,0 +1,523 @@
+package com.projeto.validador.arquivo;
+
+import com.projeto.validador.domain.DigitosCnpj;
+import com.projeto.validador.domain.DigitosCpf;
+import com.projeto.validador.factory.MotivoRejeicao;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validação de arquivos grandes (CSV/texto, um registro por linha) com as mesmas regras de
+ * {@link DigitosCpf} e {@link DigitosCnpj}.
+ *
+ * O arquivo é mapeado em memória em regiões de até {@link #TAMANHO_REGIAO} bytes, terminadas em
+ * quebra de linha. Cada região é dividida em trechos, também alinhados a quebras de linha, validados
+ * em paralelo por um {@link ForkJoinPool}. Os campos são lidos direto do mapeamento, sem decodificar
+ * as linhas para {@code String}.
+ *
+ * A escolha do tipo segue a da factory: o campo é normalizado para letras e dígitos (máscara, espaços
+ * e aspas são ignorados) e 11 caracteres é CPF, 14 é CNPJ, qualquer outro tamanho é rejeitado.
+ *
+ * As linhas inválidas são escritas na ordem do arquivo, no formato {@code linha;tipo;invalido;conteúdo}
+ * ou {@code linha;;motivo;conteúdo}. A numeração de linhas é calculada no fim, somando as linhas
+ * de cada trecho, para que os trechos não dependam uns dos outros.
+ *
+ * No modo incremental ({@link #validar(Path, Path, Path, int)}), as regiões são divididas em trechos
+ * definidos pelo conteúdo ({@link DivisorConteudo}) e só os trechos cuja impressão não está no manifesto
+ * da execução anterior ({@link ManifestoArquivo}) são validados; os demais reaproveitam o resultado gravado.
+ */
+public final class ValidadorArquivo {
+
+    static final long TAMANHO_REGIAO = 1L << 30;
+    static final long TAMANHO_TRECHO = 8L << 20;
+    private static final int FOLHAS_POR_TAREFA_INCREMENTAL = 8;
+
+    private static final int TIPO_REJEITADO = 0;
+    private static final int TIPO_CPF = 1;
+    private static final int TIPO_CNPJ = 2;
+
+    // misturado à impressão do primeiro trecho quando há cabeçalho: o mesmo conteúdo em outra posição tem outro resultado
+    private static final long PRIMEIRO_COM_CABECALHO = 0x43414245C3A7414CL;
+
+    private static final byte[] CPF_INVALIDO = ";CPF;invalido;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CNPJ_INVALIDO = ";CNPJ;invalido;".getBytes(StandardCharsets.US_ASCII);
+
+    private final int coluna;
+    private final byte separador;
+    private final boolean cabecalho;
+    private final ForkJoinPool pool;
+    private final long tamanhoRegiao;
+    private final long tamanhoTrecho;
+
+    /**
+     * @param coluna    índice (a partir de 0) da coluna com o documento
+     * @param separador separador de colunas; separadores entre aspas são ignorados
+     * @param cabecalho se a primeira linha do arquivo é cabeçalho e não deve ser validada
+     */
+    public ValidadorArquivo(int coluna, byte separador, boolean cabecalho, ForkJoinPool pool) {
+        this(coluna, separador, cabecalho, pool, TAMANHO_REGIAO, TAMANHO_TRECHO);
+    }
+
+    ValidadorArquivo(int coluna, byte separador, boolean cabecalho, ForkJoinPool pool,
+                     long tamanhoRegiao, long tamanhoTrecho) {
+        if (coluna < 0) {
+            throw new IllegalArgumentException("Coluna inválida: " + coluna);
+        }
+        if (tamanhoRegiao < 1 || tamanhoRegiao > Integer.MAX_VALUE || tamanhoTrecho < 1) {
+            throw new IllegalArgumentException("Tamanho de região ou trecho inválido");
+        }
+        this.coluna = coluna;
+        this.separador = separador;
+        this.cabecalho = cabecalho;
+        this.pool = pool;
+        this.tamanhoRegiao = tamanhoRegiao;
+        this.tamanhoTrecho = tamanhoTrecho;
+    }
+
+    /**
+     * Valida {@code arquivo}, escreve as linhas inválidas em {@code invalidos} e devolve os totais.
+     */
+    public ResumoArquivo validar(Path arquivo, Path invalidos) throws IOException {
+        long inicio = System.nanoTime();
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            List<Regiao> regioes = mapear(canal);
+            List<Folha> folhas = pool.invoke(new Arquivo(regioes));
+
+            escreverInvalidos(folhas, invalidos);
+            return resumir(arquivo, canal.size(), folhas, false, inicio);
+        }
+    }
+
+    /**
+     * Como {@link #validar(Path, Path)}, reaproveitando o resultado dos trechos que não mudaram desde a
+     * execução que gravou {@code manifesto}, que é regravado no fim com os trechos desta execução. Sem
+     * manifesto, ou com um de outra configuração, a validação é completa.
+     *
+     * O arquivo ainda é lido inteiro para dividir e calcular as impressões, bem mais barato que validar;
+     * a validação só roda nos trechos alterados.
+     *
+     * @param tamanhoMedioTrecho tamanho médio, em bytes, dos trechos definidos pelo conteúdo
+     */
+    public ResumoArquivo validar(Path arquivo, Path invalidos, Path manifesto, int tamanhoMedioTrecho) throws IOException {
+        long inicio = System.nanoTime();
+        DivisorConteudo divisor = new DivisorConteudo(tamanhoMedioTrecho);
+        ManifestoArquivo.Configuracao configuracao =
+                new ManifestoArquivo.Configuracao(coluna, separador, cabecalho, tamanhoMedioTrecho);
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            List<Regiao> regioes = mapear(canal);
+            Map<Long, ManifestoArquivo.Entrada> anteriores = ManifestoArquivo.ler(manifesto, configuracao);
+            List<Folha> folhas = pool.invoke(new Incremental(regioes, divisor, anteriores));
+
+            escreverInvalidos(folhas, invalidos);
+
+            List<ManifestoArquivo.Entrada> entradas = new ArrayList<>(folhas.size());
+            for (Folha folha : folhas) {
+                entradas.add(folha.entrada());
+            }
+            ManifestoArquivo.gravar(manifesto, configuracao, entradas);
+            return resumir(arquivo, canal.size(), folhas, true, inicio);
+        }
+    }
+
+    private static ResumoArquivo resumir(Path arquivo, long bytes, List<Folha> folhas, boolean incremental, long inicio) {
+        long linhas = 0;
+        long[] totais = new long[5];
+        long reaproveitados = 0;
+        long bytesReaproveitados = 0;
+        for (Folha folha : folhas) {
+            linhas += folha.linhas;
+            totais[0] += folha.cpfValidos;
+            totais[1] += folha.cpfInvalidos;
+            totais[2] += folha.cnpjValidos;
+            totais[3] += folha.cnpjInvalidos;
+            totais[4] += folha.rejeitados;
+            if (folha.reaproveitada) {
+                reaproveitados++;
+                bytesReaproveitados += folha.fim - folha.inicio;
+            }
+        }
+        return new ResumoArquivo(arquivo, bytes, linhas, totais[0], totais[1], totais[2], totais[3], totais[4],
+                System.nanoTime() - inicio, incremental ? folhas.size() : 0, reaproveitados, bytesReaproveitados);
+    }
+
+    /**
+     * Mapeia o arquivo em regiões terminadas em quebra de linha (exceto a última), para que
+     * nenhuma linha fique dividida entre dois mapeamentos.
+     */
+    private List<Regiao> mapear(FileChannel canal) throws IOException {
+        long tamanho = canal.size();
+        List<Regiao> regioes = new ArrayList<>();
+
+        long posicao = 0;
+        while (posicao < tamanho) {
+            long restante = tamanho - posicao;
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, posicao, Math.min(restante, tamanhoRegiao));
+            int fim = buffer.limit();
+            if (restante > tamanhoRegiao) {
+                while (fim > 0 && buffer.get(fim - 1) != '\n') fim--;
+                if (fim == 0) {
+                    throw new IOException("Linha maior que a região mapeada a partir do byte " + posicao);
+                }
+            }
+            regioes.add(new Regiao(posicao, buffer, fim));
+            posicao += fim;
+        }
+        return regioes;
+    }
+
+    private void escreverInvalidos(List<Folha> folhas, Path destino) throws IOException {
+        try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(destino), 1 << 16)) {
+            byte[] conteudo = new byte[256];
+            long primeiraLinha = 1;
+
+            for (Folha folha : folhas) {
+                int[] registros = folha.invalidos;
+                for (int i = 0; i < folha.quantidadeInvalidos; i++) {
+                    int linha = registros[4 * i];
+                    int offset = registros[4 * i + 1];
+                    int tamanho = registros[4 * i + 2];
+                    int codigo = registros[4 * i + 3];
+
+                    saida.write(Long.toString(primeiraLinha + linha).getBytes(StandardCharsets.US_ASCII));
+                    switch (codigo & 3) {
+                        case TIPO_CPF -> saida.write(CPF_INVALIDO);
+                        case TIPO_CNPJ -> saida.write(CNPJ_INVALIDO);
+                        default -> saida.write((";;" + MotivoRejeicao.TAMANHO_INVALIDO.descricao(codigo >>> 2) + ";")
+                                .getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    if (conteudo.length < tamanho) conteudo = new byte[tamanho];
+                    folha.regiao.buffer().get(offset, conteudo, 0, tamanho);
+                    saida.write(conteudo, 0, tamanho);
+                    saida.write('\n');
+                }
+                primeiraLinha += folha.linhas;
+            }
+        }
+    }
+
+    private Folha processar(Folha folha) {
+        MappedByteBuffer buffer = folha.regiao.buffer();
+        byte[] campo = new byte[DigitosCnpj.TAMANHO];
+        boolean pularCabecalho = cabecalho && folha.regiao.posicao() == 0 && folha.inicio == 0;
+
+        int linha = folha.inicio;
+        int fim = folha.fim;
+        while (linha < fim) {
+            int quebra = linha;
+            while (quebra < fim && buffer.get(quebra) != '\n') quebra++;
+            int fimLinha = quebra > linha && buffer.get(quebra - 1) == '\r' ? quebra - 1 : quebra;
+
+            if (pularCabecalho) {
+                pularCabecalho = false;
+            } else if (fimLinha > linha) {
+                validarLinha(buffer, linha, fimLinha, campo, folha);
+            }
+            folha.linhas++;
+            linha = quebra + 1;
+        }
+        return folha;
+    }
+
+    private void validarLinha(MappedByteBuffer buffer, int linha, int fimLinha, byte[] campo, Folha folha) {
+        // localiza a coluna do documento, ignorando separadores entre aspas
+        int atual = 0;
+        int inicioCampo = linha;
+        int fimCampo = fimLinha;
+        boolean aspas = false;
+        for (int i = linha; i < fimLinha; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                aspas = !aspas;
+            } else if (b == separador && !aspas) {
+                if (atual == coluna) {
+                    fimCampo = i;
+                    break;
+                }
+                atual++;
+                inicioCampo = i + 1;
+            }
+        }
+        if (atual < coluna) {
+            // linha com menos colunas: tratada como documento vazio
+            inicioCampo = fimCampo;
+        }
+
+        // normaliza o campo em uma passada, copiando só letras e dígitos (a máscara é ignorada)
+        int tamanho = 0;
+        for (int i = inicioCampo; i < fimCampo; i++) {
+            byte b = buffer.get(i);
+            if ((b >= '0' && b <= '9') || (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z')) {
+                if (tamanho < campo.length) campo[tamanho] = b;
+                tamanho++;
+            }
+        }
+
+        if (tamanho == DigitosCpf.TAMANHO) {
+            if (DigitosCpf.valido(campo, 0)) {
+                folha.cpfValidos++;
+            } else {
+                folha.cpfInvalidos++;
+                folha.invalido(linha, fimLinha, TIPO_CPF);
+            }
+        } else if (tamanho == DigitosCnpj.TAMANHO) {
+            if (DigitosCnpj.valido(campo, 0, tamanho)) {
+                folha.cnpjValidos++;
+            } else {
+                folha.cnpjInvalidos++;
+                folha.invalido(linha, fimLinha, TIPO_CNPJ);
+            }
+        } else {
+            folha.rejeitados++;
+            folha.invalido(linha, fimLinha, tamanho << 2 | TIPO_REJEITADO);
+        }
+    }
+
+    private record Regiao(long posicao, MappedByteBuffer buffer, int fim) {
+    }
+
+    private final class Arquivo extends RecursiveTask<List<Folha>> {
+
+        private final List<Regiao> regioes;
+
+        Arquivo(List<Regiao> regioes) {
+            this.regioes = regioes;
+        }
+
+        @Override
+        protected List<Folha> compute() {
+            List<Trecho> trechos = new ArrayList<>(regioes.size());
+            for (Regiao regiao : regioes) {
+                trechos.add(new Trecho(regiao, 0, regiao.fim()));
+            }
+            ForkJoinTask.invokeAll(trechos);
+
+            List<Folha> folhas = new ArrayList<>();
+            for (Trecho trecho : trechos) {
+                folhas.addAll(trecho.join());
+            }
+            return folhas;
+        }
+    }
+
+    /**
+     * Intervalo [inicio, fim) de uma região, começando no início de uma linha.
+     */
+    private final class Trecho extends RecursiveTask<List<Folha>> {
+
+        private final Regiao regiao;
+        private final int inicio;
+        private final int fim;
+
+        Trecho(Regiao regiao, int inicio, int fim) {
+            this.regiao = regiao;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected List<Folha> compute() {
+            if (fim - inicio > tamanhoTrecho) {
+                int meio = proximaLinha(inicio + (fim - inicio) / 2);
+                if (meio < fim) {
+                    Trecho esquerda = new Trecho(regiao, inicio, meio);
+                    esquerda.fork();
+                    List<Folha> direita = new Trecho(regiao, meio, fim).compute();
+
+                    List<Folha> folhas = new ArrayList<>(esquerda.join());
+                    folhas.addAll(direita);
+                    return folhas;
+                }
+            }
+            return List.of(processar(new Folha(regiao, inicio, fim)));
+        }
+
+        private int proximaLinha(int posicao) {
+            MappedByteBuffer buffer = regiao.buffer();
+            while (posicao < fim && buffer.get(posicao) != '\n') posicao++;
+            return Math.min(posicao + 1, fim);
+        }
+    }
+
+    /**
+     * Divide cada região em trechos definidos pelo conteúdo e valida os que não estão em {@code anteriores}.
+     * A divisão de uma região é sequencial, já que cada corte depende do anterior, mas as regiões são divididas
+     * em paralelo, e as impressões e validações são distribuídas entre as threads.
+     */
+    private final class Incremental extends RecursiveTask<List<Folha>> {
+
+        private final List<Regiao> regioes;
+        private final DivisorConteudo divisor;
+        private final Map<Long, ManifestoArquivo.Entrada> anteriores;
+
+        Incremental(List<Regiao> regioes, DivisorConteudo divisor, Map<Long, ManifestoArquivo.Entrada> anteriores) {
+            this.regioes = regioes;
+            this.divisor = divisor;
+            this.anteriores = anteriores;
+        }
+
+        @Override
+        protected List<Folha> compute() {
+            List<Divisao> divisoes = new ArrayList<>(regioes.size());
+            for (Regiao regiao : regioes) {
+                divisoes.add(new Divisao(regiao, divisor));
+            }
+            ForkJoinTask.invokeAll(divisoes);
+
+            List<Folha> folhas = new ArrayList<>();
+            for (Divisao divisao : divisoes) {
+                folhas.addAll(divisao.join());
+            }
+            new Revalidacao(folhas, 0, folhas.size(), anteriores).compute();
+            return folhas;
+        }
+    }
+
+    private static final class Divisao extends RecursiveTask<List<Folha>> {
+
+        private final Regiao regiao;
+        private final DivisorConteudo divisor;
+
+        Divisao(Regiao regiao, DivisorConteudo divisor) {
+            this.regiao = regiao;
+            this.divisor = divisor;
+        }
+
+        @Override
+        protected List<Folha> compute() {
+            List<Folha> folhas = new ArrayList<>();
+            for (int inicio = 0; inicio < regiao.fim(); ) {
+                int fim = divisor.corte(regiao.buffer(), inicio, regiao.fim());
+                folhas.add(new Folha(regiao, inicio, fim));
+                inicio = fim;
+            }
+            return folhas;
+        }
+    }
+
+    /**
+     * Folhas {@code [de, ate)} da divisão incremental: reaproveita as que têm impressão e tamanho no manifesto
+     * e valida as demais.
+     */
+    private final class Revalidacao extends RecursiveAction {
+
+        private final List<Folha> folhas;
+        private final int de;
+        private final int ate;
+        private final Map<Long, ManifestoArquivo.Entrada> anteriores;
+
+        Revalidacao(List<Folha> folhas, int de, int ate, Map<Long, ManifestoArquivo.Entrada> anteriores) {
+            this.folhas = folhas;
+            this.de = de;
+            this.ate = ate;
+            this.anteriores = anteriores;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > FOLHAS_POR_TAREFA_INCREMENTAL) {
+                int meio = (de + ate) >>> 1;
+                ForkJoinTask.invokeAll(new Revalidacao(folhas, de, meio, anteriores),
+                        new Revalidacao(folhas, meio, ate, anteriores));
+                return;
+            }
+            for (int i = de; i < ate; i++) {
+                Folha folha = folhas.get(i);
+                folha.impressao = DivisorConteudo.impressao(folha.regiao.buffer(), folha.inicio, folha.fim);
+                if (cabecalho && folha.regiao.posicao() == 0 && folha.inicio == 0) {
+                    folha.impressao ^= PRIMEIRO_COM_CABECALHO;
+                }
+
+                ManifestoArquivo.Entrada anterior = anteriores.get(folha.impressao);
+                if (anterior != null && anterior.tamanho() == folha.fim - folha.inicio) {
+                    folha.reaproveitar(anterior);
+                } else {
+                    processar(folha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resultado de um trecho: totais, quantidade de linhas e as linhas inválidas, guardadas como
+     * {@code [linha relativa, offset, tamanho, código]} para serem copiadas do mapeamento no fim.
+     */
+    private static final class Folha {
+
+        private final Regiao regiao;
+        private final int inicio;
+        private final int fim;
+        private long impressao;
+        private boolean reaproveitada;
+        private int linhas;
+        private int cpfValidos;
+        private int cpfInvalidos;
+        private int cnpjValidos;
+        private int cnpjInvalidos;
+        private int rejeitados;
+        private int[] invalidos = new int[64];
+        private int quantidadeInvalidos;
+
+        Folha(Regiao regiao, int inicio, int fim) {
+            this.regiao = regiao;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        void invalido(int inicio, int fim, int codigo) {
+            if (4 * quantidadeInvalidos == invalidos.length) {
+                invalidos = Arrays.copyOf(invalidos, invalidos.length * 2);
+            }
+            int base = 4 * quantidadeInvalidos++;
+            invalidos[base] = linhas;
+            invalidos[base + 1] = inicio;
+            invalidos[base + 2] = fim - inicio;
+            invalidos[base + 3] = codigo;
+        }
+
+        /**
+         * Copia o resultado gravado de um trecho com os mesmos bytes, levando os offsets para esta região.
+         */
+        void reaproveitar(ManifestoArquivo.Entrada entrada) {
+            linhas = entrada.linhas();
+            cpfValidos = entrada.cpfValidos();
+            cpfInvalidos = entrada.cpfInvalidos();
+            cnpjValidos = entrada.cnpjValidos();
+            cnpjInvalidos = entrada.cnpjInvalidos();
+            rejeitados = entrada.rejeitados();
+            invalidos = entrada.invalidos().clone();
+            quantidadeInvalidos = invalidos.length / 4;
+            for (int i = 0; i < quantidadeInvalidos; i++) {
+                invalidos[4 * i + 1] += inicio;
+            }
+            reaproveitada = true;
+        }
+
+        ManifestoArquivo.Entrada entrada() {
+            int[] relativos = Arrays.copyOf(invalidos, 4 * quantidadeInvalidos);
+            for (int i = 0; i < quantidadeInvalidos; i++) {
+                relativos[4 * i + 1] -= inicio;
+            }
+            return new ManifestoArquivo.Entrada(impressao, fim - inicio, linhas, cpfValidos, cpfInvalidos,
+                    cnpjValidos, cnpjInvalidos, rejeitados, relativos);
+        }
+    }
+}
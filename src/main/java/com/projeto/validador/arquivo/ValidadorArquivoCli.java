@@ -0,0 +1,95 @@
+package com.projeto.validador.arquivo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ponto de entrada de linha de comando para {@link ValidadorArquivo}, sem subir o contexto Spring.
+ *
+ * Gera, ao lado do arquivo (ou em {@code --saida}), {@code <arquivo>.invalidos.csv} com as linhas
+ * inválidas e {@code <arquivo>.resumo.txt} com os totais, que também são impressos na saída padrão.
+ * Com {@code --incremental}, mantém também {@code <arquivo>.manifesto} para a próxima execução.
+ */
+public final class ValidadorArquivoCli {
+
+    private static final String USO = """
+            Uso: ValidadorArquivoCli <arquivo> [opções]
+              --coluna=N        coluna do documento, a partir de 1 (padrão: 1)
+              --separador=C     separador de colunas; use \\t para tab (padrão: ;)
+              --cabecalho       ignora a primeira linha
+              --saida=DIR       diretório dos arquivos gerados (padrão: o do arquivo)
+              --paralelismo=N   quantidade de threads (padrão: número de processadores)
+              --incremental     valida só os trechos alterados desde a última execução incremental
+              --trecho-medio=N  tamanho médio dos trechos do modo incremental, em bytes (padrão: 65536)
+            """;
+
+    private ValidadorArquivoCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path arquivo = null;
+        Path saida = null;
+        int coluna = 1;
+        String separador = ";";
+        boolean cabecalho = false;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        boolean incremental = false;
+        int trechoMedio = DivisorConteudo.TAMANHO_MEDIO;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--coluna=")) coluna = Integer.parseInt(valor(arg));
+                else if (arg.startsWith("--separador=")) separador = valor(arg).replace("\\t", "\t");
+                else if (arg.equals("--cabecalho")) cabecalho = true;
+                else if (arg.startsWith("--saida=")) saida = Path.of(valor(arg));
+                else if (arg.startsWith("--paralelismo=")) paralelismo = Integer.parseInt(valor(arg));
+                else if (arg.equals("--incremental")) incremental = true;
+                else if (arg.startsWith("--trecho-medio=")) trechoMedio = Integer.parseInt(valor(arg));
+                else if (!arg.startsWith("--") && arquivo == null) arquivo = Path.of(arg);
+                else throw new IllegalArgumentException("Argumento desconhecido: " + arg);
+            }
+            if (arquivo == null) throw new IllegalArgumentException("Arquivo não informado");
+            if (coluna < 1 || paralelismo < 1) throw new IllegalArgumentException("Coluna e paralelismo devem ser positivos");
+            if (separador.length() != 1 || separador.charAt(0) > 0x7F) {
+                throw new IllegalArgumentException("Separador deve ser um caractere ASCII: " + separador);
+            }
+            if (trechoMedio < DivisorConteudo.TAMANHO_MEDIO_MINIMO || trechoMedio > DivisorConteudo.TAMANHO_MEDIO_MAXIMO) {
+                throw new IllegalArgumentException("Tamanho médio de trecho fora de " + DivisorConteudo.TAMANHO_MEDIO_MINIMO
+                        + ".." + DivisorConteudo.TAMANHO_MEDIO_MAXIMO + ": " + trechoMedio);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USO);
+            System.exit(2);
+            return;
+        }
+
+        if (saida == null) saida = arquivo.toAbsolutePath().getParent();
+        String nome = arquivo.getFileName().toString();
+        Path invalidos = saida.resolve(nome + ".invalidos.csv");
+        Path resumo = saida.resolve(nome + ".resumo.txt");
+        Path manifesto = saida.resolve(nome + ".manifesto");
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            ValidadorArquivo validador = new ValidadorArquivo(coluna - 1, (byte) separador.charAt(0), cabecalho, pool);
+            ResumoArquivo resultado = incremental
+                    ? validador.validar(arquivo, invalidos, manifesto, trechoMedio)
+                    : validador.validar(arquivo, invalidos);
+            String relatorio = resultado.relatorio();
+
+            Files.writeString(resumo, relatorio, StandardCharsets.UTF_8);
+            System.out.print(relatorio);
+            System.out.println("Linhas inválidas: " + invalidos);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String valor(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.projeto.validador.auditoria;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Buffer circular de registros de auditoria, com vários produtores e um único consumidor, sem locks.
+ *
+ * Os registros são alocados uma vez, na criação, e reaproveitados: publicar é reservar uma posição com um CAS
+ * na cauda, copiar os campos para o registro e liberá-lo ao consumidor. Cada posição tem uma sequência que diz
+ * de quem é a vez: igual à posição, o registro está livre para o produtor; posição + 1, está publicado para o
+ * consumidor; ao consumir, passa para posição + capacidade, a volta seguinte do anel. Com o anel cheio a
+ * publicação falha na hora, sem esperar o consumidor.
+ */
+final class AnelAuditoria {
+
+    static final int TAMANHO_DOCUMENTO = 32;
+
+    private final RegistroAuditoria[] registros;
+    private final AtomicLongArray sequencias;
+    private final int mascara;
+    private final AtomicLong cauda = new AtomicLong();
+    // só o consumidor escreve; volátil para a ocupação lida pelas métricas
+    private volatile long cabeca;
+
+    AnelAuditoria(int capacidade) {
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("Capacidade do anel de auditoria deve ser potência de 2: " + capacidade);
+        }
+        this.registros = new RegistroAuditoria[capacidade];
+        this.sequencias = new AtomicLongArray(capacidade);
+        this.mascara = capacidade - 1;
+        for (int i = 0; i < capacidade; i++) {
+            registros[i] = new RegistroAuditoria();
+            sequencias.set(i, i);
+        }
+    }
+
+    /**
+     * Publica um registro, ou retorna false se o anel está cheio. Do documento são copiados os primeiros
+     * {@link #TAMANHO_DOCUMENTO} caracteres.
+     */
+    boolean publicar(long instante, String tipo, String desfecho, CharSequence documento) {
+        long posicao = reservar();
+        if (posicao < 0) return false;
+
+        RegistroAuditoria registro = preencher(posicao, instante, tipo, desfecho);
+        int tamanho = Math.min(documento.length(), TAMANHO_DOCUMENTO);
+        for (int i = 0; i < tamanho; i++) {
+            registro.documento[i] = (byte) documento.charAt(i);
+        }
+        registro.tamanhoDocumento = tamanho;
+        sequencias.setRelease((int) posicao & mascara, posicao + 1);
+        return true;
+    }
+
+    /**
+     * Como {@link #publicar(long, String, String, CharSequence)}, com o documento em ASCII em
+     * {@code documento[offset, offset + tamanho)}.
+     */
+    boolean publicar(long instante, String tipo, String desfecho, byte[] documento, int offset, int tamanho) {
+        long posicao = reservar();
+        if (posicao < 0) return false;
+
+        RegistroAuditoria registro = preencher(posicao, instante, tipo, desfecho);
+        int copiados = Math.min(tamanho, TAMANHO_DOCUMENTO);
+        System.arraycopy(documento, offset, registro.documento, 0, copiados);
+        registro.tamanhoDocumento = copiados;
+        sequencias.setRelease((int) posicao & mascara, posicao + 1);
+        return true;
+    }
+
+    // posição reservada na cauda, ou -1 com o anel cheio
+    private long reservar() {
+        long posicao = cauda.get();
+        int indice;
+        while (true) {
+            indice = (int) posicao & mascara;
+            long diferenca = sequencias.getAcquire(indice) - posicao;
+            if (diferenca == 0) {
+                long vista = cauda.compareAndExchange(posicao, posicao + 1);
+                if (vista == posicao) break;
+                posicao = vista;
+            } else if (diferenca < 0) {
+                // a posição ainda guarda o registro da volta anterior, não consumido
+                return -1;
+            } else {
+                posicao = cauda.get();
+            }
+        }
+        return posicao;
+    }
+
+    private RegistroAuditoria preencher(long posicao, long instante, String tipo, String desfecho) {
+        RegistroAuditoria registro = registros[(int) posicao & mascara];
+        registro.instante = instante;
+        registro.tipo = tipo;
+        registro.desfecho = desfecho;
+        return registro;
+    }
+
+    /**
+     * Entrega ao consumidor até {@code maximo} registros publicados, em ordem de reserva, e devolve quantos
+     * foram entregues. O registro só vale durante a chamada: depois dela a posição volta para os produtores.
+     * Para no primeiro registro reservado e ainda não publicado. Só pode ser chamado por uma thread.
+     */
+    int drenar(Consumer<RegistroAuditoria> consumidor, int maximo) {
+        long posicao = cabeca;
+        int drenados = 0;
+        while (drenados < maximo) {
+            int indice = (int) posicao & mascara;
+            if (sequencias.getAcquire(indice) != posicao + 1) break;
+
+            RegistroAuditoria registro = registros[indice];
+            consumidor.accept(registro);
+            registro.tipo = null;
+            sequencias.setRelease(indice, posicao + registros.length);
+            cabeca = ++posicao;
+            drenados++;
+        }
+        return drenados;
+    }
+
+    /**
+     * Registros reservados e ainda não consumidos. Aproximado enquanto há produtores publicando.
+     */
+    int ocupacao() {
+        return (int) Math.max(0, Math.min(registros.length, cauda.get() - cabeca));
+    }
+
+    int capacidade() {
+        return registros.length;
+    }
+
+    /**
+     * Posição do anel. Os campos são escritos pelo produtor que a reservou e lidos pelo consumidor depois
+     * da publicação; a sequência da posição faz a ordem de memória entre os dois.
+     */
+    static final class RegistroAuditoria {
+
+        long instante;
+        String tipo;
+        String desfecho;
+        final byte[] documento = new byte[TAMANHO_DOCUMENTO];
+        int tamanhoDocumento;
+    }
+}
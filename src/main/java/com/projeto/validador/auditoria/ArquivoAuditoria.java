@@ -0,0 +1,119 @@
+package com.projeto.validador.auditoria;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Arquivos de auditoria só de acréscimo, com rotação por tamanho. Cada arquivo tem o nome do instante em que
+ * foi aberto, então a ordem dos nomes é a ordem dos registros. A cada inicialização começa um arquivo novo:
+ * o último da execução anterior pode terminar numa linha incompleta e fica como está.
+ *
+ * Usado só pela thread do gravador.
+ */
+final class ArquivoAuditoria implements Closeable {
+
+    static final String PREFIXO = "auditoria-";
+    static final String SUFIXO = ".log";
+
+    private static final DateTimeFormatter FORMATO_NOME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path diretorio;
+    private final long tamanhoMaximo;
+    private final int arquivosMantidos;
+
+    private Path atual;
+    private FileChannel canal;
+    private long tamanho;
+
+    ArquivoAuditoria(Path diretorio, long tamanhoMaximo, int arquivosMantidos) throws IOException {
+        this.diretorio = Files.createDirectories(diretorio);
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.arquivosMantidos = arquivosMantidos;
+        abrir();
+        apagarAntigos();
+    }
+
+    /**
+     * Acrescenta o conteúdo do buffer ao arquivo atual, passando antes para um arquivo novo quando o atual
+     * ultrapassaria o tamanho máximo. O buffer nunca é dividido entre dois arquivos.
+     */
+    void escrever(ByteBuffer buffer) throws IOException {
+        if (tamanho > 0 && tamanho + buffer.remaining() > tamanhoMaximo) {
+            rotacionar();
+        }
+        while (buffer.hasRemaining()) {
+            tamanho += canal.write(buffer);
+        }
+    }
+
+    /**
+     * Leva ao disco o que já foi escrito (fsync, sem os metadados além do tamanho).
+     */
+    void sincronizar() throws IOException {
+        canal.force(false);
+    }
+
+    Path getAtual() {
+        return atual;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sincronizar();
+        } finally {
+            canal.close();
+        }
+    }
+
+    private void rotacionar() throws IOException {
+        close();
+        abrir();
+        apagarAntigos();
+    }
+
+    private void abrir() throws IOException {
+        // duas rotações no mesmo milissegundo: avança o instante do nome para manter a ordem
+        Instant instante = Instant.now();
+        Path arquivo = diretorio.resolve(nome(instante));
+        while (Files.exists(arquivo)) {
+            instante = instante.plusMillis(1);
+            arquivo = diretorio.resolve(nome(instante));
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.atual = arquivo;
+        this.tamanho = 0;
+    }
+
+    private void apagarAntigos() throws IOException {
+        if (arquivosMantidos <= 0) return;
+
+        List<Path> arquivos;
+        try (Stream<Path> todos = Files.list(diretorio)) {
+            arquivos = todos.filter(ArquivoAuditoria::deAuditoria).sorted().toList();
+        }
+        for (int i = 0; i < arquivos.size() - arquivosMantidos; i++) {
+            Files.deleteIfExists(arquivos.get(i));
+        }
+    }
+
+    static boolean deAuditoria(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return nome.startsWith(PREFIXO) && nome.endsWith(SUFIXO);
+    }
+
+    private static String nome(Instant instante) {
+        return PREFIXO + FORMATO_NOME.format(instante) + SUFIXO;
+    }
+}
@@ -0,0 +1,271 @@
+package com.projeto.validador.auditoria;
+
+import com.projeto.validador.factory.MotivoRejeicao;
+import com.projeto.validador.interfaces.Validador;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Trilha de auditoria das validações: uma linha por documento validado ou rejeitado, com instante, tipo,
+ * desfecho e o HMAC-SHA256 do documento normalizado (sem máscara, maiúsculo), nunca o documento em si.
+ *
+ * As threads de requisição só copiam os campos para um registro do {@link AnelAuditoria}, sem alocar nem
+ * esperar disco. Uma thread gravadora drena o anel em lotes, calcula os hashes, acrescenta as linhas em
+ * {@link ArquivoAuditoria} e faz fsync no máximo a cada {@code intervalo-fsync}, então um registro pode ficar
+ * até esse tempo só no page cache. Com o anel cheio o registro é descartado e contado em
+ * {@code validador.auditoria.descartados}, ou, com {@code bloquear-quando-cheio}, a requisição espera o
+ * gravador abrir espaço.
+ *
+ * Métricas: {@code validador.auditoria.gravados}, {@code validador.auditoria.descartados} (tag {@code motivo}:
+ * anel_cheio, erro_gravacao) e {@code validador.auditoria.ocupacao}.
+ */
+@Slf4j
+public class AuditoriaValidacao {
+
+    static final String VALIDO = "VALIDO";
+    static final String INVALIDO = "INVALIDO";
+    static final String SEM_TIPO = "-";
+
+    // registros por escrita no arquivo; cada linha cabe em TAMANHO_MAXIMO_LINHA bytes
+    private static final int LOTE = 4096;
+    private static final int TAMANHO_MAXIMO_LINHA = 128;
+    private static final int BYTES_HASH = 16;
+    private static final long ESPERA_VAZIO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ESPERA_CHEIO_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AnelAuditoria anel;
+    private final boolean bloquearQuandoCheio;
+    private final Map<MotivoRejeicao, String> desfechosRejeicao = new EnumMap<>(MotivoRejeicao.class);
+
+    private final ArquivoAuditoria arquivo;
+    private final long intervaloFsyncNanos;
+    private final Mac hmac;
+    private final ByteBuffer buffer;
+    private final StringBuilder linha = new StringBuilder(TAMANHO_MAXIMO_LINHA);
+    private final byte[] normalizado = new byte[AnelAuditoria.TAMANHO_DOCUMENTO];
+    private final Thread gravador;
+    private volatile boolean encerrado;
+
+    private final Counter gravados;
+    private final Counter descartadosAnelCheio;
+    private final Counter descartadosErroGravacao;
+
+    public AuditoriaValidacao(PropriedadesAuditoria propriedades, MeterRegistry registry) throws IOException {
+        this.anel = new AnelAuditoria(propriedades.capacidade());
+        this.bloquearQuandoCheio = propriedades.bloquearQuandoCheio();
+        for (MotivoRejeicao motivo : MotivoRejeicao.values()) {
+            desfechosRejeicao.put(motivo, "REJEITADO_" + motivo.name());
+        }
+
+        this.arquivo = new ArquivoAuditoria(propriedades.diretorio(), propriedades.tamanhoArquivo().toBytes(),
+                propriedades.arquivosMantidos());
+        this.intervaloFsyncNanos = propriedades.intervaloFsync().toNanos();
+        this.hmac = hmac(propriedades.chave());
+        this.buffer = ByteBuffer.allocateDirect(LOTE * TAMANHO_MAXIMO_LINHA);
+
+        this.gravados = Counter.builder("validador.auditoria.gravados")
+                .description("Registros de auditoria gravados em arquivo")
+                .register(registry);
+        this.descartadosAnelCheio = descartados(registry, "anel_cheio");
+        this.descartadosErroGravacao = descartados(registry, "erro_gravacao");
+        Gauge.builder("validador.auditoria.ocupacao", anel, AnelAuditoria::ocupacao)
+                .description("Registros de auditoria esperando o gravador")
+                .register(registry);
+
+        this.gravador = Thread.ofPlatform().name("auditoria-gravador").daemon().start(this::gravar);
+        log.info("Auditoria gravando em {}", arquivo.getAtual());
+    }
+
+    private AuditoriaValidacao() {
+        this.anel = null;
+        this.bloquearQuandoCheio = false;
+        this.arquivo = null;
+        this.intervaloFsyncNanos = 0;
+        this.hmac = null;
+        this.buffer = null;
+        this.gravador = null;
+        this.gravados = null;
+        this.descartadosAnelCheio = null;
+        this.descartadosErroGravacao = null;
+    }
+
+    public static AuditoriaValidacao desabilitada() {
+        return new AuditoriaValidacao();
+    }
+
+    /**
+     * Registra um documento que passou pela regra do seu tipo.
+     */
+    public void validado(Validador validador, CharSequence documento, boolean valido) {
+        if (anel == null) return;
+        publicar(validador.getTipoDocumento(), valido ? VALIDO : INVALIDO, documento);
+    }
+
+    /**
+     * Registra um documento rejeitado antes da validação. O tipo declarado não entra no registro: vem da URL
+     * e pode ser qualquer texto.
+     */
+    public void rejeitado(CharSequence documento, MotivoRejeicao motivo) {
+        if (anel == null) return;
+        publicar(SEM_TIPO, desfechosRejeicao.get(motivo), documento == null ? "" : documento);
+    }
+
+    /**
+     * Como {@link #validado(Validador, CharSequence, boolean)}, com o documento em ASCII em
+     * {@code documento[offset, offset + tamanho)}, para quem valida direto no buffer de leitura.
+     */
+    public void validado(String tipo, byte[] documento, int offset, int tamanho, boolean valido) {
+        if (anel == null) return;
+        publicar(tipo, valido ? VALIDO : INVALIDO, documento, offset, tamanho);
+    }
+
+    /**
+     * Como {@link #rejeitado(CharSequence, MotivoRejeicao)}, com o documento em ASCII em
+     * {@code documento[offset, offset + tamanho)}.
+     */
+    public void rejeitado(byte[] documento, int offset, int tamanho, MotivoRejeicao motivo) {
+        if (anel == null) return;
+        publicar(SEM_TIPO, desfechosRejeicao.get(motivo), documento, offset, tamanho);
+    }
+
+    private void publicar(String tipo, String desfecho, CharSequence documento) {
+        long instante = System.currentTimeMillis();
+        while (!anel.publicar(instante, tipo, desfecho, documento)) {
+            if (!esperarEspaco()) return;
+        }
+    }
+
+    private void publicar(String tipo, String desfecho, byte[] documento, int offset, int tamanho) {
+        long instante = System.currentTimeMillis();
+        while (!anel.publicar(instante, tipo, desfecho, documento, offset, tamanho)) {
+            if (!esperarEspaco()) return;
+        }
+    }
+
+    // com o anel cheio: false descarta o registro, true tenta de novo depois de uma pausa
+    private boolean esperarEspaco() {
+        if (!bloquearQuandoCheio || encerrado) {
+            descartadosAnelCheio.increment();
+            return false;
+        }
+        LockSupport.parkNanos(ESPERA_CHEIO_NANOS);
+        return true;
+    }
+
+    /**
+     * Para o gravador depois de drenar o anel e sincroniza o arquivo. Registros publicados durante o
+     * encerramento podem ficar de fora.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        if (gravador == null) return;
+        encerrado = true;
+        LockSupport.unpark(gravador);
+        gravador.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void gravar() {
+        long proximoFsync = System.nanoTime() + intervaloFsyncNanos;
+        boolean pendenteFsync = false;
+        while (true) {
+            // lido antes de drenar: a última drenagem vê tudo o que foi publicado antes do encerramento
+            boolean fim = encerrado;
+            buffer.clear();
+            int drenados = anel.drenar(this::formatar, LOTE);
+            try {
+                if (drenados > 0) {
+                    arquivo.escrever(buffer.flip());
+                    gravados.increment(drenados);
+                    pendenteFsync = true;
+                }
+                if (pendenteFsync && (fim || System.nanoTime() - proximoFsync >= 0)) {
+                    arquivo.sincronizar();
+                    pendenteFsync = false;
+                    proximoFsync = System.nanoTime() + intervaloFsyncNanos;
+                }
+            } catch (IOException e) {
+                descartadosErroGravacao.increment(drenados);
+                log.error("Falha ao gravar {} registros de auditoria em {}", drenados, arquivo.getAtual(), e);
+            }
+            if (drenados == 0) {
+                if (fim) break;
+                LockSupport.parkNanos(ESPERA_VAZIO_NANOS);
+            }
+        }
+
+        try {
+            arquivo.close();
+        } catch (IOException e) {
+            log.error("Falha ao fechar o arquivo de auditoria {}", arquivo.getAtual(), e);
+        }
+    }
+
+    // instante tipo desfecho hash
+    private void formatar(AnelAuditoria.RegistroAuditoria registro) {
+        linha.setLength(0);
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(registro.instante), linha);
+        linha.append(' ').append(registro.tipo).append(' ').append(registro.desfecho).append(' ');
+        HexFormat.of().formatHex(linha, hash(registro.documento, registro.tamanhoDocumento), 0, BYTES_HASH);
+        linha.append('\n');
+        for (int i = 0; i < linha.length(); i++) {
+            buffer.put((byte) linha.charAt(i));
+        }
+    }
+
+    private byte[] hash(byte[] documento, int tamanho) {
+        int n = 0;
+        for (int i = 0; i < tamanho; i++) {
+            byte c = documento[i];
+            if (c >= 'a' && c <= 'z') {
+                normalizado[n++] = (byte) (c - 'a' + 'A');
+            } else if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+                normalizado[n++] = c;
+            }
+        }
+        hmac.update(normalizado, 0, n);
+        return hmac.doFinal();
+    }
+
+    private static Mac hmac(String chave) {
+        byte[] bytes;
+        if (chave.isEmpty()) {
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+            log.warn("validador.auditoria.chave vazia: hashes de documentos da auditoria só são comparáveis nesta execução");
+        } else {
+            bytes = chave.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(bytes, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter descartados(MeterRegistry registry, String motivo) {
+        return Counter.builder("validador.auditoria.descartados")
+                .description("Registros de auditoria descartados")
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+}
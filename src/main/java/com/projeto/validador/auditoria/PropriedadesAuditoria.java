@@ -0,0 +1,38 @@
+package com.projeto.validador.auditoria;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração da trilha de auditoria ({@code validador.auditoria}).
+ *
+ * @param diretorio          diretório dos arquivos; sem valor, {@code validador-auditoria} no diretório temporário
+ * @param chave              chave do HMAC-SHA256 que substitui o documento no arquivo; vazia, uma chave aleatória
+ *                           é gerada a cada inicialização e os hashes deixam de ser comparáveis entre execuções
+ * @param capacidade         registros no anel entre as threads de requisição e o gravador (potência de 2)
+ * @param bloquearQuandoCheio com o anel cheio, a requisição espera o gravador abrir espaço em vez de descartar
+ *                           o registro
+ * @param tamanhoArquivo     tamanho a partir do qual o gravador passa para um arquivo novo
+ * @param arquivosMantidos   arquivos guardados no diretório; os mais antigos são apagados (0 guarda todos)
+ * @param intervaloFsync     intervalo máximo entre a gravação de um registro e o fsync do arquivo
+ */
+@ConfigurationProperties("validador.auditoria")
+public record PropriedadesAuditoria(
+        @DefaultValue("false") boolean habilitado,
+        Path diretorio,
+        String chave,
+        @DefaultValue("65536") int capacidade,
+        @DefaultValue("false") boolean bloquearQuandoCheio,
+        @DefaultValue("100MB") DataSize tamanhoArquivo,
+        @DefaultValue("10") int arquivosMantidos,
+        @DefaultValue("1s") Duration intervaloFsync) {
+
+    public PropriedadesAuditoria {
+        diretorio = diretorio == null ? Path.of(System.getProperty("java.io.tmpdir"), "validador-auditoria") : diretorio;
+        chave = chave == null ? "" : chave;
+    }
+}
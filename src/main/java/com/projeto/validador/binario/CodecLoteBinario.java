@@ -0,0 +1,142 @@
+package com.projeto.validador.binario;
+
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.domain.DigitosCnpj;
+import com.projeto.validador.domain.DigitosCpf;
+import com.projeto.validador.factory.MotivoRejeicao;
+import com.projeto.validador.metricas.MetricasValidacao;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Formato binário de lote para clientes de alto volume ({@value #MEDIA_TYPE}).
+ *
+ * Requisição: sequência de documentos ASCII prefixados pelo tamanho, {@code [u8 tamanho][bytes]}.
+ *
+ * Resposta: sequência de blocos de até {@value #DOCUMENTOS_POR_BLOCO} documentos, na ordem da requisição:
+ * {@code [u16 quantidade][bitset de validade][tipos]}, onde
+ * - a quantidade é big-endian;
+ * - o bitset tem 1 bit por documento (bit 0 do primeiro byte = primeiro documento), 1 = válido;
+ * - os tipos têm 2 bits por documento, na mesma ordem: {@link #TIPO_REJEITADO}, {@link #TIPO_CPF}, {@link #TIPO_CNPJ}.
+ *
+ * Os documentos são validados direto no buffer de leitura, sem criar uma {@code String} por documento.
+ * Os documentos devem vir sem máscara: 11 bytes é CPF, 14 é CNPJ, qualquer outro tamanho é rejeitado.
+ * Cada documento entra nas métricas de validação e na trilha de auditoria, também lido direto do buffer.
+ */
+@Component
+public class CodecLoteBinario {
+
+    public static final String MEDIA_TYPE = "application/x-validador-lote";
+
+    public static final int TIPO_REJEITADO = 0;
+    public static final int TIPO_CPF = 1;
+    public static final int TIPO_CNPJ = 2;
+
+    static final int DOCUMENTOS_POR_BLOCO = 1024;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final MetricasValidacao metricasValidacao;
+    private final AuditoriaValidacao auditoriaValidacao;
+
+    public CodecLoteBinario(MetricasValidacao metricasValidacao, AuditoriaValidacao auditoriaValidacao) {
+        this.metricasValidacao = metricasValidacao;
+        this.auditoriaValidacao = auditoriaValidacao;
+    }
+
+    public void validar(InputStream entrada, OutputStream saida) throws IOException {
+        byte[] buffer = new byte[TAMANHO_BUFFER];
+        Bloco bloco = new Bloco();
+
+        int inicio = 0;
+        int fim = 0;
+        int lidos;
+        while ((lidos = entrada.read(buffer, fim, buffer.length - fim)) != -1) {
+            fim += lidos;
+
+            // consome todos os registros completos do buffer
+            while (fim - inicio >= 1) {
+                int tamanho = buffer[inicio] & 0xFF;
+                if (fim - inicio - 1 < tamanho) break;
+
+                adicionar(bloco, buffer, inicio + 1, tamanho);
+                if (bloco.quantidade == DOCUMENTOS_POR_BLOCO) bloco.escrever(saida);
+                inicio += 1 + tamanho;
+            }
+
+            // move o registro incompleto para o começo do buffer
+            System.arraycopy(buffer, inicio, buffer, 0, fim - inicio);
+            fim -= inicio;
+            inicio = 0;
+        }
+
+        if (fim > 0) {
+            // registro truncado no fim do corpo
+            metricasValidacao.rejeitado(MotivoRejeicao.TAMANHO_INVALIDO);
+            auditoriaValidacao.rejeitado(buffer, 1, fim - 1, MotivoRejeicao.TAMANHO_INVALIDO);
+            bloco.adicionar(TIPO_REJEITADO, false);
+        }
+        if (bloco.quantidade > 0) bloco.escrever(saida);
+        saida.flush();
+    }
+
+    private void adicionar(Bloco bloco, byte[] buffer, int offset, int tamanho) {
+        long inicio = System.nanoTime();
+        int tipo = tipo(tamanho);
+        boolean valido = switch (tipo) {
+            case TIPO_CPF -> DigitosCpf.valido(buffer, offset);
+            case TIPO_CNPJ -> DigitosCnpj.valido(buffer, offset, offset + tamanho);
+            default -> false;
+        };
+        if (tipo == TIPO_REJEITADO) {
+            metricasValidacao.rejeitado(MotivoRejeicao.TAMANHO_INVALIDO);
+            auditoriaValidacao.rejeitado(buffer, offset, tamanho, MotivoRejeicao.TAMANHO_INVALIDO);
+        } else {
+            String nome = tipo == TIPO_CPF ? "CPF" : "CNPJ";
+            metricasValidacao.registrar(nome, buffer, offset, tamanho, valido, inicio);
+            auditoriaValidacao.validado(nome, buffer, offset, tamanho, valido);
+        }
+        bloco.adicionar(tipo, valido);
+    }
+
+    static int tipo(int tamanho) {
+        return switch (tamanho) {
+            case DigitosCpf.TAMANHO -> TIPO_CPF;
+            case DigitosCnpj.TAMANHO -> TIPO_CNPJ;
+            default -> TIPO_REJEITADO;
+        };
+    }
+
+    private static final class Bloco {
+
+        private final byte[] saida = new byte[2 + DOCUMENTOS_POR_BLOCO / 8 + DOCUMENTOS_POR_BLOCO / 4];
+        private final byte[] validos = new byte[DOCUMENTOS_POR_BLOCO / 8];
+        private final byte[] tipos = new byte[DOCUMENTOS_POR_BLOCO / 4];
+        private int quantidade;
+
+        void adicionar(int tipo, boolean valido) {
+            if (valido) validos[quantidade >>> 3] |= (byte) (1 << (quantidade & 7));
+            tipos[quantidade >>> 2] |= (byte) (tipo << ((quantidade & 3) << 1));
+            quantidade++;
+        }
+
+        void escrever(OutputStream destino) throws IOException {
+            int bytesValidos = (quantidade + 7) >>> 3;
+            int bytesTipos = (quantidade + 3) >>> 2;
+
+            saida[0] = (byte) (quantidade >>> 8);
+            saida[1] = (byte) quantidade;
+            System.arraycopy(validos, 0, saida, 2, bytesValidos);
+            System.arraycopy(tipos, 0, saida, 2 + bytesValidos, bytesTipos);
+            destino.write(saida, 0, 2 + bytesValidos + bytesTipos);
+
+            Arrays.fill(validos, 0, bytesValidos, (byte) 0);
+            Arrays.fill(tipos, 0, bytesTipos, (byte) 0);
+            quantidade = 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.projeto.validador.cadastro;
+
+import com.projeto.validador.interfaces.Validador;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Presença de CPFs e CNPJs na cópia local do cadastro, consultada em {@link IndiceCadastro}.
+ *
+ * Com {@code validador.cadastro.indice} vazio não há consulta e o resultado da validação não traz o campo
+ * {@code cadastrado}. Com {@code validador.cadastro.dump}, o índice é gerado a partir do dump quando não
+ * existe ou é mais antigo que ele.
+ *
+ * A recarga monta o índice novo por inteiro e troca a referência de uma vez: as consultas não esperam
+ * nada, e as que já estão em andamento terminam no índice antigo, que continua mapeado até não ser mais
+ * referenciado.
+ */
+@Slf4j
+@Component
+public class CadastroDocumentos {
+
+    private final Path indice;
+    private final Path dump;
+    private final double falsoPositivo;
+    private final AtomicReference<IndiceCadastro> atual = new AtomicReference<>();
+
+    public CadastroDocumentos(@Value("${validador.cadastro.indice:}") String indice,
+                              @Value("${validador.cadastro.dump:}") String dump,
+                              @Value("${validador.cadastro.falso-positivo:0.01}") double falsoPositivo) throws IOException {
+        this.indice = indice.isBlank() ? null : Path.of(indice);
+        this.dump = dump.isBlank() ? null : Path.of(dump);
+        this.falsoPositivo = falsoPositivo;
+        if (this.indice != null) {
+            carregar(false);
+        }
+    }
+
+    public static CadastroDocumentos desabilitado() {
+        try {
+            return new CadastroDocumentos("", "", 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Se o documento está no cadastro, ou null quando não há índice ou o tipo não é indexado. Documento
+     * inválido nunca está no cadastro.
+     */
+    public Boolean cadastrado(Validador validador, String documento, boolean valido) {
+        IndiceCadastro indiceAtual = atual.get();
+        String tipo = validador.getTipoDocumento();
+        if (indiceAtual == null || !IndiceCadastro.indexado(tipo)) return null;
+
+        return valido && indiceAtual.contem(IndiceCadastro.chave(tipo, documento));
+    }
+
+    /**
+     * Gera o índice de novo a partir do dump (quando configurado), mapeia o arquivo e passa a consultá-lo.
+     * Recargas simultâneas são feitas uma de cada vez.
+     */
+    public synchronized IndiceCadastro recarregar() throws IOException {
+        if (indice == null) {
+            throw new IllegalStateException("Índice do cadastro não configurado (validador.cadastro.indice)");
+        }
+        return carregar(true);
+    }
+
+    /**
+     * Índice em uso, ou null quando desabilitado.
+     */
+    public IndiceCadastro atual() {
+        return atual.get();
+    }
+
+    private IndiceCadastro carregar(boolean regerar) throws IOException {
+        if (dump != null && (regerar || !Files.exists(indice)
+                || Files.getLastModifiedTime(dump).compareTo(Files.getLastModifiedTime(indice)) > 0)) {
+            long inicio = System.nanoTime();
+            int quantidade = ConstrutorIndiceCadastro.construir(dump, indice, falsoPositivo);
+            log.info("Índice do cadastro gerado a partir de {}: {} documentos em {} ms",
+                    dump, quantidade, (System.nanoTime() - inicio) / 1_000_000);
+        }
+
+        IndiceCadastro novo = IndiceCadastro.abrir(indice);
+        atual.set(novo);
+        log.info("Índice do cadastro carregado: {} documentos, filtro de {} bits", novo.getQuantidade(), novo.getBitsFiltro());
+        return novo;
+    }
+}
@@ -0,0 +1,46 @@
+package com.projeto.validador.cadastro;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/cadastro} mostra o índice em uso; {@code POST /actuator/cadastro} o recarrega (ver
+ * {@link CadastroDocumentos#recarregar()}) sem interromper as validações. Não é exposto por HTTP por padrão, já
+ * que o recarregamento não tem autenticação; ver {@code management.endpoints.web.exposure} no application.yml.
+ */
+@Component
+@Endpoint(id = "cadastro")
+@RequiredArgsConstructor
+public class CadastroEndpoint {
+
+    private final CadastroDocumentos cadastroDocumentos;
+
+    @ReadOperation
+    public Map<String, Object> situacao() {
+        return descrever(cadastroDocumentos.atual());
+    }
+
+    @WriteOperation
+    public Map<String, Object> recarregar() throws IOException {
+        return descrever(cadastroDocumentos.recarregar());
+    }
+
+    private static Map<String, Object> descrever(IndiceCadastro indice) {
+        Map<String, Object> situacao = new LinkedHashMap<>();
+        situacao.put("habilitado", indice != null);
+        if (indice != null) {
+            situacao.put("arquivo", indice.getArquivo().toString());
+            situacao.put("documentos", indice.getQuantidade());
+            situacao.put("bitsFiltro", indice.getBitsFiltro());
+            situacao.put("carregadoEm", indice.getCarregadoEm().toString());
+        }
+        return situacao;
+    }
+}
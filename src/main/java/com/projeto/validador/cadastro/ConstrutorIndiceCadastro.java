@@ -0,0 +1,143 @@
+package com.projeto.validador.cadastro;
+
+import com.projeto.validador.domain.FormatadorDocumento;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Gera o arquivo de {@link IndiceCadastro} a partir do dump do cadastro: um CPF ou CNPJ por linha, com ou
+ * sem máscara. Linhas que não têm o formato de CPF (11 dígitos) nem de CNPJ (14 caracteres) são ignoradas.
+ *
+ * As chaves são ordenadas no heap (8 bytes por documento) e gravadas direto no arquivo mapeado, já em ordem
+ * de Eytzinger. O arquivo é montado ao lado do destino e trocado por rename, então quem tem o índice antigo
+ * mapeado continua lendo o arquivo antigo até soltá-lo.
+ *
+ * Também roda fora da aplicação: {@code java -cp validador.jar ...ConstrutorIndiceCadastro <dump> <indice> [falso-positivo]}.
+ */
+public final class ConstrutorIndiceCadastro {
+
+    private static final double LN2 = Math.log(2);
+
+    private ConstrutorIndiceCadastro() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Uso: ConstrutorIndiceCadastro <dump> <indice> [falso-positivo, padrão 0.01; 0 sem filtro]");
+            System.exit(2);
+            return;
+        }
+        double falsoPositivo = args.length == 3 ? Double.parseDouble(args[2]) : 0.01;
+        long inicio = System.nanoTime();
+        int quantidade = construir(Path.of(args[0]), Path.of(args[1]), falsoPositivo);
+        System.out.printf("%d documentos indexados em %d ms%n", quantidade, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Gera {@code indice} a partir de {@code dump} e devolve a quantidade de documentos distintos. Com
+     * {@code falsoPositivo} entre 0 e 1 (exclusive) o índice ganha um filtro de Bloom dimensionado para
+     * essa taxa; com 0, não.
+     */
+    public static int construir(Path dump, Path indice, double falsoPositivo) throws IOException {
+        if (falsoPositivo < 0 || falsoPositivo >= 1) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar em [0, 1): " + falsoPositivo);
+        }
+        long[] chaves = lerChaves(dump);
+        int quantidade = ordenarSemRepetidos(chaves);
+
+        long palavrasFiltro = 0;
+        int hashes = 0;
+        if (falsoPositivo > 0 && quantidade > 0) {
+            long bits = (long) Math.ceil(-quantidade * Math.log(falsoPositivo) / (LN2 * LN2));
+            // potência de 2, para o bit sair de uma máscara em vez de uma divisão
+            palavrasFiltro = Math.max(1, Long.highestOneBit(Math.max(bits, Long.SIZE) - 1) << 1) / Long.SIZE;
+            hashes = Math.max(1, (int) Math.round((double) palavrasFiltro * Long.SIZE / quantidade * LN2));
+        }
+
+        long tamanho = IndiceCadastro.TAMANHO_CABECALHO + (palavrasFiltro + quantidade) * Long.BYTES;
+        if (tamanho > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Índice do cadastro maior que 2 GB: " + quantidade + " documentos");
+        }
+
+        Path temporario = indice.resolveSibling(indice.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapeado = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+            mapeado.order(ByteOrder.LITTLE_ENDIAN);
+            mapeado.putInt(0, IndiceCadastro.MAGICO)
+                    .putInt(4, IndiceCadastro.VERSAO)
+                    .putLong(8, quantidade)
+                    .putLong(16, palavrasFiltro)
+                    .putInt(24, hashes);
+
+            int inicioFiltro = IndiceCadastro.TAMANHO_CABECALHO;
+            for (int i = 0; i < quantidade && palavrasFiltro > 0; i++) {
+                marcar(mapeado, inicioFiltro, palavrasFiltro * Long.SIZE - 1, hashes, chaves[i]);
+            }
+            eytzinger(chaves, quantidade, mapeado, inicioFiltro + (int) palavrasFiltro * Long.BYTES, 0, 1);
+            mapeado.force();
+        }
+        Files.move(temporario, indice, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return quantidade;
+    }
+
+    private static long[] lerChaves(Path dump) throws IOException {
+        long[] chaves = new long[1 << 16];
+        int quantidade = 0;
+        try (BufferedReader leitor = Files.newBufferedReader(dump, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                long chave = switch (FormatadorDocumento.tamanhoNormalizado(linha)) {
+                    case 11 -> IndiceCadastro.chave("CPF", linha);
+                    case 14 -> IndiceCadastro.chave("CNPJ", linha);
+                    default -> -1;
+                };
+                if (chave < 0) continue;
+                if (quantidade == chaves.length) chaves = Arrays.copyOf(chaves, chaves.length * 2);
+                chaves[quantidade++] = chave;
+            }
+        }
+        return Arrays.copyOf(chaves, quantidade);
+    }
+
+    // ordena e compacta as chaves distintas no início do array; devolve quantas são
+    private static int ordenarSemRepetidos(long[] chaves) {
+        Arrays.parallelSort(chaves);
+        int distintas = 0;
+        for (int i = 0; i < chaves.length; i++) {
+            if (i == 0 || chaves[i] != chaves[i - 1]) chaves[distintas++] = chaves[i];
+        }
+        return distintas;
+    }
+
+    private static void marcar(MappedByteBuffer mapeado, int inicioFiltro, long mascara, int hashes, long chave) {
+        long hash = IndiceCadastro.misturar(chave);
+        long passo = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++, hash += passo) {
+            long bit = hash & mascara;
+            int posicao = inicioFiltro + (int) (bit >>> 6) * Long.BYTES;
+            mapeado.putLong(posicao, mapeado.getLong(posicao) | (1L << bit));
+        }
+    }
+
+    /**
+     * Grava as chaves ordenadas no nó {@code k} (a partir de 1) e em seus descendentes, em ordem simétrica:
+     * a i-ésima menor chave cai no i-ésimo nó visitado. Devolve a próxima chave a gravar.
+     */
+    private static int eytzinger(long[] ordenadas, int quantidade, MappedByteBuffer mapeado, int inicio, int proxima, int k) {
+        if (k > quantidade) return proxima;
+        proxima = eytzinger(ordenadas, quantidade, mapeado, inicio, proxima, 2 * k);
+        mapeado.putLong(inicio + (k - 1) * Long.BYTES, ordenadas[proxima++]);
+        return eytzinger(ordenadas, quantidade, mapeado, inicio, proxima, 2 * k + 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.projeto.validador.cadastro;
+
+import com.projeto.validador.domain.DigitosCnpj;
+import com.projeto.validador.domain.DigitosCpf;
+import com.projeto.validador.domain.ModuloPonderado;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Índice somente leitura dos documentos do cadastro, mapeado em memória a partir do arquivo gerado por
+ * {@link ConstrutorIndiceCadastro}. Abrir é só mapear o arquivo: nada é lido para o heap, as páginas vêm
+ * do page cache sob demanda e são compartilhadas com outros processos que mapeiam o mesmo arquivo.
+ *
+ * Cada documento vira uma chave {@code long} com a base normalizada ({@code DigitosCpf.chave} e
+ * {@code DigitosCnpj.chave}): CNPJs em [0, 36^12) e CPFs logo depois. As chaves ficam em ordem de Eytzinger (a árvore de busca binária
+ * gravada em largura), e a busca desce a árvore sem desvio além do laço. Os primeiros níveis,
+ * compartilhados por todas as buscas, ficam juntos no início do arquivo e tendem a ficar no cache. Um
+ * filtro de Bloom opcional responde às consultas de documentos ausentes sem tocar nas chaves.
+ *
+ * Formato (little-endian): cabeçalho de {@link #TAMANHO_CABECALHO} bytes ({@link #MAGICO}, versão,
+ * quantidade de chaves, palavras de 64 bits do filtro, funções de hash do filtro), filtro e chaves.
+ */
+public final class IndiceCadastro {
+
+    static final int MAGICO = 0x56494458; // "VIDX"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+
+    static final long DESLOCAMENTO_CPF = DigitosCnpj.CHAVES;
+
+    private final Path arquivo;
+    private final Instant carregadoEm;
+    private final int quantidade;
+    private final int hashes;
+    private final long mascaraFiltro;
+    private final LongBuffer filtro;
+    private final LongBuffer chaves;
+
+    private IndiceCadastro(Path arquivo, MappedByteBuffer mapeado) {
+        this.arquivo = arquivo;
+        this.carregadoEm = Instant.now();
+        mapeado.order(ByteOrder.LITTLE_ENDIAN);
+        if (mapeado.getInt(0) != MAGICO || mapeado.getInt(4) != VERSAO) {
+            throw new IllegalArgumentException("Arquivo não é um índice do cadastro na versão " + VERSAO + ": " + arquivo);
+        }
+        long quantidade = mapeado.getLong(8);
+        long palavrasFiltro = mapeado.getLong(16);
+        if (TAMANHO_CABECALHO + (palavrasFiltro + quantidade) * Long.BYTES != mapeado.capacity()) {
+            throw new IllegalArgumentException("Índice do cadastro truncado: " + arquivo);
+        }
+        this.quantidade = (int) quantidade;
+        this.hashes = mapeado.getInt(24);
+        this.mascaraFiltro = palavrasFiltro * Long.SIZE - 1;
+        this.filtro = mapeado.slice(TAMANHO_CABECALHO, (int) palavrasFiltro * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        this.chaves = mapeado.slice(TAMANHO_CABECALHO + (int) palavrasFiltro * Long.BYTES, this.quantidade * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    /**
+     * Mapeia o índice. O mapeamento continua válido mesmo que o arquivo seja substituído depois (o
+     * construtor troca o arquivo por rename), e é liberado quando o índice deixa de ser referenciado.
+     */
+    public static IndiceCadastro abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Índice do cadastro maior que 2 GB: " + arquivo);
+            }
+            return new IndiceCadastro(arquivo, canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+
+    /**
+     * Chave do documento no índice, com ou sem máscara, ou -1 quando o tipo não é indexado ou o documento
+     * não tem o formato do tipo. Os DVs não entram na chave: quem consulta já sabe se o documento é válido.
+     */
+    public static long chave(String tipoDocumento, CharSequence documento) {
+        return switch (tipoDocumento) {
+            case "CPF" -> {
+                long numero = ModuloPonderado.numero(documento, DigitosCpf.TAMANHO);
+                yield numero < 0 ? -1 : DESLOCAMENTO_CPF + numero / 100;
+            }
+            case "CNPJ" -> DigitosCnpj.chave(documento);
+            default -> -1;
+        };
+    }
+
+    public static boolean indexado(String tipoDocumento) {
+        return tipoDocumento.equals("CPF") || tipoDocumento.equals("CNPJ");
+    }
+
+    /**
+     * Se a chave está no índice. Chaves negativas (documento fora do formato) nunca estão.
+     */
+    public boolean contem(long chave) {
+        if (chave < 0 || (filtro.capacity() > 0 && !talvezContenha(chave))) return false;
+
+        int n = quantidade;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (chaves.get(k - 1) < chave ? 1 : 0);
+        }
+        // desfaz as descidas à direita depois da última à esquerda: k passa a ser o menor nó >= chave
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && chaves.get(k - 1) == chave;
+    }
+
+    private boolean talvezContenha(long chave) {
+        long hash = misturar(chave);
+        long passo = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++, hash += passo) {
+            long bit = hash & mascaraFiltro;
+            if ((filtro.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    // finalizador do MurmurHash3 (64 bits): chaves próximas viram hashes independentes
+    static long misturar(long chave) {
+        long h = chave;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    public Instant getCarregadoEm() {
+        return carregadoEm;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public long getBitsFiltro() {
+        return filtro.capacity() * (long) Long.SIZE;
+    }
+}
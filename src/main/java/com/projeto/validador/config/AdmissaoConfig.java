@@ -0,0 +1,39 @@
+package com.projeto.validador.config;
+
+import com.projeto.validador.admissao.ControleAdmissao;
+import com.projeto.validador.admissao.FiltroAdmissao;
+import com.projeto.validador.admissao.PropriedadesAdmissao;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(PropriedadesAdmissao.class)
+public class AdmissaoConfig {
+
+    @Bean
+    ControleAdmissao controleAdmissao(PropriedadesAdmissao propriedades, MeterRegistry registry) {
+        return new ControleAdmissao(propriedades, registry);
+    }
+
+    /**
+     * Primeiro filtro da cadeia: a requisição rejeitada não passa por mais nada. Sem
+     * {@code validador.admissao.habilitado}, o filtro não é registrado no servidor. A decisão é tomada ao subir,
+     * não por condição de bean, para valer também no build com AOT.
+     */
+    @Bean
+    FilterRegistrationBean<FiltroAdmissao> filtroAdmissao(ControleAdmissao controleAdmissao, PropriedadesAdmissao propriedades) {
+        FilterRegistrationBean<FiltroAdmissao> registro =
+                new FilterRegistrationBean<>(new FiltroAdmissao(controleAdmissao, propriedades.confiarXForwardedFor()));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registro.setAsyncSupported(true);
+        registro.setEnabled(propriedades.habilitado());
+        return registro;
+    }
+
+}
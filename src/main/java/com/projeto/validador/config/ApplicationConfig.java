@@ -1,11 +1,20 @@
 package com.projeto.validador.config;
 
+import com.projeto.validador.aquecimento.MarcaAquecimento;
+import com.projeto.validador.dto.ErrorResponse;
+import com.projeto.validador.dto.ResultadoLinhaLote;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
 
+// DTOs serializados pelo Jackson a partir dos getters gerados pelo Lombok: na imagem nativa
+// precisam de hints de reflexão, já que não aparecem como tipo de retorno dos controllers
 @Configuration
+@RegisterReflectionForBinding({ErrorResponse.class, ResultadoLinhaLote.class})
 public class ApplicationConfig {
 
     @Bean
@@ -13,4 +22,16 @@ public class ApplicationConfig {
         return registry -> registry.config().commonTags("application", "validador-temp");
     }
 
+    // requisições do aquecimento do JIT à própria porta ficam fora de http.server.requests
+    @Bean
+    ObservationPredicate ignorarAquecimento() {
+        return (nome, contexto) -> switch (contexto) {
+            case ServerRequestObservationContext servlet ->
+                    !MarcaAquecimento.confere(servlet.getCarrier().getHeader(MarcaAquecimento.CABECALHO));
+            case org.springframework.http.server.reactive.observation.ServerRequestObservationContext reativo ->
+                    !MarcaAquecimento.confere(reativo.getCarrier().getHeaders().getFirst(MarcaAquecimento.CABECALHO));
+            default -> true;
+        };
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.projeto.validador.config;
+
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.auditoria.PropriedadesAuditoria;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(PropriedadesAuditoria.class)
+public class AuditoriaConfig {
+
+    /**
+     * Sem {@code validador.auditoria.habilitado}, a auditoria não abre arquivo nem sobe o gravador.
+     */
+    @Bean
+    AuditoriaValidacao auditoriaValidacao(PropriedadesAuditoria propriedades, MeterRegistry registry) throws IOException {
+        return propriedades.habilitado() ? new AuditoriaValidacao(propriedades, registry) : AuditoriaValidacao.desabilitada();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.projeto.validador.config;
+
+import com.projeto.validador.diagnostico.EventoEtapaValidacao;
+import com.projeto.validador.dto.ResultadoValidacao;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve {@link ResultadoValidacao} a partir dos bytes pré-codificados, na frente do Jackson e do
+ * conversor de String (o Spring Boot coloca os conversores declarados como bean antes dos padrão).
+ * Texto vem primeiro nos tipos suportados, então continua sendo a resposta sem {@code Accept}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ConversorResultadoValidacao extends AbstractHttpMessageConverter<ResultadoValidacao> {
+
+    static final MediaType TEXTO = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    public ConversorResultadoValidacao() {
+        super(TEXTO, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResultadoValidacao.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ResultadoValidacao readInternal(Class<? extends ResultadoValidacao> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ResultadoValidacao é apenas de resposta", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ResultadoValidacao resultado, HttpOutputMessage outputMessage) throws IOException {
+        EventoEtapaValidacao evento = new EventoEtapaValidacao();
+        evento.begin();
+        boolean json = json(outputMessage.getHeaders().getContentType());
+        byte[] corpo = json ? resultado.jsonUtf8() : resultado.textoUtf8();
+        outputMessage.getHeaders().setContentLength(corpo.length);
+        outputMessage.getBody().write(corpo);
+        evento.terminar(EventoEtapaValidacao.SERIALIZACAO, resultado.getTipo(), json ? "json" : "texto");
+    }
+
+    static boolean json(MediaType contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType);
+    }
+}
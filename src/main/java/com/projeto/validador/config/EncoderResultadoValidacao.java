@@ -0,0 +1,46 @@
+package com.projeto.validador.config;
+
+import com.projeto.validador.diagnostico.EventoEtapaValidacao;
+import com.projeto.validador.dto.ResultadoValidacao;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+/**
+ * Equivalente reativo de {@link ConversorResultadoValidacao}, registrado em {@link ReativoConfig}.
+ */
+public class EncoderResultadoValidacao extends AbstractEncoder<ResultadoValidacao> {
+
+    public EncoderResultadoValidacao() {
+        super(ConversorResultadoValidacao.TEXTO, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return ResultadoValidacao.class == elementType.toClass() && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends ResultadoValidacao> resultados, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(resultados).map(resultado -> encodeValue(resultado, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(ResultadoValidacao resultado, DataBufferFactory bufferFactory,
+                                  ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        EventoEtapaValidacao evento = new EventoEtapaValidacao();
+        evento.begin();
+        boolean json = mimeType != null && MediaType.APPLICATION_JSON.isCompatibleWith(mimeType);
+        DataBuffer buffer = bufferFactory.wrap(json ? resultado.jsonUtf8() : resultado.textoUtf8());
+        evento.terminar(EventoEtapaValidacao.SERIALIZACAO, resultado.getTipo(), json ? "json" : "texto");
+        return buffer;
+    }
+}
@@ -0,0 +1,27 @@
+package com.projeto.validador.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReativoConfig {
+
+    /**
+     * Com Tomcat e Netty no classpath o Spring Boot escolhe o Tomcat também para a aplicação reativa.
+     * Declarar a factory força o Netty, que atende as conexões com poucas threads de event loop.
+     */
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    CodecCustomizer encoderResultadoValidacao() {
+        return configurer -> configurer.customCodecs().register(new EncoderResultadoValidacao());
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.projeto.validador.controller;
+
+import com.projeto.validador.service.FormatadorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Sem dependência da pilha web: atende tanto no modo servlet quanto no reativo.
+ */
+@RestController
+@RequestMapping("/v1/formatar")
+@RequiredArgsConstructor
+public class FormatadorController {
+
+    private final FormatadorService formatadorService;
+
+    @GetMapping
+    public ResponseEntity<String> formatar(@RequestParam String documento,
+                                           @RequestParam(defaultValue = "true") boolean mascara) {
+        return ResponseEntity.ok().body(formatadorService.formatar(documento, mascara));
+    }
+}
@@ -0,0 +1,48 @@
+package com.projeto.validador.controller;
+
+import com.projeto.validador.domain.GeradorDocumentos;
+import com.projeto.validador.service.GeradorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@RestController
+@RequestMapping("/v1/gerador")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GeradorController {
+
+    private final GeradorService geradorService;
+
+    @GetMapping("/dv")
+    public ResponseEntity<String> dv(@RequestParam GeradorDocumentos.Tipo tipo, @RequestParam String base) {
+        return ResponseEntity.ok().body(geradorService.dvs(tipo, base));
+    }
+
+    /**
+     * Gera {@code quantidade} documentos em streaming, um por linha. A semente usada volta no header
+     * {@code X-Semente}; repetir a chamada com ela reproduz exatamente a mesma sequência.
+     */
+    @GetMapping(value = "/documentos", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> documentos(@RequestParam GeradorDocumentos.Tipo tipo,
+                                                            @RequestParam long quantidade,
+                                                            @RequestParam(defaultValue = "true") boolean validos,
+                                                            @RequestParam(defaultValue = "false") boolean alfanumerico,
+                                                            @RequestParam(required = false) Long semente) {
+        geradorService.validarQuantidade(quantidade);
+        long sementeUsada = semente != null ? semente : ThreadLocalRandom.current().nextLong();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header("X-Semente", Long.toString(sementeUsada))
+                .body(saida -> geradorService.gerar(tipo, quantidade, validos, alfanumerico, sementeUsada, saida));
+    }
+}
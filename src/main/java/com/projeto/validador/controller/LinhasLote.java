@@ -0,0 +1,79 @@
+package com.projeto.validador.controller;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa o corpo do lote reativo em linhas ({@code \n} ou {@code \r\n}) numeradas a partir de 1, sem juntar
+ * o corpo em memória. Como no lote servlet, os bytes de uma linha acima do tamanho máximo são descartados
+ * conforme chegam, e a linha é entregue como {@link Linha#longa()} para ser reportada, com o lote seguindo
+ * na próxima. Cada buffer é liberado assim que lido.
+ */
+final class LinhasLote {
+
+    /**
+     * Linha do lote; {@code conteudo} é {@code null} quando ela passou do tamanho máximo.
+     */
+    record Linha(long numero, String conteudo) {
+
+        boolean longa() {
+            return conteudo == null;
+        }
+    }
+
+    private final byte[] bytes;
+    private int tamanho;
+    private boolean longa;
+    private long numero;
+
+    private LinhasLote(int tamanhoMaximo) {
+        // até 3 bytes UTF-8 por caractere, mais o \r; o limite em caracteres é conferido depois de decodificar
+        this.bytes = new byte[3 * tamanhoMaximo + 1];
+    }
+
+    static Flux<Linha> de(Flux<DataBuffer> corpo, int tamanhoMaximo) {
+        return Flux.defer(() -> {
+            LinhasLote linhas = new LinhasLote(tamanhoMaximo);
+            return corpo.concatMapIterable(linhas::ler)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(linhas.terminar())));
+        });
+    }
+
+    private List<Linha> ler(DataBuffer buffer) {
+        List<Linha> lidas = new ArrayList<>();
+        try {
+            while (buffer.readableByteCount() > 0) {
+                byte b = buffer.read();
+                if (b == '\n') {
+                    lidas.add(fechar());
+                } else if (tamanho < bytes.length) {
+                    bytes[tamanho++] = b;
+                } else {
+                    longa = true;
+                }
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return lidas;
+    }
+
+    // última linha, sem quebra no fim do corpo
+    private List<Linha> terminar() {
+        return tamanho > 0 || longa ? List.of(fechar()) : List.of();
+    }
+
+    private Linha fechar() {
+        numero++;
+        int fim = tamanho > 0 && bytes[tamanho - 1] == '\r' ? tamanho - 1 : tamanho;
+        Linha linha = new Linha(numero, longa ? null : new String(bytes, 0, fim, StandardCharsets.UTF_8));
+        tamanho = 0;
+        longa = false;
+        return linha;
+    }
+}
@@ -0,0 +1,86 @@
+package com.projeto.validador.controller;
+
+import com.projeto.validador.dto.SituacaoTrabalho;
+import com.projeto.validador.trabalho.FilaTrabalhos;
+import com.projeto.validador.trabalho.Trabalho;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/v1/trabalhos")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TrabalhoController {
+
+    // sendfile do Tomcat (conector NIO): o arquivo vai do page cache para o socket sem passar pela JVM
+    private static final String SENDFILE_SUPORTADO = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_ARQUIVO = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FIM = "org.apache.tomcat.sendfile.end";
+
+    private final FilaTrabalhos filaTrabalhos;
+
+    /**
+     * Recebe um documento por linha, grava em disco e responde 202 com o id do trabalho, antes da validação.
+     */
+    @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<SituacaoTrabalho> submeter(HttpServletRequest request) throws IOException {
+        Trabalho trabalho = filaTrabalhos.submeter(request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/trabalhos/" + trabalho.getId()))
+                .body(SituacaoTrabalho.de(trabalho));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SituacaoTrabalho> situacao(@PathVariable String id) {
+        return ResponseEntity.ok().body(SituacaoTrabalho.de(filaTrabalhos.buscar(id)));
+    }
+
+    /**
+     * Resultados já gravados, no formato {@code linha;tipo;valido|invalido} ou {@code linha;;motivo}. Com o
+     * trabalho em andamento vem o que foi processado até agora; o estado vai no header {@code X-Trabalho-Estado}.
+     */
+    @GetMapping("/{id}/resultado")
+    public void resultado(@PathVariable String id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Trabalho trabalho = filaTrabalhos.buscar(id);
+        // estado antes do progresso: CONCLUIDO aqui garante que o progresso lido já é o final. Os bytes até
+        // o progresso já estão gravados e não mudam mais, mesmo com o trabalho em andamento
+        String estado = trabalho.getEstado().name();
+        long tamanho = trabalho.getProgresso().bytesResultado();
+
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+        response.setHeader("X-Trabalho-Estado", estado);
+        response.setContentLengthLong(tamanho);
+        if (tamanho == 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPORTADO))) {
+            request.setAttribute(SENDFILE_ARQUIVO, trabalho.resultado().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_INICIO, 0L);
+            request.setAttribute(SENDFILE_FIM, tamanho);
+            return;
+        }
+
+        try (FileChannel arquivo = FileChannel.open(trabalho.resultado(), StandardOpenOption.READ)) {
+            WritableByteChannel destino = Channels.newChannel(response.getOutputStream());
+            for (long enviado = 0; enviado < tamanho; ) {
+                enviado += arquivo.transferTo(enviado, tamanho - enviado, destino);
+            }
+        }
+    }
+}
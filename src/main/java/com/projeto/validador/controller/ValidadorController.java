@@ -1,27 +1,94 @@
 package com.projeto.validador.controller;
 
+import com.projeto.validador.aquecimento.MarcaAquecimento;
+import com.projeto.validador.binario.CodecLoteBinario;
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
 import com.projeto.validador.service.ValidadorService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/v1/validar")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ValidadorController {
 
     private final ValidadorService validadorService;
+    private final ValidadorLoteService validadorLoteService;
+    private final CodecLoteBinario codecLoteBinario;
 
+    /**
+     * Texto ({@code " CNPJ valido"}) por padrão ou JSON com {@code Accept: application/json}, ambos
+     * escritos a partir de bytes já codificados (ver {@link ResultadoValidacao}).
+     */
     @GetMapping("/cnpj")
-    public ResponseEntity<String> cnpj(@RequestParam String documento) {
-        return ResponseEntity.ok().body(validadorService.validar(documento));
+    public ResponseEntity<ResultadoValidacao> cnpj(@RequestParam String documento,
+                                                   @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, "CNPJ", !MarcaAquecimento.confere(aquecimento)));
     }
 
     @GetMapping("/cpf")
-    public ResponseEntity<String> cpf(@RequestParam String documento) {
-        return ResponseEntity.ok().body(validadorService.validar(documento));
+    public ResponseEntity<ResultadoValidacao> cpf(@RequestParam String documento,
+                                                  @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, "CPF", !MarcaAquecimento.confere(aquecimento)));
+    }
+
+    /**
+     * Qualquer tipo registrado ({@code pis}, {@code cnh}, {@code renavam}, {@code titulo_eleitor}...),
+     * sem diferenciar maiúsculas. Tipo desconhecido ou tamanho diferente do tipo dá 400.
+     */
+    @GetMapping("/{tipo}")
+    public ResponseEntity<ResultadoValidacao> documento(@PathVariable String tipo, @RequestParam String documento,
+                                                        @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, tipo.toUpperCase(Locale.ROOT),
+                !MarcaAquecimento.confere(aquecimento)));
+    }
+
+    /**
+     * Valida um documento por linha. O corpo é lido e a resposta é escrita de forma incremental,
+     * sem carregar o lote inteiro em memória.
+     */
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> loteNdjson(HttpServletRequest request) throws IOException {
+        InputStream entrada = request.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(saida -> validadorLoteService.validarNdjson(entrada, saida));
+    }
+
+    @PostMapping(value = "/lote", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> loteTexto(HttpServletRequest request) throws IOException {
+        InputStream entrada = request.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(saida -> validadorLoteService.validarTexto(entrada, saida));
+    }
+
+    /**
+     * Lote no formato binário de {@link CodecLoteBinario}: documentos prefixados pelo tamanho na
+     * requisição e bitset de validade com códigos de tipo na resposta.
+     */
+    @PostMapping(value = "/lote", consumes = CodecLoteBinario.MEDIA_TYPE, produces = CodecLoteBinario.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> loteBinario(HttpServletRequest request) throws IOException {
+        InputStream entrada = request.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CodecLoteBinario.MEDIA_TYPE))
+                .body(saida -> codecLoteBinario.validar(entrada, saida));
     }
 }
@@ -0,0 +1,99 @@
+package com.projeto.validador.controller;
+
+import com.projeto.validador.aquecimento.MarcaAquecimento;
+import com.projeto.validador.dto.ResultadoLinhaLote;
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import com.projeto.validador.service.ValidadorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Locale;
+
+/**
+ * Mesmo contrato de {@link ValidadorController} sobre WebFlux, ativo no perfil {@code reativo}.
+ *
+ * O lote é um {@code Flux} do corpo da requisição até a resposta: as linhas só são lidas conforme
+ * o cliente consome os resultados, então um cliente lento segura o envio em vez de acumular
+ * resultados em memória, e nenhuma thread fica presa esperando o corpo. A validação em si é
+ * CPU pura e curta, por isso roda direto no event loop. Uma linha acima de
+ * {@code validador.lote.tamanho-maximo-linha} é reportada na sua posição, sem ser guardada ({@link LinhasLote}).
+ */
+@RestController
+@RequestMapping("/v1/validar")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ValidadorReativoController {
+
+    private final ValidadorService validadorService;
+    private final ValidadorLoteService validadorLoteService;
+
+    /**
+     * Texto ({@code " CNPJ valido"}) por padrão ou JSON com {@code Accept: application/json}, ambos
+     * escritos a partir de bytes já codificados (ver {@link ResultadoValidacao}).
+     */
+    @GetMapping("/cnpj")
+    public ResponseEntity<ResultadoValidacao> cnpj(@RequestParam String documento,
+                                                   @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, "CNPJ", !MarcaAquecimento.confere(aquecimento)));
+    }
+
+    @GetMapping("/cpf")
+    public ResponseEntity<ResultadoValidacao> cpf(@RequestParam String documento,
+                                                  @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, "CPF", !MarcaAquecimento.confere(aquecimento)));
+    }
+
+    /**
+     * Qualquer tipo registrado ({@code pis}, {@code cnh}, {@code renavam}, {@code titulo_eleitor}...),
+     * sem diferenciar maiúsculas. Tipo desconhecido ou tamanho diferente do tipo dá 400.
+     */
+    @GetMapping("/{tipo}")
+    public ResponseEntity<ResultadoValidacao> documento(@PathVariable String tipo, @RequestParam String documento,
+                                                        @RequestHeader(name = MarcaAquecimento.CABECALHO, required = false) String aquecimento) {
+        return ResponseEntity.ok().body(validadorService.avaliar(documento, tipo.toUpperCase(Locale.ROOT),
+                !MarcaAquecimento.confere(aquecimento)));
+    }
+
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResultadoLinhaLote> loteNdjson(ServerHttpRequest request) {
+        return linhas(request).mapNotNull(linha -> validarLinha(linha, true));
+    }
+
+    @PostMapping(value = "/lote", consumes = MediaType.TEXT_PLAIN_VALUE, produces = MediaType.TEXT_PLAIN_VALUE)
+    public Flux<String> loteTexto(ServerHttpRequest request) {
+        return linhas(request)
+                .mapNotNull(linha -> validarLinha(linha, false))
+                .map(ValidadorReativoController::texto);
+    }
+
+    private Flux<LinhasLote.Linha> linhas(ServerHttpRequest request) {
+        return LinhasLote.de(request.getBody(), validadorLoteService.getTamanhoMaximoLinha());
+    }
+
+    private ResultadoLinhaLote validarLinha(LinhasLote.Linha linha, boolean ndjson) {
+        if (linha.longa()) {
+            return validadorLoteService.linhaLonga(linha.numero());
+        }
+        return validadorLoteService.validarLinha(linha.numero(), linha.conteudo(), ndjson);
+    }
+
+    // mesmo formato de ValidadorLoteService#validarTexto: linha;tipo;valido|invalido ou linha;;motivo
+    private static String texto(ResultadoLinhaLote resultado) {
+        if (resultado.getErro() != null) {
+            return resultado.getLinha() + ";;" + resultado.getErro() + "\n";
+        }
+        return resultado.getLinha() + ";" + resultado.getTipo() + ";" + (resultado.isValido() ? "valido" : "invalido") + "\n";
+    }
+}
@@ -0,0 +1,59 @@
+package com.projeto.validador.diagnostico;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JDK Flight Recorder com a duração de uma etapa da validação de um documento.
+ *
+ * Desligado por padrão: fora de uma gravação que o habilite (ver {@link JfrEndpoint}), {@link #shouldCommit()}
+ * é falso, nenhum campo é preenchido e o JIT elimina a alocação do evento. O uso é sempre
+ * {@code new}, {@link #begin()} antes da etapa e {@link #terminar} depois dela.
+ */
+@Name(EventoEtapaValidacao.NOME)
+@Label("Etapa da validação")
+@Description("Duração de uma etapa da validação de documento, com tipo e desfecho")
+@Category("Validador")
+@Enabled(false)
+@StackTrace(false)
+public class EventoEtapaValidacao extends Event {
+
+    public static final String NOME = "com.projeto.validador.EtapaValidacao";
+
+    /** Escolha do validador na factory, pelo tipo declarado ou pelo tamanho. */
+    public static final String RESOLUCAO = "resolucao";
+    /** Regra do tipo de documento (cálculo ou cache dos DVs). */
+    public static final String REGRA = "regra";
+    /** Consulta ao índice do cadastro. */
+    public static final String CADASTRO = "cadastro";
+    /** Resposta de erro montada pelo handler de exceções. */
+    public static final String REJEICAO = "rejeicao";
+    /** Escrita do resultado no corpo da resposta. */
+    public static final String SERIALIZACAO = "serializacao";
+
+    @Label("Etapa")
+    String etapa;
+
+    @Label("Tipo de documento")
+    String tipo;
+
+    @Label("Desfecho")
+    String desfecho;
+
+    /**
+     * Fecha o evento, preenchendo os campos só quando ele vai ser gravado.
+     */
+    public void terminar(String etapa, String tipo, String desfecho) {
+        if (shouldCommit()) {
+            this.etapa = etapa;
+            this.tipo = tipo;
+            this.desfecho = desfecho;
+            commit();
+        }
+    }
+}
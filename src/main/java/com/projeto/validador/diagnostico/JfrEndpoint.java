@@ -0,0 +1,148 @@
+package com.projeto.validador.diagnostico;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Gravação do JDK Flight Recorder sob demanda, sem reiniciar a aplicação nem anexar agentes:
+ *
+ * - {@code POST /actuator/jfr?duracao=30s} inicia uma gravação com a configuração {@code validador.jfr.configuracao}
+ *   do JDK e os eventos {@link EventoEtapaValidacao} habilitados;
+ * - {@code GET /actuator/jfr} mostra a gravação atual;
+ * - {@code DELETE /actuator/jfr} para a gravação, se ainda estiver em andamento, e devolve o arquivo {@code .jfr}.
+ *
+ * A gravação é limitada: a duração pedida não passa de {@code validador.jfr.duracao-maxima}, depois da qual ela
+ * para sozinha e grava o arquivo, e os dados em disco não passam de {@code validador.jfr.tamanho-maximo}. Só
+ * existe uma gravação por vez, e o arquivo de uma gravação é apagado quando a próxima começa.
+ *
+ * As variáveis de ambiente e as propriedades de sistema ficam fora da gravação, mesmo que a configuração do JDK
+ * as habilite: entre elas está a chave do HMAC da auditoria. Ainda assim o endpoint não é exposto por HTTP por
+ * padrão, já que não tem autenticação.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final Duration duracaoMaxima;
+    private final DataSize tamanhoMaximo;
+    private final String configuracao;
+    private final Path diretorio;
+
+    private Recording gravacao;
+    private Path arquivo;
+
+    public JfrEndpoint(@Value("${validador.jfr.duracao-maxima:5m}") Duration duracaoMaxima,
+                       @Value("${validador.jfr.tamanho-maximo:200MB}") DataSize tamanhoMaximo,
+                       @Value("${validador.jfr.configuracao:profile}") String configuracao,
+                       @Value("${validador.jfr.diretorio:${java.io.tmpdir}/validador-jfr}") Path diretorio) {
+        this.duracaoMaxima = duracaoMaxima;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.configuracao = configuracao;
+        this.diretorio = diretorio;
+        if (FlightRecorder.isAvailable()) {
+            // visível para gravações iniciadas fora do endpoint (jcmd JFR.start), que podem habilitá-lo pelo nome
+            FlightRecorder.register(EventoEtapaValidacao.class);
+        }
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> situacao() {
+        Map<String, Object> situacao = new LinkedHashMap<>();
+        situacao.put("disponivel", FlightRecorder.isAvailable());
+        situacao.put("estado", gravacao == null ? "SEM_GRAVACAO" : gravacao.getState().name());
+        if (gravacao != null) {
+            situacao.put("inicio", String.valueOf(gravacao.getStartTime()));
+            situacao.put("duracao", String.valueOf(gravacao.getDuration()));
+            situacao.put("tamanho", gravacao.getSize());
+        }
+        return situacao;
+    }
+
+    /**
+     * Inicia uma gravação de {@code duracao} (padrão e limite: {@code validador.jfr.duracao-maxima}). Responde 409
+     * quando já há uma em andamento.
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> iniciar(@Nullable Duration duracao)
+            throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(Map.of("erro", "JFR indisponível nesta JVM"), WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        if (gravacao != null && gravacao.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(situacao(), 409);
+        }
+
+        descartar();
+        Duration limite = duracao == null || duracao.compareTo(duracaoMaxima) > 0 ? duracaoMaxima : duracao;
+        Path destino = Files.createDirectories(diretorio).resolve("validador-" + Instant.now().toEpochMilli() + ".jfr");
+
+        Recording nova = new Recording(Configuration.getConfiguration(configuracao));
+        nova.setName("validador");
+        nova.enable(EventoEtapaValidacao.NOME).withThreshold(Duration.ZERO);
+        // segredos como VALIDADOR_AUDITORIA_CHAVE não podem sair no arquivo
+        nova.disable("jdk.InitialEnvironmentVariable");
+        nova.disable("jdk.InitialSystemProperty");
+        nova.setToDisk(true);
+        nova.setMaxSize(tamanhoMaximo.toBytes());
+        nova.setDuration(limite);
+        nova.setDestination(destino);
+        nova.start();
+        gravacao = nova;
+        arquivo = destino;
+        log.info("Gravação JFR iniciada por {} em {}", limite, destino);
+        return new WebEndpointResponse<>(situacao(), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Para a gravação (as que chegaram à duração já pararam sozinhas) e devolve o arquivo, ou 404 sem gravação.
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> parar() {
+        if (gravacao == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (gravacao.getState() == RecordingState.RUNNING || gravacao.getState() == RecordingState.DELAYED) {
+            // com destino definido, o stop grava o arquivo
+            gravacao.stop();
+        }
+        gravacao.close();
+        gravacao = null;
+        log.info("Gravação JFR encerrada: {}", arquivo);
+        return new WebEndpointResponse<>(new FileSystemResource(arquivo), WebEndpointResponse.STATUS_OK);
+    }
+
+    private void descartar() throws IOException {
+        if (gravacao != null) {
+            gravacao.close();
+            gravacao = null;
+        }
+        if (arquivo != null) {
+            Files.deleteIfExists(arquivo);
+            arquivo = null;
+        }
+    }
+}
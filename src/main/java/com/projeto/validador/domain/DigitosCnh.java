@@ -0,0 +1,31 @@
+package com.projeto.validador.domain;
+
+/**
+ * Número de registro da CNH: 9 dígitos de base e 2 DVs módulo 11, o primeiro com pesos 9 a 1 e o segundo
+ * com pesos 1 a 9, ambos sobre a base. Quando o resto do primeiro é 10, o DV é 0 e o segundo DV é
+ * descontado de 2; como no algoritmo de referência do Denatran, números em que o desconto deixaria o
+ * segundo DV negativo não são válidos. Números com todos os dígitos iguais são rejeitados.
+ */
+public final class DigitosCnh {
+
+    public static final int TAMANHO = 11;
+
+    private static final ModuloPonderado MODULO_DV1 = new ModuloPonderado(11, new int[]{9, 8, 7, 6, 5, 4, 3, 2, 1}, resto -> resto);
+    private static final ModuloPonderado MODULO_DV2 = new ModuloPonderado(11, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, resto -> resto);
+
+    private DigitosCnh() {
+    }
+
+    public static boolean valido(CharSequence entrada) {
+        long numero = ModuloPonderado.numero(entrada, TAMANHO);
+        if (numero < 0 || ModuloPonderado.digitosIguais(numero, TAMANHO)) return false;
+
+        long base = numero / 100;
+        int resto1 = MODULO_DV1.resto(base);
+        int dv1 = resto1 >= 10 ? 0 : resto1;
+        int desconto = resto1 >= 10 ? 2 : 0;
+        int resto2 = MODULO_DV2.resto(base);
+        int dv2 = resto2 >= 10 ? 0 : resto2 - desconto;
+        return dv1 == numero / 10 % 10 && dv2 == numero % 10;
+    }
+}
@@ -0,0 +1,222 @@
+package com.projeto.validador.domain;
+
+/**
+ * Cálculo dos dígitos verificadores do CNPJ alfanumérico em uma única passada,
+ * sem alocação: não usa regex, substring nem arrays temporários.
+ *
+ * Caracteres que não são letra ou número ASCII (pontos, barras, traços, espaços)
+ * são ignorados durante a varredura, e letras minúsculas são tratadas como maiúsculas,
+ * reproduzindo exatamente as regras de {@link RegrasCnpj#cnpjAlfanumericoValido(String)}.
+ */
+public final class DigitosCnpj {
+
+    public static final int TAMANHO = 14;
+    public static final int TAMANHO_BASE = 12;
+
+    // quantidade de chaves possíveis: 36^12 bases alfanuméricas
+    public static final long CHAVES = 4_738_381_338_321_616_896L;
+
+    // pesos do primeiro DV (12 posições) e do segundo DV (13 posições)
+    private static final int[] PESOS_DV1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_DV2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final int MASCARA = -1;
+
+    // valor de cada caractere ASCII no cálculo: (int) ch - 48, com minúsculas promovidas
+    private static final byte[] VALORES = new byte[128];
+
+    static {
+        for (int c = 0; c < VALORES.length; c++) {
+            VALORES[c] = MASCARA;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            VALORES[c] = (byte) (c - '0');
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            VALORES[c] = (byte) (c - '0');
+            VALORES[Character.toLowerCase(c)] = (byte) (c - '0');
+        }
+    }
+
+    private DigitosCnpj() {
+    }
+
+    public static boolean valido(CharSequence entrada) {
+        if (entrada == null) return false;
+        return valido(entrada, 0, entrada.length());
+    }
+
+    /**
+     * Valida o intervalo [inicio, fim) de {@code entrada}.
+     */
+    public static boolean valido(CharSequence entrada, int inicio, int fim) {
+        if (entrada == null) return false;
+
+        int posicao = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+        int dvInformado1 = 0;
+        int dvInformado2 = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            int valor = valor(entrada.charAt(i));
+            if (valor == MASCARA) continue;
+
+            if (posicao < TAMANHO_BASE) {
+                soma1 += valor * PESOS_DV1[posicao];
+                soma2 += valor * PESOS_DV2[posicao];
+            } else if (posicao < TAMANHO) {
+                // os 2 últimos devem ser numéricos (DVs)
+                if (valor > 9) return false;
+                if (posicao == TAMANHO_BASE) dvInformado1 = valor;
+                else dvInformado2 = valor;
+            } else {
+                return false;
+            }
+            posicao++;
+        }
+
+        return posicao == TAMANHO && confere(soma1, soma2, dvInformado1, dvInformado2);
+    }
+
+    /**
+     * Valida o intervalo [inicio, fim) de um buffer ASCII, sem decodificar para {@code String}.
+     */
+    public static boolean valido(byte[] entrada, int inicio, int fim) {
+        if (entrada == null) return false;
+
+        int posicao = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+        int dvInformado1 = 0;
+        int dvInformado2 = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            int valor = valor((char) (entrada[i] & 0xFF));
+            if (valor == MASCARA) continue;
+
+            if (posicao < TAMANHO_BASE) {
+                soma1 += valor * PESOS_DV1[posicao];
+                soma2 += valor * PESOS_DV2[posicao];
+            } else if (posicao < TAMANHO) {
+                if (valor > 9) return false;
+                if (posicao == TAMANHO_BASE) dvInformado1 = valor;
+                else dvInformado2 = valor;
+            } else {
+                return false;
+            }
+            posicao++;
+        }
+
+        return posicao == TAMANHO && confere(soma1, soma2, dvInformado1, dvInformado2);
+    }
+
+    /**
+     * Base (12 primeiros caracteres) do CNPJ normalizado como número em base 36 (0-9, A-Z), para uso
+     * como chave compacta: fica entre 0 e {@link #CHAVES} - 1. Retorna -1 quando a entrada não tem
+     * 14 caracteres alfanuméricos com os 2 últimos numéricos (casos que a regra já rejeita).
+     */
+    public static long chave(CharSequence entrada) {
+        if (entrada == null) return -1;
+
+        int posicao = 0;
+        long base = 0;
+        for (int i = 0; i < entrada.length(); i++) {
+            int valor = valor(entrada.charAt(i));
+            if (valor == MASCARA) continue;
+
+            if (posicao < TAMANHO_BASE) {
+                // letras valem de 17 (A) a 42 (Z) no cálculo; na chave ocupam 10 a 35
+                base = base * 36 + (valor > 9 ? valor - 7 : valor);
+            } else if (posicao >= TAMANHO || valor > 9) {
+                return -1;
+            }
+            posicao++;
+        }
+        return posicao == TAMANHO ? base : -1;
+    }
+
+    /**
+     * DVs informados em um CNPJ aceito por {@link #chave(CharSequence)}, como número de 0 a 99.
+     */
+    public static int dvsInformados(CharSequence entrada) {
+        int dvs = 0;
+        int multiplicador = 1;
+        for (int i = entrada.length() - 1; i >= 0 && multiplicador <= 10; i--) {
+            int valor = valor(entrada.charAt(i));
+            if (valor == MASCARA) continue;
+            dvs += valor * multiplicador;
+            multiplicador *= 10;
+        }
+        return dvs;
+    }
+
+    /**
+     * DVs calculados para a base devolvida por {@link #chave(CharSequence)}, como número de 0 a 99.
+     */
+    public static int calcularDvs(long chave) {
+        int soma1 = 0;
+        int soma2 = 0;
+        long restante = chave;
+        for (int i = TAMANHO_BASE - 1; i >= 0; i--) {
+            int digito = (int) (restante % 36);
+            restante /= 36;
+            int valor = digito > 9 ? digito + 7 : digito;
+            soma1 += valor * PESOS_DV1[i];
+            soma2 += valor * PESOS_DV2[i];
+        }
+        int dv1 = dv(soma1);
+        return dv1 * 10 + dv(soma2 + dv1 * PESOS_DV2[TAMANHO_BASE]);
+    }
+
+    /**
+     * DVs da base de 12 caracteres alfanuméricos (máscara ignorada, minúsculas aceitas), como número
+     * de 0 a 99, ou -1 quando a base não tem exatamente 12 caracteres alfanuméricos.
+     */
+    public static int calcularDvs(CharSequence base) {
+        if (base == null) return -1;
+
+        int posicao = 0;
+        long chave = 0;
+        for (int i = 0; i < base.length(); i++) {
+            int valor = valor(base.charAt(i));
+            if (valor == MASCARA) continue;
+            if (posicao++ == TAMANHO_BASE) return -1;
+            chave = chave * 36 + (valor > 9 ? valor - 7 : valor);
+        }
+        return posicao == TAMANHO_BASE ? calcularDvs(chave) : -1;
+    }
+
+    /**
+     * DVs da base de 12 caracteres ASCII alfanuméricos que começa em {@code inicio}, como número de 0 a 99.
+     * A base não é conferida: é para quem acabou de escrevê-la, como o {@link GeradorDocumentos}.
+     */
+    public static int calcularDvs(byte[] base, int inicio) {
+        int soma1 = 0;
+        int soma2 = 0;
+        for (int i = 0; i < TAMANHO_BASE; i++) {
+            int valor = VALORES[base[inicio + i]];
+            soma1 += valor * PESOS_DV1[i];
+            soma2 += valor * PESOS_DV2[i];
+        }
+        int dv1 = dv(soma1);
+        return dv1 * 10 + dv(soma2 + dv1 * PESOS_DV2[TAMANHO_BASE]);
+    }
+
+    private static boolean confere(int soma1, int soma2, int dvInformado1, int dvInformado2) {
+        int dv1 = dv(soma1);
+        // o segundo DV inclui o primeiro com peso 2 (última posição de PESOS_DV2)
+        int dv2 = dv(soma2 + dv1 * PESOS_DV2[TAMANHO_BASE]);
+        return dv1 == dvInformado1 && dv2 == dvInformado2;
+    }
+
+    private static int dv(int soma) {
+        int dv = 11 - soma % 11;
+        return dv >= 10 ? 0 : dv; // regra módulo 11 padrão para CNPJ
+    }
+
+    // valor do caractere no cálculo ou MASCARA para tudo que não seja [A-Za-z0-9]
+    private static int valor(char caractere) {
+        return caractere < VALORES.length ? VALORES[caractere] : MASCARA;
+    }
+}
@@ -0,0 +1,260 @@
+package com.projeto.validador.domain;
+
+/**
+ * Cálculo dos dígitos verificadores do CPF sem alocação: sem regex, streams nem
+ * {@code Character.getNumericValue}. O resto da divisão por 11 vem de uma tabela
+ * pré-calculada indexada pela soma ponderada.
+ *
+ * As regras são as mesmas de {@link RegrasCpf#cpfValido(String)}: exatamente 11 dígitos
+ * ASCII, sem máscara, e CPFs com todos os dígitos iguais são rejeitados.
+ */
+public final class DigitosCpf {
+
+    public static final int TAMANHO = 11;
+    public static final int TAMANHO_BASE = 9;
+
+    // pesos do primeiro DV e do segundo DV (este último recebe o primeiro DV com peso 2)
+    private static final int[] PESOS_DV1 = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_DV2 = {11, 10, 9, 8, 7, 6, 5, 4, 3};
+
+    // as mesmas regras sobre a base empacotada; o segundo DV pondera a base seguida do primeiro DV
+    private static final ModuloPonderado MODULO_DV1 = ModuloPonderado.modulo11(PESOS_DV1);
+    private static final ModuloPonderado MODULO_DV2 = ModuloPonderado.modulo11(11, 10, 9, 8, 7, 6, 5, 4, 3, 2);
+
+    // maior soma possível: 9 * (11 + 10 + ... + 3) + 9 * 2
+    private static final int SOMA_MAXIMA = 9 * 63 + 9 * 2;
+
+    // DV para cada soma ponderada: (soma * 10) % 11, com 10 virando 0
+    private static final byte[] DV_POR_SOMA = new byte[SOMA_MAXIMA + 1];
+
+    static {
+        for (int soma = 0; soma <= SOMA_MAXIMA; soma++) {
+            int dv = (soma * 10) % 11;
+            DV_POR_SOMA[soma] = (byte) (dv == 10 ? 0 : dv);
+        }
+    }
+
+    private DigitosCpf() {
+    }
+
+    public static boolean valido(CharSequence cpf) {
+        if (cpf == null || cpf.length() != TAMANHO) return false;
+
+        char primeiro = cpf.charAt(0);
+        int foraDaFaixa = 0;
+        int diferentes = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+
+        for (int i = 0; i < TAMANHO_BASE; i++) {
+            char c = cpf.charAt(i);
+            int d = c - '0';
+            foraDaFaixa |= d | (9 - d); // negativo se d não estiver em 0..9
+            diferentes |= c ^ primeiro;
+            soma1 += d * PESOS_DV1[i];
+            soma2 += d * PESOS_DV2[i];
+        }
+
+        char c9 = cpf.charAt(9);
+        char c10 = cpf.charAt(10);
+        int dvInformado1 = c9 - '0';
+        int dvInformado2 = c10 - '0';
+        foraDaFaixa |= dvInformado1 | (9 - dvInformado1) | dvInformado2 | (9 - dvInformado2);
+        diferentes |= (c9 ^ primeiro) | (c10 ^ primeiro);
+
+        // elimina entradas não numéricas e CPFs com todos dígitos iguais (ex: 11111111111)
+        if (foraDaFaixa < 0 || diferentes == 0) return false;
+
+        int dv1 = DV_POR_SOMA[soma1];
+        int dv2 = DV_POR_SOMA[soma2 + 2 * dv1];
+        return dv1 == dvInformado1 && dv2 == dvInformado2;
+    }
+
+    /**
+     * Como {@link #valido(CharSequence)}, mas ignorando a máscara: pontos, traços, espaços e qualquer
+     * outro caractere que não seja letra ou dígito ASCII. Letras tornam o CPF inválido.
+     */
+    public static boolean validoComMascara(CharSequence cpf) {
+        if (cpf == null) return false;
+
+        int posicao = 0;
+        int primeiro = 0;
+        int diferentes = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+        int dvInformado1 = 0;
+        int dvInformado2 = 0;
+
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) return false;
+                continue;
+            }
+
+            int d = c - '0';
+            if (posicao == 0) primeiro = d;
+            diferentes |= d ^ primeiro;
+            if (posicao < TAMANHO_BASE) {
+                soma1 += d * PESOS_DV1[posicao];
+                soma2 += d * PESOS_DV2[posicao];
+            } else if (posicao == TAMANHO_BASE) {
+                dvInformado1 = d;
+            } else if (posicao == TAMANHO_BASE + 1) {
+                dvInformado2 = d;
+            } else {
+                return false;
+            }
+            posicao++;
+        }
+
+        if (posicao != TAMANHO || diferentes == 0) return false;
+
+        int dv1 = DV_POR_SOMA[soma1];
+        int dv2 = DV_POR_SOMA[soma2 + 2 * dv1];
+        return dv1 == dvInformado1 && dv2 == dvInformado2;
+    }
+
+    /**
+     * Base (9 primeiros dígitos) do CPF como número, para uso como chave compacta, ou -1 quando a
+     * entrada não tem 11 dígitos ASCII ou tem todos os dígitos iguais (casos que a regra já rejeita).
+     */
+    public static long chave(CharSequence cpf) {
+        if (cpf == null || cpf.length() != TAMANHO) return -1;
+
+        char primeiro = cpf.charAt(0);
+        int foraDaFaixa = 0;
+        int diferentes = 0;
+        long base = 0;
+        for (int i = 0; i < TAMANHO; i++) {
+            char c = cpf.charAt(i);
+            int d = c - '0';
+            foraDaFaixa |= d | (9 - d);
+            diferentes |= c ^ primeiro;
+            if (i < TAMANHO_BASE) base = base * 10 + d;
+        }
+        return foraDaFaixa < 0 || diferentes == 0 ? -1 : base;
+    }
+
+    /**
+     * DVs informados em um CPF aceito por {@link #chave(CharSequence)}, como número de 0 a 99.
+     */
+    public static int dvsInformados(CharSequence cpf) {
+        return (cpf.charAt(9) - '0') * 10 + (cpf.charAt(10) - '0');
+    }
+
+    /**
+     * DVs calculados para a base devolvida por {@link #chave(CharSequence)}, como número de 0 a 99.
+     */
+    public static int calcularDvs(long chave) {
+        int dv1 = MODULO_DV1.dv(chave);
+        return dv1 * 10 + MODULO_DV2.dv(chave * 10 + dv1);
+    }
+
+    /**
+     * DVs da base de 9 dígitos (máscara ignorada), como número de 0 a 99, ou -1 quando a base não
+     * tem exatamente 9 dígitos ou contém letras.
+     */
+    public static int calcularDvs(CharSequence base) {
+        if (base == null) return -1;
+
+        int digitos = 0;
+        long chave = 0;
+        for (int i = 0; i < base.length(); i++) {
+            char c = base.charAt(i);
+            if (c < '0' || c > '9') {
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) return -1;
+                continue;
+            }
+            if (digitos++ == TAMANHO_BASE) return -1;
+            chave = chave * 10 + (c - '0');
+        }
+        return digitos == TAMANHO_BASE ? calcularDvs(chave) : -1;
+    }
+
+    /**
+     * DVs da base de 9 dígitos ASCII que começa em {@code inicio}, como número de 0 a 99. A base não é
+     * conferida: é para quem acabou de escrevê-la, como o {@link GeradorDocumentos}.
+     */
+    public static int calcularDvs(byte[] base, int inicio) {
+        int soma1 = 0;
+        int soma2 = 0;
+        for (int i = 0; i < TAMANHO_BASE; i++) {
+            int d = base[inicio + i] - '0';
+            soma1 += d * PESOS_DV1[i];
+            soma2 += d * PESOS_DV2[i];
+        }
+        int dv1 = DV_POR_SOMA[soma1];
+        return dv1 * 10 + DV_POR_SOMA[soma2 + 2 * dv1];
+    }
+
+    /**
+     * Valida cada posição de {@code cpfs} em {@code resultado}.
+     */
+    public static void validar(CharSequence[] cpfs, boolean[] resultado) {
+        if (cpfs.length > resultado.length) {
+            throw new IllegalArgumentException("Resultado menor que a quantidade de CPFs: " + resultado.length);
+        }
+        for (int i = 0; i < cpfs.length; i++) {
+            resultado[i] = valido(cpfs[i]);
+        }
+    }
+
+    /**
+     * Valida {@code quantidade} CPFs de largura fixa (11 bytes ASCII) em {@code dados}, a partir de
+     * {@code offset}, com {@code passo} bytes entre o início de um registro e o do seguinte
+     * (11 para registros contíguos, 12 para registros separados por quebra de linha).
+     *
+     * O laço não tem desvios por registro além da escrita do resultado, o que permite ao JIT
+     * desenrolar e manter tudo em registradores.
+     */
+    public static void validar(byte[] dados, int offset, int passo, int quantidade, boolean[] resultado) {
+        if (passo < TAMANHO) {
+            throw new IllegalArgumentException("Passo menor que o tamanho do CPF: " + passo);
+        }
+        if (quantidade > resultado.length) {
+            throw new IllegalArgumentException("Resultado menor que a quantidade de CPFs: " + resultado.length);
+        }
+        int fim = offset + (quantidade - 1) * passo + TAMANHO;
+        if (quantidade > 0 && (offset < 0 || fim > dados.length)) {
+            throw new IndexOutOfBoundsException("Lote excede o buffer: " + fim + " > " + dados.length);
+        }
+
+        for (int r = 0, inicio = offset; r < quantidade; r++, inicio += passo) {
+            resultado[r] = valido(dados, inicio);
+        }
+    }
+
+    /**
+     * Valida o CPF de 11 bytes ASCII que começa em {@code inicio}.
+     */
+    public static boolean valido(byte[] dados, int inicio) {
+        int primeiro = dados[inicio];
+        int foraDaFaixa = 0;
+        int diferentes = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+
+        for (int i = 0; i < TAMANHO_BASE; i++) {
+            int c = dados[inicio + i];
+            int d = c - '0';
+            foraDaFaixa |= d | (9 - d);
+            diferentes |= c ^ primeiro;
+            soma1 += d * PESOS_DV1[i];
+            soma2 += d * PESOS_DV2[i];
+        }
+
+        int c9 = dados[inicio + 9];
+        int c10 = dados[inicio + 10];
+        int dvInformado1 = c9 - '0';
+        int dvInformado2 = c10 - '0';
+        foraDaFaixa |= dvInformado1 | (9 - dvInformado1) | dvInformado2 | (9 - dvInformado2);
+        diferentes |= (c9 ^ primeiro) | (c10 ^ primeiro);
+
+        // com entradas fora da faixa as somas podem sair da tabela: zera o índice antes do acesso
+        int numerico = ~(foraDaFaixa >> 31) & 1;
+        int dv1 = DV_POR_SOMA[soma1 * numerico];
+        int dv2 = DV_POR_SOMA[(soma2 + 2 * dv1) * numerico];
+        return numerico == 1 & diferentes != 0 & dv1 == dvInformado1 & dv2 == dvInformado2;
+    }
+}
@@ -0,0 +1,25 @@
+package com.projeto.validador.domain;
+
+/**
+ * PIS/PASEP/NIS/NIT: 10 dígitos de base e um DV módulo 11 com pesos 3, 2, 9, 8, ..., 2. Números com
+ * todos os dígitos iguais são rejeitados.
+ */
+public final class DigitosPis {
+
+    public static final int TAMANHO = 11;
+
+    private static final ModuloPonderado MODULO = ModuloPonderado.modulo11(3, 2, 9, 8, 7, 6, 5, 4, 3, 2);
+
+    private DigitosPis() {
+    }
+
+    /**
+     * Valida o PIS com ou sem máscara (ex: 123.45678.91-9).
+     */
+    public static boolean valido(CharSequence entrada) {
+        long numero = ModuloPonderado.numero(entrada, TAMANHO);
+        return numero >= 0
+                && !ModuloPonderado.digitosIguais(numero, TAMANHO)
+                && MODULO.dv(numero / 10) == numero % 10;
+    }
+}
@@ -0,0 +1,23 @@
+package com.projeto.validador.domain;
+
+/**
+ * RENAVAM de 11 dígitos: 10 de base e um DV módulo 11, com os mesmos pesos e a mesma tabela de DVs do
+ * PIS ({@code (soma * 10) % 11} é o mesmo que {@code 11 - soma % 11} com 10 virando 0). Números antigos de
+ * 9 dígitos precisam vir completados com zeros à esquerda.
+ */
+public final class DigitosRenavam {
+
+    public static final int TAMANHO = 11;
+
+    private static final ModuloPonderado MODULO = ModuloPonderado.modulo11(3, 2, 9, 8, 7, 6, 5, 4, 3, 2);
+
+    private DigitosRenavam() {
+    }
+
+    public static boolean valido(CharSequence entrada) {
+        long numero = ModuloPonderado.numero(entrada, TAMANHO);
+        return numero >= 0
+                && !ModuloPonderado.digitosIguais(numero, TAMANHO)
+                && MODULO.dv(numero / 10) == numero % 10;
+    }
+}
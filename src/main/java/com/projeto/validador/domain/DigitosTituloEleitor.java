@@ -0,0 +1,38 @@
+package com.projeto.validador.domain;
+
+/**
+ * Título de eleitor de 12 dígitos: 8 de sequencial, 2 da UF (01 a 28) e 2 DVs módulo 11. O primeiro DV
+ * pondera o sequencial com pesos 2 a 9; o segundo pondera a UF e o primeiro DV com pesos 7, 8 e 9. Resto
+ * 10 vira DV 0 e, nos títulos de SP (01) e MG (02), resto 0 vira DV 1.
+ */
+public final class DigitosTituloEleitor {
+
+    public static final int TAMANHO = 12;
+
+    private static final int UF_SP = 1;
+    private static final int UF_MG = 2;
+    private static final int UF_EXTERIOR = 28;
+
+    private static final ModuloPonderado MODULO_DV1 = new ModuloPonderado(11, new int[]{2, 3, 4, 5, 6, 7, 8, 9}, resto -> resto);
+    private static final ModuloPonderado MODULO_DV2 = new ModuloPonderado(11, new int[]{7, 8, 9}, resto -> resto);
+
+    private DigitosTituloEleitor() {
+    }
+
+    public static boolean valido(CharSequence entrada) {
+        long numero = ModuloPonderado.numero(entrada, TAMANHO);
+        if (numero < 0) return false;
+
+        int uf = (int) (numero / 100 % 100);
+        if (uf < UF_SP || uf > UF_EXTERIOR) return false;
+
+        int dv1 = dv(MODULO_DV1.resto(numero / 10_000), uf);
+        int dv2 = dv(MODULO_DV2.resto(uf * 10L + dv1), uf);
+        return dv1 == numero / 10 % 10 && dv2 == numero % 10;
+    }
+
+    private static int dv(int resto, int uf) {
+        if (resto == 10) return 0;
+        return resto == 0 && (uf == UF_SP || uf == UF_MG) ? 1 : resto;
+    }
+}
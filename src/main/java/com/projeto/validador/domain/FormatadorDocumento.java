@@ -0,0 +1,189 @@
+package com.projeto.validador.domain;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Formatação e normalização de CPF e CNPJ (inclusive alfanumérico) sem alocação: o resultado é escrito
+ * direto no {@link StringBuilder}, {@code char[]} ou {@link ByteBuffer} de quem chama.
+ *
+ * A normalização mantém só letras e dígitos ASCII, com as letras em maiúsculas, como
+ * {@link RegrasCnpj#formatar(String)} sempre fez. A formatação aplica a máscara sobre o documento
+ * normalizado e só escreve quando ele tem o tamanho do tipo; não confere os DVs.
+ */
+public final class FormatadorDocumento {
+
+    public static final FormatadorDocumento CPF = new FormatadorDocumento("###.###.###-##");
+    public static final FormatadorDocumento CNPJ = new FormatadorDocumento("##.###.###/####-##");
+
+    private static final char POSICAO = '#';
+
+    private final char[] mascara;
+    private final int tamanho;
+
+    private FormatadorDocumento(String mascara) {
+        this.mascara = mascara.toCharArray();
+        this.tamanho = (int) mascara.chars().filter(c -> c == POSICAO).count();
+    }
+
+    /**
+     * Formatador do tipo com o tamanho normalizado de {@code documento}, ou null quando não é CPF nem CNPJ.
+     */
+    public static FormatadorDocumento para(CharSequence documento) {
+        int tamanho = tamanhoNormalizado(documento);
+        if (tamanho == CPF.tamanho) return CPF;
+        if (tamanho == CNPJ.tamanho) return CNPJ;
+        return null;
+    }
+
+    /**
+     * Quantidade de caracteres do documento normalizado (letras e dígitos ASCII).
+     */
+    public static int tamanhoNormalizado(CharSequence documento) {
+        if (documento == null) return 0;
+
+        int tamanho = 0;
+        for (int i = 0; i < documento.length(); i++) {
+            if (normalizado(documento.charAt(i)) != 0) tamanho++;
+        }
+        return tamanho;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public int getTamanhoFormatado() {
+        return mascara.length;
+    }
+
+    /**
+     * Acrescenta o documento com máscara em {@code destino}. Devolve false, sem escrever nada, quando o
+     * documento normalizado não tem o tamanho do tipo.
+     */
+    public boolean formatar(CharSequence documento, StringBuilder destino) {
+        if (tamanhoNormalizado(documento) != tamanho) return false;
+
+        int origem = 0;
+        for (char m : mascara) {
+            if (m == POSICAO) {
+                origem = proximo(documento, origem);
+                destino.append(normalizado(documento.charAt(origem++)));
+            } else {
+                destino.append(m);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escreve o documento com máscara em {@code destino} a partir de {@code offset} e devolve a posição
+     * seguinte, ou -1, sem escrever nada, quando o documento normalizado não tem o tamanho do tipo.
+     */
+    public int formatar(CharSequence documento, char[] destino, int offset) {
+        if (tamanhoNormalizado(documento) != tamanho) return -1;
+        if (offset < 0 || offset + mascara.length > destino.length) {
+            throw new IndexOutOfBoundsException("Documento formatado excede o destino: " + (offset + mascara.length) + " > " + destino.length);
+        }
+
+        int origem = 0;
+        for (int i = 0; i < mascara.length; i++) {
+            char c = mascara[i];
+            if (c == POSICAO) {
+                origem = proximo(documento, origem);
+                c = normalizado(documento.charAt(origem++));
+            }
+            destino[offset + i] = c;
+        }
+        return offset + mascara.length;
+    }
+
+    /**
+     * Escreve o documento com máscara em ASCII na posição atual de {@code destino}. Devolve false, sem
+     * escrever nada, quando o documento normalizado não tem o tamanho do tipo.
+     */
+    public boolean formatar(CharSequence documento, ByteBuffer destino) {
+        if (tamanhoNormalizado(documento) != tamanho) return false;
+        if (destino.remaining() < mascara.length) {
+            throw new IndexOutOfBoundsException("Documento formatado excede o destino: " + mascara.length + " > " + destino.remaining());
+        }
+
+        int origem = 0;
+        for (char c : mascara) {
+            if (c == POSICAO) {
+                origem = proximo(documento, origem);
+                c = normalizado(documento.charAt(origem++));
+            }
+            destino.put((byte) c);
+        }
+        return true;
+    }
+
+    /**
+     * Acrescenta o documento normalizado em {@code destino}, qualquer que seja o tamanho, e devolve
+     * quantos caracteres foram escritos.
+     */
+    public static int normalizar(CharSequence documento, StringBuilder destino) {
+        if (documento == null) return 0;
+
+        int escritos = 0;
+        for (int i = 0; i < documento.length(); i++) {
+            char c = normalizado(documento.charAt(i));
+            if (c != 0) {
+                destino.append(c);
+                escritos++;
+            }
+        }
+        return escritos;
+    }
+
+    /**
+     * Escreve o documento normalizado em {@code destino} a partir de {@code offset} e devolve a posição seguinte.
+     */
+    public static int normalizar(CharSequence documento, char[] destino, int offset) {
+        int fim = offset + tamanhoNormalizado(documento);
+        if (offset < 0 || fim > destino.length) {
+            throw new IndexOutOfBoundsException("Documento normalizado excede o destino: " + fim + " > " + destino.length);
+        }
+
+        int posicao = offset;
+        for (int i = 0; posicao < fim; i++) {
+            char c = normalizado(documento.charAt(i));
+            if (c != 0) destino[posicao++] = c;
+        }
+        return fim;
+    }
+
+    /**
+     * Escreve o documento normalizado em ASCII na posição atual de {@code destino} e devolve quantos bytes
+     * foram escritos.
+     */
+    public static int normalizar(CharSequence documento, ByteBuffer destino) {
+        int tamanho = tamanhoNormalizado(documento);
+        if (destino.remaining() < tamanho) {
+            throw new IndexOutOfBoundsException("Documento normalizado excede o destino: " + tamanho + " > " + destino.remaining());
+        }
+
+        for (int i = 0, escritos = 0; escritos < tamanho; i++) {
+            char c = normalizado(documento.charAt(i));
+            if (c != 0) {
+                destino.put((byte) c);
+                escritos++;
+            }
+        }
+        return tamanho;
+    }
+
+    // posição do próximo caractere do documento normalizado a partir de `inicio`, pulando a máscara
+    private static int proximo(CharSequence documento, int inicio) {
+        int i = inicio;
+        while (normalizado(documento.charAt(i)) == 0) i++;
+        return i;
+    }
+
+    // letra ou dígito ASCII, com a letra em maiúscula; 0 para máscara e demais caracteres
+    private static char normalizado(char c) {
+        if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) return c;
+        if (c >= 'a' && c <= 'z') return (char) (c - ('a' - 'A'));
+        return 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.projeto.validador.domain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de CPFs e CNPJs para testes de carga e massa de dados, válidos ou com DV errado de propósito.
+ *
+ * Cada documento sai de até 3 sorteios de {@code int} e é escrito direto em um buffer de bytes ASCII,
+ * de onde os DVs são calculados, sem objetos por documento. Com a mesma semente a sequência é sempre a mesma.
+ * Instâncias não são thread-safe: use uma por thread (ou {@link #dividir()}).
+ */
+public final class GeradorDocumentos {
+
+    public enum Tipo {
+        CPF, CNPJ
+    }
+
+    // sorteios em int (divisões baratas): a base do CPF inteira, o CNPJ em blocos de 6 dígitos
+    // ou de 4 caracteres alfanuméricos
+    private static final int BASES_CPF = 1_000_000_000;
+    private static final int BLOCOS_NUMERICOS = 1_000_000;
+    private static final int BLOCOS_ALFANUMERICOS = 36 * 36 * 36 * 36;
+    private static final byte[] ALFANUMERICOS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final SplittableRandom random;
+
+    public GeradorDocumentos(long semente) {
+        this(new SplittableRandom(semente));
+    }
+
+    private GeradorDocumentos(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Novo gerador com sequência independente desta, para gerar em paralelo de forma reproduzível.
+     */
+    public GeradorDocumentos dividir() {
+        return new GeradorDocumentos(random.split());
+    }
+
+    /**
+     * Escreve um CPF de 11 dígitos em {@code destino} a partir de {@code offset} e devolve a posição seguinte.
+     */
+    public int cpf(byte[] destino, int offset, boolean valido) {
+        int base;
+        do {
+            base = random.nextInt(BASES_CPF);
+        } while (valido && base % 111_111_111 == 0); // todos os dígitos iguais nunca é válido
+
+        escrever(destino, offset, base, DigitosCpf.TAMANHO_BASE, 10);
+        return escreverDvs(destino, offset + DigitosCpf.TAMANHO_BASE, DigitosCpf.calcularDvs(destino, offset), valido);
+    }
+
+    /**
+     * Escreve um CNPJ de 14 caracteres em {@code destino} a partir de {@code offset} e devolve a posição
+     * seguinte. Com {@code alfanumerico} a base usa dígitos e letras maiúsculas; os DVs são sempre numéricos.
+     */
+    public int cnpj(byte[] destino, int offset, boolean valido, boolean alfanumerico) {
+        if (alfanumerico) {
+            for (int i = 0; i < DigitosCnpj.TAMANHO_BASE; i += 4) {
+                escrever(destino, offset + i, random.nextInt(BLOCOS_ALFANUMERICOS), 4, 36);
+            }
+        } else {
+            escrever(destino, offset, random.nextInt(BLOCOS_NUMERICOS), 6, 10);
+            escrever(destino, offset + 6, random.nextInt(BLOCOS_NUMERICOS), 6, 10);
+        }
+        return escreverDvs(destino, offset + DigitosCnpj.TAMANHO_BASE, DigitosCnpj.calcularDvs(destino, offset), valido);
+    }
+
+    /**
+     * Escreve {@code quantidade} documentos em {@code saida}, um por linha.
+     */
+    public void gerar(Tipo tipo, long quantidade, boolean validos, boolean alfanumerico, OutputStream saida) throws IOException {
+        byte[] buffer = new byte[TAMANHO_BUFFER];
+        int limite = buffer.length - DigitosCnpj.TAMANHO - 1;
+        int posicao = 0;
+
+        for (long i = 0; i < quantidade; i++) {
+            posicao = tipo == Tipo.CPF
+                    ? cpf(buffer, posicao, validos)
+                    : cnpj(buffer, posicao, validos, alfanumerico);
+            buffer[posicao++] = '\n';
+
+            if (posicao > limite) {
+                saida.write(buffer, 0, posicao);
+                posicao = 0;
+            }
+        }
+        saida.write(buffer, 0, posicao);
+        saida.flush();
+    }
+
+    // escreve os últimos `posicoes` algarismos de `valor` na base `radix`, com zeros à esquerda
+    private static void escrever(byte[] destino, int offset, int valor, int posicoes, int radix) {
+        for (int i = posicoes - 1; i >= 0; i--) {
+            destino[offset + i] = ALFANUMERICOS[valor % radix];
+            valor /= radix;
+        }
+    }
+
+    // com valido = false o segundo DV é trocado por outro dígito qualquer, então o documento nunca confere
+    private int escreverDvs(byte[] destino, int offset, int dvs, boolean valido) {
+        int dv1 = dvs / 10;
+        int dv2 = valido ? dvs % 10 : (dvs % 10 + 1 + random.nextInt(9)) % 10;
+        destino[offset] = (byte) ('0' + dv1);
+        destino[offset + 1] = (byte) ('0' + dv2);
+        return offset + 2;
+    }
+}
@@ -0,0 +1,94 @@
+package com.projeto.validador.domain;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Dígito verificador por soma ponderada e resto da divisão, o cálculo comum a CPF, CNPJ, PIS, CNH,
+ * RENAVAM e título de eleitor: cada documento muda só os pesos, o módulo e como o resto vira DV.
+ *
+ * Os dígitos chegam empacotados em um {@code long} decimal (ver {@link #numero(CharSequence, int)}), com o
+ * último peso aplicado ao dígito menos significativo, e o DV de cada resto vem de uma tabela montada na
+ * criação. Nada é alocado por chamada. Instâncias são imutáveis e ficam em constantes.
+ */
+public final class ModuloPonderado {
+
+    private final int modulo;
+    private final int[] pesos;
+    private final byte[] dvPorResto;
+
+    public ModuloPonderado(int modulo, int[] pesos, IntUnaryOperator dvDoResto) {
+        if (modulo < 2 || pesos.length == 0 || pesos.length > 18) {
+            throw new IllegalArgumentException("Módulo ou pesos inválidos: " + modulo + ", " + pesos.length + " pesos");
+        }
+        this.modulo = modulo;
+        this.pesos = pesos.clone();
+        this.dvPorResto = new byte[modulo];
+        for (int resto = 0; resto < modulo; resto++) {
+            dvPorResto[resto] = (byte) dvDoResto.applyAsInt(resto);
+        }
+    }
+
+    /**
+     * Módulo 11 com DV {@code 11 - resto}, e 10 ou 11 virando 0: a regra de CPF, CNPJ, PIS e RENAVAM.
+     */
+    public static ModuloPonderado modulo11(int... pesos) {
+        return new ModuloPonderado(11, pesos, resto -> resto < 2 ? 0 : 11 - resto);
+    }
+
+    /**
+     * Quantidade de dígitos ponderados.
+     */
+    public int getQuantidade() {
+        return pesos.length;
+    }
+
+    /**
+     * Resto da soma ponderada dos {@link #getQuantidade()} dígitos menos significativos de {@code digitos}.
+     */
+    public int resto(long digitos) {
+        int soma = 0;
+        long restante = digitos;
+        for (int i = pesos.length - 1; i >= 0; i--) {
+            soma += (int) (restante % 10) * pesos[i];
+            restante /= 10;
+        }
+        return soma % modulo;
+    }
+
+    public int dv(long digitos) {
+        return dvPorResto[resto(digitos)];
+    }
+
+    /**
+     * Se os {@code quantidade} dígitos de {@code numero} são todos iguais (ex: 00000000000), números que
+     * passam na conta de vários documentos e que a regra de cada um rejeita.
+     */
+    public static boolean digitosIguais(long numero, int quantidade) {
+        long repunidade = 0;
+        for (int i = 0; i < quantidade; i++) {
+            repunidade = repunidade * 10 + 1;
+        }
+        return numero % repunidade == 0;
+    }
+
+    /**
+     * Dígitos de {@code entrada} como número, ignorando a máscara (qualquer caractere que não seja letra ou
+     * dígito ASCII), ou -1 quando não há exatamente {@code quantidade} dígitos ou há letras.
+     */
+    public static long numero(CharSequence entrada, int quantidade) {
+        if (entrada == null) return -1;
+
+        int digitos = 0;
+        long numero = 0;
+        for (int i = 0; i < entrada.length(); i++) {
+            char c = entrada.charAt(i);
+            if (c < '0' || c > '9') {
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) return -1;
+                continue;
+            }
+            if (digitos++ == quantidade) return -1;
+            numero = numero * 10 + (c - '0');
+        }
+        return digitos == quantidade ? numero : -1;
+    }
+}
@@ -9,84 +9,26 @@ public class RegrasCnpj {
      * - Últimos 2 caracteres devem ser dígitos (os DVs).
      * - Calcula DVs com o algoritmo módulo 11, usando valor = (int)char - 48
      *   (ou seja, código ASCII decimal subtraído de 48), conforme documentação oficial.
+     * O cálculo é feito em uma única passada por {@link DigitosCnpj}.
      */
     public static boolean cnpjAlfanumericoValido(String entrada) {
-        if (entrada == null) return false;
-
-        // remove qualquer caractere que não seja letra ou número (pontos, barras, traços, espaços)
-        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
-
-        // Deve ter exatamente 14 caracteres (12 base + 2 DVs)
-        if (limpo.length() != 14) return false;
-
-        // Os 12 primeiros podem ser alfanuméricos; os 2 últimos devem ser numéricos (DVs)
-        String base12 = limpo.substring(0, 12);
-        String dvsInformados = limpo.substring(12); // últimos 2 chars
-
-        if (!dvsInformados.matches("\\d{2}")) return false;
-
-        int dvCalculado1 = calcularDv(base12, true);  // calcula primeiro DV
-        if (dvCalculado1 < 0) return false; // erro inesperado
-
-        // recalcula o segundo DV incluindo o primeiro DV
-        int dvCalculado2 = calcularDv(base12 + dvCalculado1, false);
-
-        int dvInformado1 = Character.getNumericValue(dvsInformados.charAt(0));
-        int dvInformado2 = Character.getNumericValue(dvsInformados.charAt(1));
-
-        return dvInformado1 == dvCalculado1 && dvInformado2 == dvCalculado2;
+        return DigitosCnpj.valido(entrada);
     }
 
     /**
-     * Calcula o dígito verificador (DV) de acordo com o peso do CNPJ.
-     * Se primeiraRodada == true, usa os pesos do cálculo do primeiro dígito:
-     *   pesos = [5,4,3,2,9,8,7,6,5,4,3,2]  (para 12 posições)
-     * Se false, usa pesos para a segunda rodada:
-     *   pesos = [6,5,4,3,2,9,8,7,6,5,4,3,2] (para 13 posições)
-     *
-     * Cada caractere é convertido para valor numérico: (int)ch - 48 (ASCII - 48).
-     * Essa fórmula preserva 0..9 para dígitos e dá valores >=17 para letras (A=65 => 17).
-     *
-     * Retorna o dígito calculado (0..9) ou -1 em caso de erro.
+     * CNPJ com máscara (ex.: 12ABC34501DE35 -> 12.ABC.345/01DE-35), útil em logs e respostas. Entradas que
+     * não têm 14 caracteres alfanuméricos voltam só normalizadas. Os DVs não são conferidos.
      */
-    private static int calcularDv(String caracteres, boolean primeiraRodada) {
-        int[] pesos = primeiraRodada
-                ? new int[]{5,4,3,2,9,8,7,6,5,4,3,2}   // 12 pesos
-                : new int[]{6,5,4,3,2,9,8,7,6,5,4,3,2}; // 13 pesos
-
-        if (caracteres == null) return -1;
-        if (caracteres.length() != pesos.length) return -1;
-
-        int soma = 0;
-        for (int i = 0; i < caracteres.length(); i++) {
-            char caractere = caracteres.charAt(i);
-            // deve ser alfanumérico
-            if (!Character.isLetterOrDigit(caractere)) return -1;
-
-            int valor = ((int) caractere) - 48; // ASCII decimal menos 48 (conforme especificação)
-            soma += valor * pesos[i];
-        }
-
-        int resto = soma % 11;
-        int dv = 11 - resto;
-        if (dv == 10 || dv == 11) dv = 0; // regra módulo 11 padrão para CNPJ
-
-        return dv;
+    public static String formatar(String entrada) {
+        return formatar(FormatadorDocumento.CNPJ, entrada);
     }
 
-    // método auxiliar (útil em logs/debug)
-    public static String formatar(String entrada) {
+    static String formatar(FormatadorDocumento formatador, String entrada) {
         if (entrada == null) return null;
-        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
-        if (limpo.length() != 14) {
-            return limpo;
+        StringBuilder sb = new StringBuilder(formatador.getTamanhoFormatado());
+        if (!formatador.formatar(entrada, sb)) {
+            FormatadorDocumento.normalizar(entrada, sb);
         }
-        // ex.: 12ABC34501DE35 -> 12.ABC.345/01DE-35 (apenas exemplo de formatação)
-        return String.format("%s.%s.%s/%s-%s",
-                limpo.substring(0,2),
-                limpo.substring(2,5),
-                limpo.substring(5,8),
-                limpo.substring(8,12),
-                limpo.substring(12));
+        return sb.toString();
     }
 }
@@ -2,39 +2,19 @@ package com.projeto.validador.domain;
 
 public class RegrasCpf {
 
+    /**
+     * Valida um CPF de 11 dígitos, sem máscara. CPFs com todos os dígitos iguais
+     * (ex: 11111111111) são rejeitados. O cálculo é feito sem alocação por {@link DigitosCpf}.
+     */
     public static boolean cpfValido(String cpf) {
-        if (cpf == null || cpf.length() != 11 || !cpf.matches("\\d+")) {
-            return false;
-        }
-
-        // Elimina CPFs com todos dígitos iguais (ex: 11111111111)
-        if (cpf.chars().distinct().count() == 1) {
-            return false;
-        }
-
-        try {
-            int soma1 = 0, soma2 = 0;
-
-            // Calcula primeiro dígito verificador
-            for (int i = 0; i < 9; i++) {
-                int num = Character.getNumericValue(cpf.charAt(i));
-                soma1 += num * (10 - i);
-                soma2 += num * (11 - i);
-            }
-
-            int digito1 = (soma1 * 10) % 11;
-            if (digito1 == 10) digito1 = 0;
-
-            soma2 += digito1 * 2;
-            int digito2 = (soma2 * 10) % 11;
-            if (digito2 == 10) digito2 = 0;
-
-            return digito1 == Character.getNumericValue(cpf.charAt(9)) &&
-                    digito2 == Character.getNumericValue(cpf.charAt(10));
+        return DigitosCpf.valido(cpf);
+    }
 
-        } catch (NumberFormatException e) {
-            return false;
-        }
+    /**
+     * CPF com máscara (ex.: 52998224725 -> 529.982.247-25). Entradas que não têm 11 caracteres
+     * alfanuméricos voltam só normalizadas, como em {@link RegrasCnpj#formatar(String)}.
+     */
+    public static String formatar(String entrada) {
+        return RegrasCnpj.formatar(FormatadorDocumento.CPF, entrada);
     }
 }
-
@@ -3,6 +3,10 @@ package com.projeto.validador.dto;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+/**
+ * Exceção sem stack trace: é lançada para cada entrada inválida recebida pela API,
+ * então capturar a pilha só custaria CPU. A mensagem é montada sob demanda.
+ */
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class DocumentoInvalidoException extends RuntimeException {
@@ -10,8 +14,13 @@ public class DocumentoInvalidoException extends RuntimeException {
     private final String motivo;
 
     public DocumentoInvalidoException(String documento, String motivo) {
-        super("Documento inválido: " + documento + " - Motivo: " + motivo);
+        super(null, null, false, false);
         this.documento = documento;
         this.motivo = motivo;
     }
+
+    @Override
+    public String getMessage() {
+        return "Documento inválido: " + documento + " - Motivo: " + motivo;
+    }
 }
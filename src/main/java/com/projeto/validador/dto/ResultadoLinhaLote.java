@@ -0,0 +1,27 @@
+package com.projeto.validador.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma linha do lote, serializado no mesmo formato NDJSON do lote em streaming:
+ * {@code {"linha":1,"documento":"...","tipo":"CPF","valido":true}} ou, quando rejeitado,
+ * {@code {"linha":2,"documento":"...","valido":false,"erro":"..."}}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"linha", "documento", "tipo", "valido", "erro"})
+public class ResultadoLinhaLote {
+    private long linha;
+    private String documento;
+    private String tipo;
+    private boolean valido;
+    private String erro;
+}
@@ -0,0 +1,131 @@
+package com.projeto.validador.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.projeto.validador.domain.FormatadorDocumento;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resultado de uma validação: {@code {"documento":"...","tipo":"CPF","valido":true}} ou, quando os DVs não
+ * conferem, {@code {"documento":"...","tipo":"CPF","valido":false,"motivo":"..."}}, com o documento normalizado.
+ * Com o índice do cadastro carregado, CPF e CNPJ trazem também {@code "cadastrado"}.
+ *
+ * Só há dois desfechos por tipo de documento, então as respostas vêm de um {@link Desfecho} criado uma vez:
+ * o texto inteiro e o JSON exceto o documento já estão em bytes, e a resposta não passa por
+ * {@code String.format} nem pela serialização do Jackson. Os getters continuam servindo ao Jackson, com a
+ * mesma saída, para quem serializar o objeto por fora dos conversores da aplicação.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"documento", "tipo", "valido", "motivo", "cadastrado"})
+public final class ResultadoValidacao {
+
+    public static final String MOTIVO_DVS = "Dígitos verificadores não conferem";
+
+    private static final byte[] INICIO_JSON = "{\"documento\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private final Desfecho desfecho;
+    private final String entrada;
+    private final Boolean cadastrado;
+
+    public ResultadoValidacao(Desfecho desfecho, String entrada) {
+        this(desfecho, entrada, null);
+    }
+
+    public ResultadoValidacao(Desfecho desfecho, String entrada, Boolean cadastrado) {
+        this.desfecho = desfecho;
+        this.entrada = entrada;
+        this.cadastrado = cadastrado;
+    }
+
+    public String getDocumento() {
+        StringBuilder sb = new StringBuilder(entrada.length());
+        FormatadorDocumento.normalizar(entrada, sb);
+        return sb.toString();
+    }
+
+    public String getTipo() {
+        return desfecho.tipo;
+    }
+
+    public boolean isValido() {
+        return desfecho.valido;
+    }
+
+    public String getMotivo() {
+        return desfecho.valido ? null : MOTIVO_DVS;
+    }
+
+    /**
+     * Se o documento está no índice do cadastro, ou null quando não há índice para o tipo.
+     */
+    public Boolean getCadastrado() {
+        return cadastrado;
+    }
+
+    /**
+     * Resposta em texto, no contrato original da API ({@code " CPF valido"}).
+     */
+    @JsonIgnore
+    public String getTexto() {
+        return desfecho.texto;
+    }
+
+    /**
+     * Resposta em texto codificada em UTF-8; o array é compartilhado e não deve ser alterado.
+     */
+    public byte[] textoUtf8() {
+        return desfecho.textoUtf8;
+    }
+
+    /**
+     * Resposta em JSON codificada em UTF-8. O documento normalizado é ASCII alfanumérico, então vai para o
+     * JSON sem escape, entre as partes fixas do desfecho.
+     */
+    public byte[] jsonUtf8() {
+        byte[] fimJson = cadastrado == null ? desfecho.fimJson
+                : cadastrado ? desfecho.fimJsonCadastrado : desfecho.fimJsonNaoCadastrado;
+        int tamanhoDocumento = FormatadorDocumento.tamanhoNormalizado(entrada);
+        byte[] json = new byte[INICIO_JSON.length + tamanhoDocumento + fimJson.length];
+        System.arraycopy(INICIO_JSON, 0, json, 0, INICIO_JSON.length);
+        FormatadorDocumento.normalizar(entrada, ByteBuffer.wrap(json, INICIO_JSON.length, tamanhoDocumento));
+        System.arraycopy(fimJson, 0, json, INICIO_JSON.length + tamanhoDocumento, fimJson.length);
+        return json;
+    }
+
+    /**
+     * Um dos desfechos possíveis de um tipo de documento, com as partes fixas da resposta já codificadas.
+     */
+    public static final class Desfecho {
+
+        private final String tipo;
+        private final boolean valido;
+        private final String texto;
+        private final byte[] textoUtf8;
+        private final byte[] fimJson;
+        private final byte[] fimJsonCadastrado;
+        private final byte[] fimJsonNaoCadastrado;
+
+        public Desfecho(String tipo, boolean valido) {
+            this.tipo = tipo;
+            this.valido = valido;
+            this.texto = " " + tipo + (valido ? " valido" : " invalido");
+            this.textoUtf8 = texto.getBytes(StandardCharsets.UTF_8);
+            String campos = "\",\"tipo\":\"" + tipo + "\",\"valido\":" + valido
+                    + (valido ? "" : ",\"motivo\":\"" + MOTIVO_DVS + "\"");
+            this.fimJson = (campos + "}").getBytes(StandardCharsets.UTF_8);
+            this.fimJsonCadastrado = (campos + ",\"cadastrado\":true}").getBytes(StandardCharsets.UTF_8);
+            this.fimJsonNaoCadastrado = (campos + ",\"cadastrado\":false}").getBytes(StandardCharsets.UTF_8);
+        }
+
+        public ResultadoValidacao para(String entrada) {
+            return new ResultadoValidacao(this, entrada);
+        }
+
+        public ResultadoValidacao para(String entrada, Boolean cadastrado) {
+            return new ResultadoValidacao(this, entrada, cadastrado);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.projeto.validador.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.projeto.validador.trabalho.EstadoTrabalho;
+import com.projeto.validador.trabalho.Trabalho;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Andamento de um trabalho de validação, como devolvido por {@code /v1/trabalhos}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SituacaoTrabalho {
+    private String id;
+    private EstadoTrabalho estado;
+    private long linhasProcessadas;
+    private long bytesProcessados;
+    private long bytesEntrada;
+    private String erro;
+
+    public static SituacaoTrabalho de(Trabalho trabalho) {
+        Trabalho.Progresso progresso = trabalho.getProgresso();
+        return SituacaoTrabalho.builder()
+                .id(trabalho.getId())
+                .estado(trabalho.getEstado())
+                .linhasProcessadas(progresso.linhas())
+                .bytesProcessados(progresso.bytesEntrada())
+                .bytesEntrada(trabalho.getTamanhoEntrada())
+                .erro(trabalho.getErro())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.projeto.validador.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita a quantidade de logs por segundo, contando os que foram suprimidos.
+ * Sem locks: uma inundação de entradas inválidas não serializa as threads no appender.
+ */
+class AmostradorLog {
+
+    static final long SUPRIMIDO = -1;
+
+    private final int limitePorSegundo;
+    private final AtomicLong janela = new AtomicLong();
+    private final AtomicInteger registradosNaJanela = new AtomicInteger();
+    private final LongAdder suprimidos = new LongAdder();
+
+    AmostradorLog(int limitePorSegundo) {
+        this.limitePorSegundo = limitePorSegundo;
+    }
+
+    /**
+     * Retorna {@link #SUPRIMIDO} quando o log deve ser descartado; caso contrário, retorna
+     * quantos logs foram suprimidos desde o último permitido.
+     */
+    long permitir() {
+        long segundo = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long atual = janela.get();
+        if (segundo != atual && janela.compareAndSet(atual, segundo)) {
+            registradosNaJanela.set(0);
+        }
+
+        if (registradosNaJanela.incrementAndGet() > limitePorSegundo) {
+            suprimidos.increment();
+            return SUPRIMIDO;
+        }
+        return suprimidos.sumThenReset();
+    }
+}
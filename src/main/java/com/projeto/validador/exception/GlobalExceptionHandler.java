@@ -1,8 +1,11 @@
 package com.projeto.validador.exception;
 
+import com.projeto.validador.diagnostico.EventoEtapaValidacao;
 import com.projeto.validador.dto.DocumentoInvalidoException;
 import com.projeto.validador.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,24 +16,40 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+    // documentos inválidos chegam em rajadas (bots, fuzzing): o log é amostrado por segundo
+    private final AmostradorLog amostradorLog;
+
+    public GlobalExceptionHandler(@Value("${validador.log.rejeicoes-por-segundo:10}") int rejeicoesPorSegundo) {
+        this.amostradorLog = new AmostradorLog(rejeicoesPorSegundo);
+    }
+
     @ExceptionHandler(DocumentoInvalidoException.class)
     public ResponseEntity<ErrorResponse> handleDocumentoInvaliddo(DocumentoInvalidoException die, WebRequest request) {
+        EventoEtapaValidacao evento = new EventoEtapaValidacao();
+        evento.begin();
+        String descricao = request.getDescription(false);
 
-        log.warn("Documento inválido: {} - Path: {} - IP: {}",
-                die.getMessage(),
-                request.getDescription(false),
-                request.getHeader("X-Forwarded-For"));
+        long suprimidos = amostradorLog.permitir();
+        if (suprimidos != AmostradorLog.SUPRIMIDO && log.isWarnEnabled()) {
+            log.warn("Documento inválido: {} - Path: {} - IP: {} - Logs suprimidos: {}",
+                    die.getMessage(),
+                    descricao,
+                    request.getHeader("X-Forwarded-For"),
+                    suprimidos);
+        }
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(descricao.replace("uri=", ""))
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Documento Inválido")
                 .message(die.getMessage())
                 .build();
 
+        evento.terminar(EventoEtapaValidacao.REJEICAO, null, suprimidos == AmostradorLog.SUPRIMIDO ? "log_suprimido" : "log");
         return ResponseEntity.badRequest().body(error);
     }
 }
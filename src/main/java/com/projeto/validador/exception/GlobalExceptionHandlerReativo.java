@@ -0,0 +1,57 @@
+package com.projeto.validador.exception;
+
+import com.projeto.validador.diagnostico.EventoEtapaValidacao;
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * Equivalente de {@link GlobalExceptionHandler} para o perfil reativo, com a mesma resposta de erro.
+ */
+@Slf4j
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class GlobalExceptionHandlerReativo {
+
+    private final AmostradorLog amostradorLog;
+
+    public GlobalExceptionHandlerReativo(@Value("${validador.log.rejeicoes-por-segundo:10}") int rejeicoesPorSegundo) {
+        this.amostradorLog = new AmostradorLog(rejeicoesPorSegundo);
+    }
+
+    @ExceptionHandler(DocumentoInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleDocumentoInvalido(DocumentoInvalidoException die, ServerHttpRequest request) {
+        EventoEtapaValidacao evento = new EventoEtapaValidacao();
+        evento.begin();
+        String caminho = request.getPath().value();
+
+        long suprimidos = amostradorLog.permitir();
+        if (suprimidos != AmostradorLog.SUPRIMIDO && log.isWarnEnabled()) {
+            log.warn("Documento inválido: {} - Path: {} - IP: {} - Logs suprimidos: {}",
+                    die.getMessage(),
+                    caminho,
+                    request.getHeaders().getFirst("X-Forwarded-For"),
+                    suprimidos);
+        }
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .path(caminho)
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Documento Inválido")
+                .message(die.getMessage())
+                .build();
+
+        evento.terminar(EventoEtapaValidacao.REJEICAO, null, suprimidos == AmostradorLog.SUPRIMIDO ? "log_suprimido" : "log");
+        return ResponseEntity.badRequest().body(error);
+    }
+}
@@ -0,0 +1,21 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.domain.FormatadorDocumento;
+
+/**
+ * Classificação do documento em uma única passada, sem criar strings intermediárias: conta os
+ * caracteres alfanuméricos ASCII, que formam o documento normalizado. Pontos, barras, traços,
+ * espaços e demais caracteres são tratados como máscara, como em {@link FormatadorDocumento}.
+ */
+final class ClassificadorDocumento {
+
+    private ClassificadorDocumento() {
+    }
+
+    /**
+     * Tamanho do documento normalizado (sem máscara).
+     */
+    static int tamanhoNormalizado(CharSequence documento) {
+        return FormatadorDocumento.tamanhoNormalizado(documento);
+    }
+}
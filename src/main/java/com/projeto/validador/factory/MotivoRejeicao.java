@@ -0,0 +1,26 @@
+package com.projeto.validador.factory;
+
+/**
+ * Motivos pelos quais a factory não encontra um validador para o documento.
+ */
+public enum MotivoRejeicao {
+
+    NULO("Documento não pode ser nulo"),
+    TAMANHO_INVALIDO("Tamanho inválido para documento: "),
+    TAMANHO_INCOMPATIVEL("Tamanho incompatível com o tipo de documento informado: "),
+    TIPO_DESCONHECIDO("Tipo de documento não suportado");
+
+    private final String descricao;
+
+    MotivoRejeicao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    /**
+     * Descrição legível do motivo. Só é montada quando alguém precisa dela
+     * (resposta de erro ou log), nunca no caminho de rejeição em si.
+     */
+    public String descricao(int tamanho) {
+        return this == TAMANHO_INVALIDO || this == TAMANHO_INCOMPATIVEL ? descricao + tamanho : descricao;
+    }
+}
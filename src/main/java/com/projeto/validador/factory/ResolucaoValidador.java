@@ -0,0 +1,44 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.interfaces.Validador;
+
+/**
+ * Resultado da busca de um validador em {@link ValidadorFactory#resolver(String)}:
+ * o validador encontrado ou o motivo da rejeição, sem lançar exceção.
+ */
+public sealed interface ResolucaoValidador permits ResolucaoValidador.Encontrado, ResolucaoValidador.Rejeitado {
+
+    /**
+     * Validador encontrado, com os dois desfechos possíveis criados junto com a factory.
+     */
+    record Encontrado(Validador validador, ResultadoValidacao.Desfecho valido, ResultadoValidacao.Desfecho invalido)
+            implements ResolucaoValidador {
+
+        public Encontrado(Validador validador) {
+            this(validador,
+                    new ResultadoValidacao.Desfecho(validador.getTipoDocumento(), true),
+                    new ResultadoValidacao.Desfecho(validador.getTipoDocumento(), false));
+        }
+
+        public ResultadoValidacao resultado(String entrada, boolean valido) {
+            return (valido ? this.valido : invalido).para(entrada);
+        }
+
+        /**
+         * Como {@link #resultado(String, boolean)}, com a presença no cadastro (null quando não consultada).
+         */
+        public ResultadoValidacao resultado(String entrada, boolean valido, Boolean cadastrado) {
+            return (valido ? this.valido : invalido).para(entrada, cadastrado);
+        }
+    }
+
+    record Rejeitado(MotivoRejeicao motivo, int tamanho) implements ResolucaoValidador {
+
+        public static final Rejeitado NULO = new Rejeitado(MotivoRejeicao.NULO, 0);
+
+        public String descricao() {
+            return motivo.descricao(tamanho);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.domain.DigitosCnh;
+import com.projeto.validador.interfaces.Validador;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ValidadorCnh implements Validador {
+
+    public boolean isValido(String entrada) {
+        return DigitosCnh.valido(entrada);
+    }
+
+    public String getTipoDocumento() {
+        return "CNH";
+    }
+
+    public int getTamanho() {
+        return DigitosCnh.TAMANHO;
+    }
+
+    // 11 dígitos, como o CPF: só atende quem declara o tipo
+    public boolean isDeduzidoPeloTamanho() {
+        return false;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.projeto.validador.factory;
 
+import com.projeto.validador.domain.DigitosCnpj;
 import com.projeto.validador.domain.RegrasCnpj;
 import com.projeto.validador.interfaces.Validador;
 import org.springframework.stereotype.Component;
@@ -15,4 +16,8 @@ public class ValidadorCnpj implements Validador {
         return "CNPJ";
     }
 
+    public int getTamanho() {
+        return DigitosCnpj.TAMANHO;
+    }
+
 }
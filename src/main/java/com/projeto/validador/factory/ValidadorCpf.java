@@ -1,19 +1,26 @@
 package com.projeto.validador.factory;
 
-import com.projeto.validador.domain.RegrasCpf;
+import com.projeto.validador.domain.DigitosCpf;
 import com.projeto.validador.interfaces.Validador;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ValidadorCpf implements Validador {
 
+    /**
+     * Aceita o CPF com ou sem máscara; {@code RegrasCpf} continua exigindo os 11 dígitos sem máscara.
+     */
     public boolean isValido(String entrada) {
-        return RegrasCpf.cpfValido(entrada);
+        return DigitosCpf.validoComMascara(entrada);
     }
 
     public String getTipoDocumento() {
         return "CPF";
     }
 
+    public int getTamanho() {
+        return DigitosCpf.TAMANHO;
+    }
+
 }
 
@@ -4,33 +4,96 @@ import com.projeto.validador.dto.DocumentoInvalidoException;
 import com.projeto.validador.interfaces.Validador;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Objects.isNull;
 
+/**
+ * Escolhe o validador do documento entre todos os beans {@link Validador}.
+ *
+ * O documento é classificado em uma passada por {@link ClassificadorDocumento}, que desconsidera a
+ * máscara, e o validador vem de um array indexado pelo tamanho normalizado ou, quando o tipo é
+ * declarado (ex: endpoint {@code /cpf}), de um mapa pelo tipo. As duas buscas custam o mesmo com
+ * qualquer quantidade de validadores. Validadores de documentos com o tamanho de outro (PIS, CNH e
+ * RENAVAM têm 11 dígitos, como o CPF) ficam só no mapa: ver {@link Validador#isDeduzidoPeloTamanho()}.
+ */
 @Component
 public class ValidadorFactory {
 
-    private final Map<Integer, Validador> validadores;
+    private final ResolucaoValidador.Encontrado[] porTamanho;
+    private final Map<String, ResolucaoValidador.Encontrado> porTipo = new HashMap<>();
 
-    public ValidadorFactory(ValidadorCpf validadorCpf,
-                            ValidadorCnpj validadorCnpj) {
-        this.validadores = Map.of(
-                11, validadorCpf,
-                14, validadorCnpj
-        );
+    public ValidadorFactory(List<Validador> validadores) {
+        int maiorTamanho = 0;
+        for (Validador validador : validadores) {
+            if (validador.isDeduzidoPeloTamanho()) maiorTamanho = Math.max(maiorTamanho, validador.getTamanho());
+        }
+
+        this.porTamanho = new ResolucaoValidador.Encontrado[maiorTamanho + 1];
+        for (Validador validador : validadores) {
+            ResolucaoValidador.Encontrado encontrado = new ResolucaoValidador.Encontrado(validador);
+            if (validador.isDeduzidoPeloTamanho()) {
+                if (porTamanho[validador.getTamanho()] != null) {
+                    throw new IllegalStateException("Mais de um validador para documentos de tamanho " + validador.getTamanho());
+                }
+                porTamanho[validador.getTamanho()] = encontrado;
+            }
+            if (porTipo.put(validador.getTipoDocumento(), encontrado) != null) {
+                throw new IllegalStateException("Mais de um validador para o tipo " + validador.getTipoDocumento());
+            }
+        }
     }
 
-    public Validador getValidator(String documento) {
+    /**
+     * Busca o validador do documento sem lançar exceção. Para uso em caminhos de alto volume
+     * (lotes, entradas inválidas em massa), onde a rejeição não deve custar mais que a validação.
+     */
+    public ResolucaoValidador resolver(String documento) {
+        if (isNull(documento)) {
+            return ResolucaoValidador.Rejeitado.NULO;
+        }
+
+        int tamanho = ClassificadorDocumento.tamanhoNormalizado(documento);
+        ResolucaoValidador.Encontrado encontrado = tamanho < porTamanho.length ? porTamanho[tamanho] : null;
+        if (encontrado == null) {
+            return new ResolucaoValidador.Rejeitado(MotivoRejeicao.TAMANHO_INVALIDO, tamanho);
+        }
+
+        return encontrado;
+    }
+
+    /**
+     * Como {@link #resolver(String)}, mas usando o validador do tipo declarado pelo cliente. O documento
+     * é rejeitado quando o tamanho normalizado não é o do tipo, em vez de ser validado como outro tipo.
+     */
+    public ResolucaoValidador resolver(String documento, String tipoDeclarado) {
+        if (isNull(tipoDeclarado)) {
+            return resolver(documento);
+        }
         if (isNull(documento)) {
-            throw new DocumentoInvalidoException(documento, "Documento não pode ser nulo");
+            return ResolucaoValidador.Rejeitado.NULO;
+        }
+
+        ResolucaoValidador.Encontrado encontrado = porTipo.get(tipoDeclarado);
+        if (encontrado == null) {
+            return new ResolucaoValidador.Rejeitado(MotivoRejeicao.TIPO_DESCONHECIDO, 0);
         }
 
-        Validador validator = validadores.get(documento.length());
-        if (validator == null) {
-            throw new DocumentoInvalidoException(documento, "Tamanho inválido para documento: " + documento.length());
+        int tamanho = ClassificadorDocumento.tamanhoNormalizado(documento);
+        if (tamanho != encontrado.validador().getTamanho()) {
+            return new ResolucaoValidador.Rejeitado(MotivoRejeicao.TAMANHO_INCOMPATIVEL, tamanho);
         }
 
-        return validator;
+        return encontrado;
+    }
+
+    public Validador getValidator(String documento) {
+        ResolucaoValidador resolucao = resolver(documento);
+        if (resolucao instanceof ResolucaoValidador.Encontrado encontrado) {
+            return encontrado.validador();
+        }
+        throw new DocumentoInvalidoException(documento, ((ResolucaoValidador.Rejeitado) resolucao).descricao());
     }
 }
@@ -0,0 +1,27 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.domain.DigitosPis;
+import com.projeto.validador.interfaces.Validador;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ValidadorPis implements Validador {
+
+    public boolean isValido(String entrada) {
+        return DigitosPis.valido(entrada);
+    }
+
+    public String getTipoDocumento() {
+        return "PIS";
+    }
+
+    public int getTamanho() {
+        return DigitosPis.TAMANHO;
+    }
+
+    // 11 dígitos, como o CPF: só atende quem declara o tipo
+    public boolean isDeduzidoPeloTamanho() {
+        return false;
+    }
+
+}
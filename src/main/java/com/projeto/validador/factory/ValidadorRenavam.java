@@ -0,0 +1,27 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.domain.DigitosRenavam;
+import com.projeto.validador.interfaces.Validador;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ValidadorRenavam implements Validador {
+
+    public boolean isValido(String entrada) {
+        return DigitosRenavam.valido(entrada);
+    }
+
+    public String getTipoDocumento() {
+        return "RENAVAM";
+    }
+
+    public int getTamanho() {
+        return DigitosRenavam.TAMANHO;
+    }
+
+    // 11 dígitos, como o CPF: só atende quem declara o tipo
+    public boolean isDeduzidoPeloTamanho() {
+        return false;
+    }
+
+}
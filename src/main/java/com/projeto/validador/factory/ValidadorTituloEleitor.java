@@ -0,0 +1,27 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.domain.DigitosTituloEleitor;
+import com.projeto.validador.interfaces.Validador;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ValidadorTituloEleitor implements Validador {
+
+    public boolean isValido(String entrada) {
+        return DigitosTituloEleitor.valido(entrada);
+    }
+
+    public String getTipoDocumento() {
+        return "TITULO_ELEITOR";
+    }
+
+    public int getTamanho() {
+        return DigitosTituloEleitor.TAMANHO;
+    }
+
+    // documentos de 12 caracteres sem tipo continuam rejeitados nos lotes, como antes do título
+    public boolean isDeduzidoPeloTamanho() {
+        return false;
+    }
+
+}
@@ -1,10 +1,26 @@
 package com.projeto.validador.interfaces;
 
+/**
+ * Validador de um tipo de documento. Implementações registradas como beans são encontradas
+ * pela {@code ValidadorFactory} sem alteração na factory.
+ */
 public interface Validador {
 
     boolean isValido(String entrada);
 
     String getTipoDocumento();
 
-}
+    /**
+     * Quantidade de caracteres do documento sem máscara, usada para rotear documentos sem tipo declarado.
+     */
+    int getTamanho();
+
+    /**
+     * Se documentos sem tipo declarado (lotes, arquivos) desse tamanho vão para este validador. Só um
+     * validador por tamanho pode responder true; os demais atendem apenas quem declara o tipo.
+     */
+    default boolean isDeduzidoPeloTamanho() {
+        return true;
+    }
 
+}
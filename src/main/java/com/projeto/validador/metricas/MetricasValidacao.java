@@ -0,0 +1,128 @@
+package com.projeto.validador.metricas;
+
+import com.projeto.validador.factory.MotivoRejeicao;
+import com.projeto.validador.interfaces.Validador;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas da validação por tipo de documento.
+ *
+ * Todos os medidores são registrados na inicialização, um conjunto por {@link Validador}, então
+ * o caminho de validação só faz uma busca no mapa pelo tipo e incrementa contadores: nenhuma
+ * tag é montada por chamada.
+ *
+ * - {@code validador.validacao} (timer com histograma), tag {@code tipo};
+ * - {@code validador.resultado}, tags {@code tipo} e {@code resultado} (valido/invalido);
+ * - {@code validador.entrada}, tags {@code tipo} e {@code formato} (mascarada/crua);
+ * - {@code validador.rejeitado}, tag {@code motivo}: documentos sem validador na factory.
+ */
+@Component
+public class MetricasValidacao {
+
+    private final Map<String, MetricasTipo> porTipo = new HashMap<>();
+    private final Map<MotivoRejeicao, Counter> rejeitados = new EnumMap<>(MotivoRejeicao.class);
+
+    public MetricasValidacao(MeterRegistry registry, List<Validador> validadores) {
+        for (Validador validador : validadores) {
+            porTipo.put(validador.getTipoDocumento(), new MetricasTipo(registry, validador.getTipoDocumento()));
+        }
+        for (MotivoRejeicao motivo : MotivoRejeicao.values()) {
+            rejeitados.put(motivo, Counter.builder("validador.rejeitado")
+                    .description("Documentos rejeitados pela factory antes da validação")
+                    .tag("motivo", motivo.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Registra uma validação que começou em {@code inicioNanos} ({@link System#nanoTime()}).
+     */
+    public void registrar(Validador validador, CharSequence documento, boolean valido, long inicioNanos) {
+        MetricasTipo metricas = porTipo.get(validador.getTipoDocumento());
+        if (metricas == null) return;
+
+        metricas.registrar(mascarado(documento), valido, inicioNanos);
+    }
+
+    /**
+     * Como {@link #registrar(Validador, CharSequence, boolean, long)}, para um documento de {@code tipo} lido direto
+     * de um buffer (lote binário), sem criar uma {@code String}.
+     */
+    public void registrar(String tipo, byte[] documento, int offset, int tamanho, boolean valido, long inicioNanos) {
+        MetricasTipo metricas = porTipo.get(tipo);
+        if (metricas == null) return;
+
+        metricas.registrar(mascarado(documento, offset, tamanho), valido, inicioNanos);
+    }
+
+    public void rejeitado(MotivoRejeicao motivo) {
+        rejeitados.get(motivo).increment();
+    }
+
+    // entrada com qualquer caractere além de letras e dígitos ASCII (pontos, barras, traços, espaços)
+    static boolean mascarado(CharSequence documento) {
+        for (int i = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) return true;
+        }
+        return false;
+    }
+
+    static boolean mascarado(byte[] documento, int offset, int tamanho) {
+        for (int i = offset; i < offset + tamanho; i++) {
+            byte c = documento[i];
+            if ((c < '0' || c > '9') && (c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) return true;
+        }
+        return false;
+    }
+
+    private static final class MetricasTipo {
+
+        private final Timer tempo;
+        private final Counter validos;
+        private final Counter invalidos;
+        private final Counter mascarados;
+        private final Counter crus;
+
+        MetricasTipo(MeterRegistry registry, String tipo) {
+            this.tempo = Timer.builder("validador.validacao")
+                    .description("Tempo de validação por tipo de documento")
+                    .tag("tipo", tipo)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.validos = resultado(registry, tipo, "valido");
+            this.invalidos = resultado(registry, tipo, "invalido");
+            this.mascarados = entrada(registry, tipo, "mascarada");
+            this.crus = entrada(registry, tipo, "crua");
+        }
+
+        void registrar(boolean mascarado, boolean valido, long inicioNanos) {
+            tempo.record(System.nanoTime() - inicioNanos, TimeUnit.NANOSECONDS);
+            (valido ? validos : invalidos).increment();
+            (mascarado ? mascarados : crus).increment();
+        }
+
+        private static Counter resultado(MeterRegistry registry, String tipo, String resultado) {
+            return Counter.builder("validador.resultado")
+                    .description("Documentos validados por tipo e resultado")
+                    .tags("tipo", tipo, "resultado", resultado)
+                    .register(registry);
+        }
+
+        private static Counter entrada(MeterRegistry registry, String tipo, String formato) {
+            return Counter.builder("validador.entrada")
+                    .description("Documentos recebidos com e sem máscara")
+                    .tags("tipo", tipo, "formato", formato)
+                    .register(registry);
+        }
+    }
+}
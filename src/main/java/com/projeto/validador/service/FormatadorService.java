@@ -0,0 +1,32 @@
+package com.projeto.validador.service;
+
+import com.projeto.validador.domain.FormatadorDocumento;
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.factory.MotivoRejeicao;
+import org.springframework.stereotype.Service;
+
+/**
+ * Formatação de documentos para exibição: o tipo é deduzido pelo tamanho sem máscara, como na validação.
+ */
+@Service
+public class FormatadorService {
+
+    /**
+     * Documento com a máscara do tipo ou, com {@code mascara} false, apenas normalizado. Os DVs não são conferidos.
+     */
+    public String formatar(String documento, boolean mascara) {
+        FormatadorDocumento formatador = FormatadorDocumento.para(documento);
+        if (formatador == null) {
+            throw new DocumentoInvalidoException(documento,
+                    MotivoRejeicao.TAMANHO_INVALIDO.descricao(FormatadorDocumento.tamanhoNormalizado(documento)));
+        }
+
+        StringBuilder sb = new StringBuilder(formatador.getTamanhoFormatado());
+        if (mascara) {
+            formatador.formatar(documento, sb);
+        } else {
+            FormatadorDocumento.normalizar(documento, sb);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.validador.service;
+
+import com.projeto.validador.domain.DigitosCnpj;
+import com.projeto.validador.domain.DigitosCpf;
+import com.projeto.validador.domain.GeradorDocumentos;
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Cálculo de DVs e geração de massa de documentos para testes de carga e ambientes de homologação.
+ */
+@Service
+public class GeradorService {
+
+    private final long quantidadeMaxima;
+
+    public GeradorService(@Value("${validador.gerador.quantidade-maxima:100000000}") long quantidadeMaxima) {
+        this.quantidadeMaxima = quantidadeMaxima;
+    }
+
+    /**
+     * DVs da base (9 dígitos para CPF, 12 alfanuméricos para CNPJ, máscara ignorada) com 2 dígitos.
+     */
+    public String dvs(GeradorDocumentos.Tipo tipo, String base) {
+        int dvs = tipo == GeradorDocumentos.Tipo.CPF ? DigitosCpf.calcularDvs(base) : DigitosCnpj.calcularDvs(base);
+        if (dvs < 0) {
+            throw new DocumentoInvalidoException(base, "Base inválida para " + tipo);
+        }
+        return dvs < 10 ? "0" + dvs : Integer.toString(dvs);
+    }
+
+    public void validarQuantidade(long quantidade) {
+        if (quantidade < 1 || quantidade > quantidadeMaxima) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Quantidade deve estar entre 1 e " + quantidadeMaxima + ": " + quantidade);
+        }
+    }
+
+    public void gerar(GeradorDocumentos.Tipo tipo, long quantidade, boolean validos, boolean alfanumerico,
+                      long semente, OutputStream saida) throws IOException {
+        new GeradorDocumentos(semente).gerar(tipo, quantidade, validos, alfanumerico, saida);
+    }
+}
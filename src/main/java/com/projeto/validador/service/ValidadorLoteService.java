@@ -0,0 +1,294 @@
+package com.projeto.validador.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.dto.ResultadoLinhaLote;
+import com.projeto.validador.factory.ResolucaoValidador;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.interfaces.Validador;
+import com.projeto.validador.metricas.MetricasValidacao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Validação em lote de documentos recebidos como stream, um por linha.
+ *
+ * Cada linha é lida, validada e escrita na saída antes da próxima ser lida, então o
+ * consumo de memória é constante independente do tamanho do lote. Linhas maiores que
+ * {@code validador.lote.tamanho-maximo-linha} são descartadas e reportadas como rejeitadas.
+ *
+ * Cada documento validado ou rejeitado entra nas métricas e na trilha de auditoria como nas consultas
+ * avulsas; as linhas longas, que não chegam a ser um documento, ficam de fora das duas.
+ *
+ * Formatos aceitos por linha:
+ * - texto: o próprio documento;
+ * - NDJSON: {@code {"documento": "..."}} ou uma string JSON.
+ */
+@Service
+public class ValidadorLoteService {
+
+    // quantidade de linhas entre cada flush da resposta
+    private static final int LINHAS_POR_FLUSH = 1024;
+    private static final String LINHA_LONGA = "Linha excede o tamanho máximo";
+
+    // situação da linha lida por lerLinha
+    private static final int FIM = -1;
+    private static final int OK = 0;
+    private static final int VAZIA = 1;
+    private static final int LONGA = 2;
+
+    private final ValidadorFactory validadorFactory;
+    private final MetricasValidacao metricasValidacao;
+    private final AuditoriaValidacao auditoriaValidacao;
+    private final JsonFactory jsonFactory;
+    private final int tamanhoMaximoLinha;
+
+    public ValidadorLoteService(ValidadorFactory validadorFactory,
+                                MetricasValidacao metricasValidacao,
+                                AuditoriaValidacao auditoriaValidacao,
+                                ObjectMapper objectMapper,
+                                @Value("${validador.lote.tamanho-maximo-linha:256}") int tamanhoMaximoLinha) {
+        this.validadorFactory = validadorFactory;
+        this.metricasValidacao = metricasValidacao;
+        this.auditoriaValidacao = auditoriaValidacao;
+        this.jsonFactory = objectMapper.getFactory();
+        this.tamanhoMaximoLinha = tamanhoMaximoLinha;
+    }
+
+    /**
+     * Lê documentos de {@code entrada} e escreve um resultado NDJSON por linha em {@code saida}:
+     * {@code {"linha":1,"documento":"...","tipo":"CPF","valido":true}} ou, quando o documento
+     * é rejeitado, {@code {"linha":2,"documento":"...","valido":false,"erro":"..."}}.
+     */
+    public void validarNdjson(InputStream entrada, OutputStream saida) throws IOException {
+        try (Reader reader = leitor(entrada);
+             JsonGenerator gerador = jsonFactory.createGenerator(saida)) {
+            gerador.setRootValueSeparator(null);
+
+            StringBuilder linha = new StringBuilder(tamanhoMaximoLinha);
+            long numero = 0;
+            int status;
+            while ((status = lerLinha(reader, linha)) != FIM) {
+                numero++;
+                if (status == VAZIA) continue;
+
+                gerador.writeStartObject();
+                gerador.writeNumberField("linha", numero);
+
+                if (status == LONGA) {
+                    gerador.writeBooleanField("valido", false);
+                    gerador.writeStringField("erro", LINHA_LONGA);
+                } else {
+                    escreverNdjson(gerador, documentoNdjson(linha));
+                }
+                gerador.writeEndObject();
+                gerador.writeRaw('\n');
+
+                if (numero % LINHAS_POR_FLUSH == 0) gerador.flush();
+            }
+        }
+    }
+
+    /**
+     * Lê documentos de {@code entrada} e escreve uma linha de texto por documento em {@code saida},
+     * no formato {@code linha;tipo;valido|invalido} ou {@code linha;;motivo da rejeição}.
+     */
+    public void validarTexto(InputStream entrada, OutputStream saida) throws IOException {
+        validarTexto(entrada, saida, 1);
+    }
+
+    /**
+     * Como {@link #validarTexto(InputStream, OutputStream)}, para um trecho de um lote maior que começa
+     * na linha {@code primeiraLinha} (ex: trabalhos processados em paralelo por trechos).
+     */
+    public void validarTexto(InputStream entrada, OutputStream saida, long primeiraLinha) throws IOException {
+        try (Reader reader = leitor(entrada);
+             Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 8192)) {
+            StringBuilder linha = new StringBuilder(tamanhoMaximoLinha);
+            long numero = primeiraLinha - 1;
+            int status;
+            while ((status = lerLinha(reader, linha)) != FIM) {
+                numero++;
+                if (status == VAZIA) continue;
+
+                escritor.write(Long.toString(numero));
+                escritor.write(';');
+                if (status == LONGA) {
+                    escritor.write(';');
+                    escritor.write(LINHA_LONGA);
+                } else {
+                    escreverTexto(escritor, linha.toString().trim());
+                }
+                escritor.write('\n');
+
+                if (numero % LINHAS_POR_FLUSH == 0) escritor.flush();
+            }
+        }
+    }
+
+    /**
+     * Valida uma linha já separada do lote, para quem não escreve direto em um stream (ex: lote reativo).
+     * Retorna {@code null} para linha em branco, que só conta na numeração.
+     */
+    public ResultadoLinhaLote validarLinha(long numero, String linha, boolean ndjson) {
+        if (linha.length() > tamanhoMaximoLinha) {
+            return linhaLonga(numero);
+        }
+        if (emBranco(linha)) return null;
+
+        String documento;
+        try {
+            documento = ndjson ? documentoNdjson(linha) : linha.trim();
+        } catch (IOException e) {
+            // a linha já está em memória: só chega aqui por erro interno do parser
+            throw new UncheckedIOException(e);
+        }
+        ResultadoLinhaLote.ResultadoLinhaLoteBuilder resultado = ResultadoLinhaLote.builder()
+                .linha(numero)
+                .documento(documento);
+
+        ResolucaoValidador resolucao = validadorFactory.resolver(documento);
+        if (resolucao instanceof ResolucaoValidador.Encontrado encontrado) {
+            Validador validador = encontrado.validador();
+            return resultado.tipo(validador.getTipoDocumento())
+                    .valido(validar(validador, documento))
+                    .build();
+        }
+
+        return resultado.erro(rejeitar(documento, (ResolucaoValidador.Rejeitado) resolucao)).build();
+    }
+
+    /**
+     * Resultado de uma linha acima de {@code validador.lote.tamanho-maximo-linha}, descartada sem ser lida inteira.
+     */
+    public ResultadoLinhaLote linhaLonga(long numero) {
+        return ResultadoLinhaLote.builder().linha(numero).erro(LINHA_LONGA).build();
+    }
+
+    public int getTamanhoMaximoLinha() {
+        return tamanhoMaximoLinha;
+    }
+
+    private void escreverNdjson(JsonGenerator gerador, String documento) throws IOException {
+        if (documento != null) {
+            gerador.writeStringField("documento", documento);
+        }
+        ResolucaoValidador resolucao = validadorFactory.resolver(documento);
+        if (resolucao instanceof ResolucaoValidador.Encontrado encontrado) {
+            Validador validador = encontrado.validador();
+            gerador.writeStringField("tipo", validador.getTipoDocumento());
+            gerador.writeBooleanField("valido", validar(validador, documento));
+        } else {
+            gerador.writeBooleanField("valido", false);
+            gerador.writeStringField("erro", rejeitar(documento, (ResolucaoValidador.Rejeitado) resolucao));
+        }
+    }
+
+    private void escreverTexto(Writer escritor, String documento) throws IOException {
+        ResolucaoValidador resolucao = validadorFactory.resolver(documento);
+        if (resolucao instanceof ResolucaoValidador.Encontrado encontrado) {
+            Validador validador = encontrado.validador();
+            escritor.write(validador.getTipoDocumento());
+            escritor.write(';');
+            escritor.write(validar(validador, documento) ? "valido" : "invalido");
+        } else {
+            escritor.write(';');
+            escritor.write(rejeitar(documento, (ResolucaoValidador.Rejeitado) resolucao));
+        }
+    }
+
+    private boolean validar(Validador validador, String documento) {
+        long inicio = System.nanoTime();
+        boolean valido = validador.isValido(documento);
+        metricasValidacao.registrar(validador, documento, valido, inicio);
+        auditoriaValidacao.validado(validador, documento, valido);
+        return valido;
+    }
+
+    // registra a rejeição e devolve o motivo para a resposta
+    private String rejeitar(String documento, ResolucaoValidador.Rejeitado rejeitado) {
+        metricasValidacao.rejeitado(rejeitado.motivo());
+        auditoriaValidacao.rejeitado(documento, rejeitado.motivo());
+        return rejeitado.descricao();
+    }
+
+    /**
+     * Lê a próxima linha em {@code linha}, reaproveitando o buffer. Caracteres além do tamanho
+     * máximo são consumidos e descartados, para que uma linha gigante não aumente o consumo de memória.
+     */
+    private int lerLinha(Reader reader, StringBuilder linha) throws IOException {
+        linha.setLength(0);
+        boolean longa = false;
+        boolean leuAlgo = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            if (c == '\n') break;
+            if (c == '\r') continue;
+            if (linha.length() < tamanhoMaximoLinha) {
+                linha.append((char) c);
+            } else {
+                longa = true;
+            }
+        }
+        if (!leuAlgo) return FIM;
+        if (longa) return LONGA;
+        return emBranco(linha) ? VAZIA : OK;
+    }
+
+    private static boolean emBranco(CharSequence linha) {
+        for (int i = 0; i < linha.length(); i++) {
+            if (!Character.isWhitespace(linha.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private String documentoNdjson(CharSequence linha) throws IOException {
+        String conteudo = linha.toString().trim();
+        if (conteudo.isEmpty()) return null;
+
+        char primeiro = conteudo.charAt(0);
+        if (primeiro != '{' && primeiro != '"') {
+            // documento sem aspas também é aceito
+            return conteudo;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(conteudo)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_OBJECT) {
+                if (token == JsonToken.FIELD_NAME && "documento".equals(parser.currentName())) {
+                    parser.nextToken();
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Reader leitor(InputStream entrada) {
+        return new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 8192);
+    }
+}
@@ -1,7 +1,14 @@
 package com.projeto.validador.service;
 
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.diagnostico.EventoEtapaValidacao;
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.dto.ResultadoValidacao;
+import com.projeto.validador.factory.ResolucaoValidador;
 import com.projeto.validador.interfaces.Validador;
 import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,11 +17,66 @@ import org.springframework.stereotype.Service;
 public class ValidadorService {
 
     private ValidadorFactory validadorFactory;
+    private MetricasValidacao metricasValidacao;
+    private CadastroDocumentos cadastroDocumentos;
+    private AuditoriaValidacao auditoriaValidacao;
 
     public String validar(String entrada) {
-        Validador validador = validadorFactory.getValidator(entrada);
-        return validador.isValido(entrada)
-                ? String.format(" %s valido", validador.getTipoDocumento())
-                : String.format(" %s invalido", validador.getTipoDocumento());
+        return validar(entrada, null);
+    }
+
+    /**
+     * Resposta em texto de {@link #avaliar(String, String)} ({@code " CPF valido"}).
+     */
+    public String validar(String entrada, String tipoDeclarado) {
+        return avaliar(entrada, tipoDeclarado).getTexto();
+    }
+
+    /**
+     * Valida {@code entrada} como documento do tipo declarado ou, com {@code tipoDeclarado} nulo,
+     * do tipo deduzido pelo tamanho sem máscara.
+     */
+    public ResultadoValidacao avaliar(String entrada, String tipoDeclarado) {
+        return avaliar(entrada, tipoDeclarado, true);
+    }
+
+    /**
+     * Como {@link #avaliar(String, String)}; com {@code registrar} falso (tráfego do aquecimento), a validação
+     * não entra nas métricas nem na auditoria.
+     */
+    public ResultadoValidacao avaliar(String entrada, String tipoDeclarado, boolean registrar) {
+        long inicio = System.nanoTime();
+        EventoEtapaValidacao eventoResolucao = new EventoEtapaValidacao();
+        eventoResolucao.begin();
+        ResolucaoValidador resolucao = validadorFactory.resolver(entrada, tipoDeclarado);
+        if (resolucao instanceof ResolucaoValidador.Rejeitado rejeitado) {
+            eventoResolucao.terminar(EventoEtapaValidacao.RESOLUCAO, tipoDeclarado, rejeitado.motivo().name());
+            if (registrar) {
+                metricasValidacao.rejeitado(rejeitado.motivo());
+                auditoriaValidacao.rejeitado(entrada, rejeitado.motivo());
+            }
+            throw new DocumentoInvalidoException(entrada, rejeitado.descricao());
+        }
+
+        ResolucaoValidador.Encontrado encontrado = (ResolucaoValidador.Encontrado) resolucao;
+        Validador validador = encontrado.validador();
+        String tipo = validador.getTipoDocumento();
+        eventoResolucao.terminar(EventoEtapaValidacao.RESOLUCAO, tipo, "encontrado");
+
+        EventoEtapaValidacao eventoRegra = new EventoEtapaValidacao();
+        eventoRegra.begin();
+        boolean valido = validador.isValido(entrada);
+        eventoRegra.terminar(EventoEtapaValidacao.REGRA, tipo, valido ? "valido" : "invalido");
+        if (registrar) {
+            metricasValidacao.registrar(validador, entrada, valido, inicio);
+            auditoriaValidacao.validado(validador, entrada, valido);
+        }
+
+        EventoEtapaValidacao eventoCadastro = new EventoEtapaValidacao();
+        eventoCadastro.begin();
+        Boolean cadastrado = cadastroDocumentos.cadastrado(validador, entrada, valido);
+        eventoCadastro.terminar(EventoEtapaValidacao.CADASTRO, tipo, String.valueOf(cadastrado));
+
+        return encontrado.resultado(entrada, valido, cadastrado);
     }
 }
@@ -0,0 +1,9 @@
+package com.projeto.validador.trabalho;
+
+public enum EstadoTrabalho {
+    /** Entrada gravada, esperando vaga entre os trabalhos simultâneos. */
+    PENDENTE,
+    PROCESSANDO,
+    CONCLUIDO,
+    FALHOU
+}
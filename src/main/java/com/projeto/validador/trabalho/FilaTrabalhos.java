@@ -0,0 +1,348 @@
+package com.projeto.validador.trabalho;
+
+import com.projeto.validador.service.ValidadorLoteService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Trabalhos de validação para lotes que levam minutos: a entrada é gravada em disco, o cliente recebe um id
+ * e consulta o andamento ou baixa os resultados depois, sem manter a conexão aberta.
+ *
+ * Cada trabalho tem um coordenador que lê a entrada em trechos terminados em quebra de linha e os distribui
+ * entre as threads de validação (compartilhadas por todos os trabalhos), mantendo poucos trechos em voo. Os
+ * resultados voltam na ordem da entrada e são gravados em sequência no arquivo de resultados, no formato de
+ * {@link ValidadorLoteService#validarTexto}. O progresso vai para um diário em disco, então trabalhos
+ * interrompidos por uma reinicialização são retomados do último trecho gravado.
+ *
+ * Só diretórios com nome de UUID são tratados como trabalhos; o resto de {@code validador.trabalhos.diretorio}
+ * não é tocado. Trabalhos concluídos ou com falha são apagados {@code validador.trabalhos.retencao} depois de
+ * terminar, e a entrada de cada um é limitada a {@code validador.trabalhos.tamanho-maximo-entrada}.
+ */
+@Slf4j
+@Service
+public class FilaTrabalhos {
+
+    // trechos em voo por trabalho, por thread de validação
+    private static final int TRECHOS_POR_THREAD = 2;
+    private static final Duration INTERVALO_LIMPEZA = Duration.ofMinutes(1);
+
+    private final ValidadorLoteService validadorLoteService;
+    private final Path diretorio;
+    private final int tamanhoTrecho;
+    private final int pendentesMaximos;
+    private final Duration retencao;
+    private final DataSize tamanhoMaximoEntrada;
+    private final int janela;
+
+    private final ExecutorService coordenadores;
+    private final ExecutorService validadores;
+    private final ScheduledExecutorService limpeza;
+    private final Map<String, Trabalho> trabalhos = new ConcurrentHashMap<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+
+    public FilaTrabalhos(ValidadorLoteService validadorLoteService,
+                         @Value("${validador.trabalhos.diretorio:${java.io.tmpdir}/validador-trabalhos}") Path diretorio,
+                         @Value("${validador.trabalhos.simultaneos:2}") int simultaneos,
+                         @Value("${validador.trabalhos.threads:0}") int threads,
+                         @Value("${validador.trabalhos.tamanho-trecho:4194304}") int tamanhoTrecho,
+                         @Value("${validador.trabalhos.pendentes-maximos:100}") int pendentesMaximos,
+                         @Value("${validador.trabalhos.retencao:24h}") Duration retencao,
+                         @Value("${validador.trabalhos.tamanho-maximo-entrada:1GB}") DataSize tamanhoMaximoEntrada) throws IOException {
+        if (retencao.isNegative() || retencao.isZero()) {
+            throw new IllegalArgumentException("Retenção de trabalhos deve ser positiva: " + retencao);
+        }
+        this.validadorLoteService = validadorLoteService;
+        this.diretorio = Files.createDirectories(diretorio);
+        this.tamanhoTrecho = tamanhoTrecho;
+        this.pendentesMaximos = pendentesMaximos;
+        this.retencao = retencao;
+        this.tamanhoMaximoEntrada = tamanhoMaximoEntrada;
+
+        int threadsValidacao = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.janela = threadsValidacao * TRECHOS_POR_THREAD;
+        this.coordenadores = Executors.newFixedThreadPool(simultaneos, Thread.ofPlatform().name("trabalho-", 0).factory());
+        this.validadores = Executors.newFixedThreadPool(threadsValidacao, Thread.ofPlatform().name("trabalho-validacao-", 0).factory());
+        this.limpeza = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("trabalho-limpeza").daemon().factory());
+        long intervalo = (retencao.compareTo(INTERVALO_LIMPEZA) < 0 ? retencao : INTERVALO_LIMPEZA).toMillis();
+        limpeza.scheduleWithFixedDelay(() -> expirar(Instant.now()), intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Retoma os trabalhos que não terminaram antes da última parada. Diretórios de trabalho sem entrada
+     * completa (envio interrompido) são descartados; os que não têm nome de UUID não são tocados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recuperar() throws IOException {
+        try (Stream<Path> diretorios = Files.list(diretorio)) {
+            for (Path dir : diretorios.filter(FilaTrabalhos::deTrabalho).toList()) {
+                if (!Files.exists(dir.resolve(Trabalho.ENTRADA))) {
+                    apagar(dir);
+                    continue;
+                }
+                Trabalho trabalho;
+                try {
+                    trabalho = Trabalho.abrir(dir);
+                } catch (IOException e) {
+                    log.warn("Trabalho {} ignorado na recuperação", dir.getFileName(), e);
+                    continue;
+                }
+                trabalhos.put(trabalho.getId(), trabalho);
+                if (trabalho.getEstado() == EstadoTrabalho.PENDENTE) {
+                    log.info("Retomando trabalho {} a partir da linha {}", trabalho.getId(), trabalho.getProgresso().linhas() + 1);
+                    // retomados não contam contra pendentes-maximos: já foram aceitos antes da parada
+                    pendentes.incrementAndGet();
+                    agendar(trabalho);
+                } else if (trabalho.getEstado() == EstadoTrabalho.FALHOU) {
+                    log.warn("Trabalho {} com falha: {}", trabalho.getId(), trabalho.getErro());
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava a entrada em disco e agenda o trabalho. A entrada só passa a existir com o nome final depois
+     * de gravada por completo.
+     */
+    public Trabalho submeter(InputStream entrada) throws IOException {
+        reservar();
+
+        Path dir = null;
+        try {
+            dir = Files.createDirectory(diretorio.resolve(UUID.randomUUID().toString()));
+            Path parcial = dir.resolve(Trabalho.ENTRADA + ".parcial");
+            try (OutputStream saida = Files.newOutputStream(parcial)) {
+                copiar(entrada, saida);
+            }
+            Files.move(parcial, dir.resolve(Trabalho.ENTRADA), StandardCopyOption.ATOMIC_MOVE);
+
+            Trabalho trabalho = Trabalho.abrir(dir);
+            agendar(trabalho);
+            trabalhos.put(trabalho.getId(), trabalho);
+            return trabalho;
+        } catch (IOException | RuntimeException e) {
+            pendentes.decrementAndGet();
+            if (dir != null) apagar(dir);
+            throw e;
+        }
+    }
+
+    /**
+     * Trabalho pelo id ou 404. O id é procurado no mapa, nunca usado direto como caminho.
+     */
+    public Trabalho buscar(String id) {
+        Trabalho trabalho = trabalhos.get(id);
+        if (trabalho == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trabalho não encontrado: " + id);
+        }
+        return trabalho;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        // coordenadores interrompidos param entre trechos; o diário já tem o último trecho gravado
+        coordenadores.shutdownNow();
+        validadores.shutdownNow();
+        limpeza.shutdownNow();
+    }
+
+    /**
+     * Apaga, do mapa e do disco, os trabalhos terminados há mais de {@code validador.trabalhos.retencao}.
+     */
+    void expirar(Instant agora) {
+        Instant limite = agora.minus(retencao);
+        for (Trabalho trabalho : trabalhos.values()) {
+            Instant terminadoEm = trabalho.terminadoEm();
+            if (terminadoEm != null && terminadoEm.isBefore(limite) && trabalhos.remove(trabalho.getId(), trabalho)) {
+                log.info("Trabalho {} expirado", trabalho.getId());
+                apagar(trabalho.diretorio());
+            }
+        }
+    }
+
+    // vaga na fila por CAS: o teste e o incremento juntos, para que envios simultâneos não passem do limite
+    private void reservar() {
+        int atual;
+        do {
+            atual = pendentes.get();
+            if (atual >= pendentesMaximos) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fila de trabalhos cheia: " + pendentesMaximos);
+            }
+        } while (!pendentes.compareAndSet(atual, atual + 1));
+    }
+
+    private void copiar(InputStream entrada, OutputStream saida) throws IOException {
+        long maximo = tamanhoMaximoEntrada.toBytes();
+        byte[] buffer = new byte[64 * 1024];
+        long gravados = 0;
+        int lidos;
+        while ((lidos = entrada.read(buffer)) != -1) {
+            gravados += lidos;
+            if (gravados > maximo) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Entrada do trabalho maior que " + tamanhoMaximoEntrada);
+            }
+            saida.write(buffer, 0, lidos);
+        }
+    }
+
+    // a vaga em pendentes já foi reservada por quem agenda
+    private void agendar(Trabalho trabalho) {
+        coordenadores.execute(() -> {
+            pendentes.decrementAndGet();
+            processar(trabalho);
+        });
+    }
+
+    private void processar(Trabalho trabalho) {
+        trabalho.iniciar();
+        ArrayDeque<Future<TrechoValidado>> emVoo = new ArrayDeque<>();
+        try (FileChannel entrada = FileChannel.open(trabalho.entrada(), StandardOpenOption.READ);
+             FileChannel resultado = FileChannel.open(trabalho.resultado(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            Trabalho.Progresso progresso = trabalho.getProgresso();
+            // o que foi gravado depois da última linha do diário é refeito
+            resultado.truncate(progresso.bytesResultado());
+            resultado.position(progresso.bytesResultado());
+
+            long posicao = progresso.bytesEntrada();
+            long linha = progresso.linhas();
+            long tamanho = entrada.size();
+            while (posicao < tamanho || !emVoo.isEmpty()) {
+                while (emVoo.size() < janela && posicao < tamanho) {
+                    Trecho trecho = lerTrecho(entrada, posicao, tamanho, linha + 1);
+                    posicao = trecho.fim();
+                    linha += trecho.linhas();
+                    emVoo.add(validadores.submit(() -> validar(trecho)));
+                }
+
+                TrechoValidado validado = emVoo.poll().get();
+                ByteBuffer bytes = ByteBuffer.wrap(validado.resultado());
+                while (bytes.hasRemaining()) resultado.write(bytes);
+                resultado.force(false);
+                trabalho.registrar(new Trabalho.Progresso(validado.trecho().fim(), resultado.position(),
+                        validado.trecho().primeiraLinha() + validado.trecho().linhas() - 1));
+            }
+            trabalho.concluir();
+        } catch (InterruptedException | RejectedExecutionException e) {
+            // aplicação parando: o trabalho é retomado na próxima inicialização
+            emVoo.forEach(futuro -> futuro.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Falha no trabalho {}", trabalho.getId(), e.getCause());
+            trabalho.falhar(e.getCause().getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha no trabalho {}", trabalho.getId(), e);
+            emVoo.forEach(futuro -> futuro.cancel(true));
+            trabalho.falhar(e.getMessage());
+        }
+    }
+
+    /**
+     * Lê um trecho de até {@code tamanhoTrecho} bytes a partir de {@code inicio}, terminado na última quebra
+     * de linha. Uma linha maior que o trecho faz o trecho crescer até o fim dela.
+     */
+    private Trecho lerTrecho(FileChannel entrada, long inicio, long tamanhoEntrada, long primeiraLinha) throws IOException {
+        long restante = tamanhoEntrada - inicio;
+        int tamanho = (int) Math.min(tamanhoTrecho, restante);
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(tamanho);
+            while (buffer.hasRemaining()) {
+                if (entrada.read(buffer, inicio + buffer.position()) < 0) break;
+            }
+            byte[] bytes = buffer.array();
+
+            boolean ultimo = tamanho == restante;
+            int fim = ultimo ? tamanho : ultimaQuebra(bytes) + 1;
+            if (fim > 0) {
+                int linhas = contarQuebras(bytes, fim) + (bytes[fim - 1] == '\n' ? 0 : 1);
+                return new Trecho(bytes, fim, inicio + fim, primeiraLinha, linhas);
+            }
+            tamanho = (int) Math.min((long) tamanho * 2, restante);
+        }
+    }
+
+    private TrechoValidado validar(Trecho trecho) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(trecho.tamanho() * 2);
+        validadorLoteService.validarTexto(new ByteArrayInputStream(trecho.bytes(), 0, trecho.tamanho()), saida,
+                trecho.primeiraLinha());
+        return new TrechoValidado(trecho, saida.toByteArray());
+    }
+
+    private static int ultimaQuebra(byte[] bytes) {
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static int contarQuebras(byte[] bytes, int fim) {
+        int quebras = 0;
+        for (int i = 0; i < fim; i++) {
+            if (bytes[i] == '\n') quebras++;
+        }
+        return quebras;
+    }
+
+    private static boolean deTrabalho(Path dir) {
+        if (!Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)) return false;
+        String nome = dir.getFileName().toString();
+        try {
+            return UUID.fromString(nome).toString().equals(nome);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // limpeza nunca derruba a aplicação: o que sobrar é tentado de novo na próxima recuperação
+    private static void apagar(Path dir) {
+        try (Stream<Path> caminhos = Files.walk(dir)) {
+            for (Path caminho : caminhos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Não foi possível apagar {}", dir, e);
+        }
+    }
+
+    // bytes[0, tamanho) da entrada, que termina na posição `fim` do arquivo
+    private record Trecho(byte[] bytes, int tamanho, long fim, long primeiraLinha, int linhas) {
+    }
+
+    private record TrechoValidado(Trecho trecho, byte[] resultado) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.projeto.validador.trabalho;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Um trabalho de validação em disco: a entrada, os resultados já gravados (em ordem, só com append) e o
+ * diário de progresso.
+ *
+ * Cada trecho concluído é gravado em {@link #RESULTADO} e sincronizado antes de a linha
+ * {@code bytesEntrada;bytesResultado;linhas} ir para o {@link #DIARIO}. Após uma queda, a última linha
+ * completa do diário diz até onde a entrada foi processada, e o que passou disso no arquivo de
+ * resultados é descartado. Um diário com linha ilegível deixa o trabalho como {@link EstadoTrabalho#FALHOU}.
+ */
+public final class Trabalho {
+
+    static final String ENTRADA = "entrada.txt";
+    static final String RESULTADO = "resultado.txt";
+    static final String DIARIO = "progresso.log";
+
+    private static final String CONCLUIDO = "CONCLUIDO";
+    private static final String FALHOU = "FALHOU;";
+
+    /**
+     * Posição até onde o trabalho foi processado e gravado.
+     */
+    public record Progresso(long bytesEntrada, long bytesResultado, long linhas) {
+
+        static final Progresso INICIO = new Progresso(0, 0, 0);
+    }
+
+    private final String id;
+    private final Path diretorio;
+    private final long tamanhoEntrada;
+
+    private volatile EstadoTrabalho estado;
+    private volatile Progresso progresso;
+    private volatile String erro;
+    private volatile Instant terminadoEm;
+
+    private Trabalho(Path diretorio, EstadoTrabalho estado, Progresso progresso, String erro,
+                     Instant terminadoEm) throws IOException {
+        this.id = diretorio.getFileName().toString();
+        this.diretorio = diretorio;
+        this.tamanhoEntrada = Files.size(diretorio.resolve(ENTRADA));
+        this.estado = estado;
+        this.progresso = progresso;
+        this.erro = erro;
+        this.terminadoEm = terminadoEm;
+    }
+
+    /**
+     * Carrega o trabalho do diretório, retomando o estado registrado no diário.
+     */
+    static Trabalho abrir(Path diretorio) throws IOException {
+        Path diario = diretorio.resolve(DIARIO);
+        if (!Files.exists(diario)) {
+            return new Trabalho(diretorio, EstadoTrabalho.PENDENTE, Progresso.INICIO, null, null);
+        }
+
+        // uma linha sem quebra no fim é uma escrita interrompida pela queda: é ignorada
+        String conteudo = Files.readString(diario, StandardCharsets.UTF_8);
+        String[] linhas = conteudo.substring(0, conteudo.lastIndexOf('\n') + 1).split("\n");
+
+        EstadoTrabalho estado = EstadoTrabalho.PENDENTE;
+        Progresso progresso = Progresso.INICIO;
+        String erro = null;
+        for (String linha : linhas) {
+            if (linha.isEmpty()) continue;
+            if (linha.equals(CONCLUIDO)) {
+                estado = EstadoTrabalho.CONCLUIDO;
+            } else if (linha.startsWith(FALHOU)) {
+                estado = EstadoTrabalho.FALHOU;
+                erro = linha.substring(FALHOU.length());
+            } else {
+                try {
+                    String[] campos = linha.split(";");
+                    progresso = new Progresso(Long.parseLong(campos[0]), Long.parseLong(campos[1]), Long.parseLong(campos[2]));
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    // sem saber até onde a entrada foi processada, retomar poderia duplicar ou pular linhas
+                    estado = EstadoTrabalho.FALHOU;
+                    erro = "Diário de progresso corrompido: " + linha;
+                    break;
+                }
+            }
+        }
+        Instant terminadoEm = estado == EstadoTrabalho.PENDENTE ? null : Files.getLastModifiedTime(diario).toInstant();
+        return new Trabalho(diretorio, estado, progresso, erro, terminadoEm);
+    }
+
+    void iniciar() {
+        estado = EstadoTrabalho.PROCESSANDO;
+    }
+
+    void registrar(Progresso progresso) throws IOException {
+        anotar(progresso.bytesEntrada() + ";" + progresso.bytesResultado() + ";" + progresso.linhas());
+        this.progresso = progresso;
+    }
+
+    void concluir() throws IOException {
+        anotar(CONCLUIDO);
+        terminadoEm = Instant.now();
+        estado = EstadoTrabalho.CONCLUIDO;
+    }
+
+    void falhar(String motivo) {
+        String linha = motivo == null ? "erro interno" : motivo.replace('\n', ' ');
+        try {
+            anotar(FALHOU + linha);
+        } catch (IOException e) {
+            // sem diário o trabalho é retomado na próxima inicialização, o que também serve
+        }
+        erro = linha;
+        terminadoEm = Instant.now();
+        estado = EstadoTrabalho.FALHOU;
+    }
+
+    private void anotar(String linha) throws IOException {
+        try (FileChannel diario = FileChannel.open(diretorio.resolve(DIARIO),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap((linha + "\n").getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) diario.write(bytes);
+            diario.force(false);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public EstadoTrabalho getEstado() {
+        return estado;
+    }
+
+    public Progresso getProgresso() {
+        return progresso;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public long getTamanhoEntrada() {
+        return tamanhoEntrada;
+    }
+
+    /**
+     * Quando o trabalho foi concluído ou falhou, ou {@code null} enquanto não terminou.
+     */
+    Instant terminadoEm() {
+        return terminadoEm;
+    }
+
+    Path diretorio() {
+        return diretorio;
+    }
+
+    public Path entrada() {
+        return diretorio.resolve(ENTRADA);
+    }
+
+    public Path resultado() {
+        return diretorio.resolve(RESULTADO);
+    }
+}
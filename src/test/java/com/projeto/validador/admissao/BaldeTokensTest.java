@@ -0,0 +1,74 @@
+package com.projeto.validador.admissao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaldeTokensTest {
+
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Deve aceitar a rajada de uma vez e depois seguir a taxa")
+    void deveAceitarRajadaESeguirTaxa() {
+        long agora = 5 * SEGUNDO;
+        BaldeTokens balde = new BaldeTokens(10, 3, agora);
+
+        assertTrue(balde.tentarConsumir(agora));
+        assertTrue(balde.tentarConsumir(agora));
+        assertTrue(balde.tentarConsumir(agora));
+        assertFalse(balde.tentarConsumir(agora));
+        assertEquals(SEGUNDO / 10, balde.esperaNanos(agora));
+
+        assertFalse(balde.tentarConsumir(agora + SEGUNDO / 10 - 1));
+        assertTrue(balde.tentarConsumir(agora + SEGUNDO / 10));
+        assertFalse(balde.tentarConsumir(agora + SEGUNDO / 10));
+    }
+
+    @Test
+    @DisplayName("Deve acumular no máximo a rajada depois de um período parado")
+    void deveAcumularNoMaximoARajada() {
+        BaldeTokens balde = new BaldeTokens(100, 5, 0);
+        long depois = 60 * SEGUNDO;
+
+        int aceitas = 0;
+        while (balde.tentarConsumir(depois)) aceitas++;
+
+        assertEquals(5, aceitas);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar exatamente a rajada com várias threads disputando o mesmo balde")
+    void deveAceitarExatamenteARajadaEmConcorrencia() throws InterruptedException {
+        long agora = System.nanoTime();
+        BaldeTokens balde = new BaldeTokens(0.001, 1_000, agora);
+        AtomicInteger aceitas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (balde.tentarConsumir(agora)) aceitas.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        largada.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1_000, aceitas.get());
+    }
+}
@@ -0,0 +1,79 @@
+package com.projeto.validador.admissao;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControleAdmissaoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ControleAdmissao controle = new ControleAdmissao(new PropriedadesAdmissao(true, true, 1_000, Duration.ofMinutes(1), Map.of(
+            "validar", new PropriedadesAdmissao.Endpoint("/v1/validar", 2, 0, 1),
+            "lote", new PropriedadesAdmissao.Endpoint("/v1/validar/lote", 0, 1, 2))), registry);
+
+    @Test
+    @DisplayName("Deve escolher o endpoint pelo prefixo mais longo, casando segmentos inteiros")
+    void deveEscolherEndpointPeloPrefixoMaisLongo() {
+        assertEquals("validar", controle.endpoint("/v1/validar/cpf").getNome());
+        assertEquals("lote", controle.endpoint("/v1/validar/lote").getNome());
+        assertEquals("validar", controle.endpoint("/v1/validar").getNome());
+        assertNull(controle.endpoint("/v1/validarX"));
+        assertEquals("validar", controle.endpoint("/v1/validar/loteria").getNome());
+        assertNull(controle.endpoint("/actuator/health"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar acima da concorrência máxima e voltar a admitir ao liberar")
+    void deveRejeitarAcimaDaConcorrenciaMaxima() {
+        ControleAdmissao.Endpoint validar = controle.endpoint("/v1/validar/cpf");
+
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, validar.admitir("a"));
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, validar.admitir("b"));
+        assertEquals(ControleAdmissao.Decisao.CONCORRENCIA_EXCEDIDA, validar.admitir("c"));
+        assertEquals(2, validar.emAndamento());
+
+        validar.liberar();
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, validar.admitir("c"));
+
+        assertEquals(3, contador("validar", "admitido"));
+        assertEquals(1, contador("validar", "concorrencia"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a taxa por cliente sem afetar os demais")
+    void deveLimitarTaxaPorCliente() {
+        ControleAdmissao.Endpoint lote = controle.endpoint("/v1/validar/lote");
+
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, lote.admitir("10.0.0.1"));
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, lote.admitir("10.0.0.1"));
+        assertEquals(ControleAdmissao.Decisao.TAXA_EXCEDIDA, lote.admitir("10.0.0.1"));
+        assertEquals(ControleAdmissao.Decisao.ADMITIDO, lote.admitir("10.0.0.2"));
+
+        assertEquals(1, lote.esperaSegundos("10.0.0.1"));
+        assertEquals(1, contador("lote", "taxa"));
+        assertEquals(3, contador("lote", "admitido"));
+    }
+
+    @Test
+    @DisplayName("Deve deixar todos os caminhos passar, sem métricas, quando desabilitado")
+    void deveDeixarPassarQuandoDesabilitado() {
+        SimpleMeterRegistry registryDesabilitado = new SimpleMeterRegistry();
+        ControleAdmissao desabilitado = new ControleAdmissao(new PropriedadesAdmissao(false, false, 1_000,
+                Duration.ofMinutes(1), Map.of("validar", new PropriedadesAdmissao.Endpoint("/v1/validar", 2, 0, 1))),
+                registryDesabilitado);
+
+        assertNull(desabilitado.endpoint("/v1/validar/cpf"));
+        assertTrue(registryDesabilitado.getMeters().isEmpty());
+    }
+
+    private double contador(String endpoint, String resultado) {
+        return registry.get("validador.admissao").tags("endpoint", endpoint, "resultado", resultado).counter().count();
+    }
+}
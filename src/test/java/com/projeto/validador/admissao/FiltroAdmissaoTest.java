@@ -0,0 +1,53 @@
+package com.projeto.validador.admissao;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FiltroAdmissaoTest {
+
+    private final FiltroAdmissao filtro = new FiltroAdmissao(new ControleAdmissao(new PropriedadesAdmissao(true, false, 1_000,
+            Duration.ofMinutes(1), Map.of(
+            "validar", new PropriedadesAdmissao.Endpoint("/v1/validar", 0, 1, 1),
+            "lote", new PropriedadesAdmissao.Endpoint("/v1/validar/lote", 0, 1, 1))), new SimpleMeterRegistry()), false);
+
+    @Test
+    @DisplayName("Deve limitar pelo caminho roteado, sem parâmetros de ponto e vírgula")
+    void deveIgnorarParametrosDePontoEVirgula() throws Exception {
+        assertEquals(200, filtrar("POST", "/v1/validar/lote"));
+        assertEquals(429, filtrar("POST", "/v1/validar/lote;x"));
+        assertEquals(429, filtrar("POST", "/v1/validar;x/lote"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar pelo caminho roteado, decodificado")
+    void deveDecodificarCaminho() throws Exception {
+        assertEquals(200, filtrar("GET", "/v1/validar/cpf"));
+        assertEquals(429, filtrar("GET", "/v1/%76alidar/cpf"));
+        assertEquals(200, filtrar("POST", "/v1/validar/%6Cote"));
+        assertEquals(429, filtrar("POST", "/v1/validar/lote"));
+    }
+
+    @Test
+    @DisplayName("Deve deixar passar caminhos sem limite")
+    void deveDeixarPassarCaminhosSemLimite() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, filtrar("GET", "/actuator/health"));
+        }
+    }
+
+    private int filtrar(String metodo, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,122 @@
+package com.projeto.validador.aquecimento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.binario.CodecLoteBinario;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.controller.ValidadorController;
+import com.projeto.validador.controller.ValidadorReativoController;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.interfaces.Validador;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import com.projeto.validador.service.ValidadorService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AquecimentoJitTest {
+
+    private final List<Validador> validadores = List.of(new ValidadorCpf(), new ValidadorCnpj());
+    private final ValidadorFactory factory = new ValidadorFactory(validadores);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasValidacao metricas = new MetricasValidacao(registry, validadores);
+
+    @Test
+    @DisplayName("Deve ficar fora da readiness até concluir as iterações")
+    void deveFicarForaDaReadinessAteConcluir() {
+        AquecimentoJit aquecimento = aquecimento(true, 10_000, Duration.ofMinutes(1));
+        assertEquals(Status.OUT_OF_SERVICE, aquecimento.health().getStatus());
+
+        aquecimento.aquecer(-1);
+
+        assertEquals(Status.UP, aquecimento.health().getStatus());
+        assertEquals(AquecimentoJit.Estado.CONCLUIDO, aquecimento.getEstado());
+        assertEquals(10_000, aquecimento.getValidacoes());
+    }
+
+    @Test
+    @DisplayName("Deve parar no tempo máximo antes das iterações")
+    void devePararNoTempoMaximo() {
+        AquecimentoJit aquecimento = aquecimento(true, Integer.MAX_VALUE, Duration.ofMillis(100));
+
+        aquecimento.aquecer(-1);
+
+        assertEquals(Status.UP, aquecimento.health().getStatus());
+        assertTrue(aquecimento.getValidacoes() < Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve responder UP desde o início quando desabilitado")
+    void deveResponderUpQuandoDesabilitado() {
+        assertEquals(Status.UP, aquecimento(false, 10_000, Duration.ofMinutes(1)).health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve deixar fora das métricas só as requisições com a marca do aquecimento")
+    void deveIgnorarRequisicoesMarcadasNasMetricas() {
+        WebTestClient cliente = WebTestClient
+                .bindToController(new ValidadorReativoController(
+                        new ValidadorService(factory, metricas, CadastroDocumentos.desabilitado(),
+                                AuditoriaValidacao.desabilitada()),
+                        new ValidadorLoteService(factory, metricas, AuditoriaValidacao.desabilitada(),
+                                new ObjectMapper(), 256)))
+                .build();
+
+        cliente.get().uri("/v1/validar/cpf?documento=52998224725")
+                .header(MarcaAquecimento.CABECALHO, MarcaAquecimento.valor())
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(0, validacoesRegistradas());
+
+        cliente.get().uri("/v1/validar/cpf?documento=52998224725")
+                .header(MarcaAquecimento.CABECALHO, "0".repeat(32))
+                .exchange()
+                .expectStatus().isOk();
+        cliente.get().uri("/v1/validar/cpf?documento=52998224725")
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(2, validacoesRegistradas());
+    }
+
+    @Test
+    @DisplayName("Deve gerar corpus com documentos válidos, inválidos, mascarados, alfanuméricos e de tamanho errado")
+    void deveGerarCorpusVariado() {
+        List<AquecimentoJit.Entrada> corpus = AquecimentoJit.corpus();
+        ValidadorCpf cpf = new ValidadorCpf();
+        ValidadorCnpj cnpj = new ValidadorCnpj();
+
+        long validos = corpus.stream()
+                .filter(e -> e.tipo().equals("CPF") ? cpf.isValido(e.documento()) : cnpj.isValido(e.documento()))
+                .count();
+        assertTrue(validos > corpus.size() / 2 && validos < corpus.size());
+        assertTrue(corpus.stream().anyMatch(e -> e.documento().contains(".")));
+        assertTrue(corpus.stream().anyMatch(e -> e.tipo().equals("CNPJ") && e.documento().matches(".*[A-Z].*")));
+        assertTrue(corpus.stream().anyMatch(e -> e.documento().length() == 10 || e.documento().length() == 13));
+        assertEquals(corpus, AquecimentoJit.corpus());
+    }
+
+    private double validacoesRegistradas() {
+        return registry.find("validador.resultado").counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private AquecimentoJit aquecimento(boolean habilitado, int iteracoes, Duration tempoMaximo) {
+        return new AquecimentoJit(habilitado, iteracoes, tempoMaximo, 0,
+                factory, validadores, CadastroDocumentos.desabilitado(),
+                new ValidadorLoteService(factory, metricas, AuditoriaValidacao.desabilitada(), new ObjectMapper(), 256),
+                new CodecLoteBinario(metricas, AuditoriaValidacao.desabilitada()),
+                new DefaultListableBeanFactory().getBeanProvider(ValidadorController.class));
+    }
+}
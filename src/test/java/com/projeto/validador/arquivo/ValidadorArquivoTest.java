@@ -0,0 +1,167 @@
+package com.projeto.validador.arquivo;
+
+import com.projeto.validador.domain.RegrasCnpj;
+import com.projeto.validador.domain.RegrasCpf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidadorArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve validar a coluna informada e escrever as linhas inválidas com o número da linha")
+    void deveValidarColunaEEscreverInvalidos() throws IOException {
+        String conteudo = """
+                nome;documento;cidade
+                Ana;52998224725;SP
+                "Silva; Bruno";11222333000182;RJ
+                \r
+                Carla;"12.ABC.345/01DE-35";BH\r
+                Davi;123;POA
+                Eva
+                Fábio; 39053344705 ;REC""";
+
+        ResumoArquivo resumo = validar(conteudo, new ValidadorArquivo(1, (byte) ';', true, ForkJoinPool.commonPool()));
+
+        assertEquals(8, resumo.linhas());
+        assertEquals(6, resumo.documentos());
+        assertEquals(2, resumo.cpfValidos());
+        assertEquals(1, resumo.cnpjValidos());
+        assertEquals(1, resumo.cnpjInvalidos());
+        assertEquals(2, resumo.rejeitados());
+        assertEquals("""
+                3;CNPJ;invalido;"Silva; Bruno";11222333000182;RJ
+                6;;Tamanho inválido para documento: 3;Davi;123;POA
+                7;;Tamanho inválido para documento: 0;Eva
+                """, invalidos());
+    }
+
+    @Test
+    @DisplayName("Deve chegar ao mesmo resultado dividindo o arquivo em regiões e trechos pequenos")
+    void deveChegarAoMesmoResultadoComRegioesETrechosPequenos() throws IOException {
+        Random random = new Random(20240610L);
+        StringBuilder conteudo = new StringBuilder();
+        long esperadosValidos = 0;
+        long esperadosInvalidos = 0;
+
+        for (int i = 0; i < 5_000; i++) {
+            String documento = switch (random.nextInt(4)) {
+                case 0 -> "52998224725";
+                case 1 -> "11222333000181";
+                case 2 -> String.valueOf(10_000_000_000L + random.nextInt(1_000_000_000));
+                default -> "12ABC34501DE3" + random.nextInt(10);
+            };
+            boolean valido = documento.length() == 11 ? RegrasCpf.cpfValido(documento) : RegrasCnpj.cnpjAlfanumericoValido(documento);
+            if (valido) esperadosValidos++;
+            else esperadosInvalidos++;
+            conteudo.append(i).append(',').append(documento).append('\n');
+        }
+
+        ResumoArquivo resumo = validar(conteudo.toString(), new ValidadorArquivo(1, (byte) ',', false, ForkJoinPool.commonPool()));
+        String invalidos = invalidos();
+        ResumoArquivo resumoDividido = validar(conteudo.toString(),
+                new ValidadorArquivo(1, (byte) ',', false, ForkJoinPool.commonPool(), 4096, 97));
+
+        assertEquals(5_000, resumo.linhas());
+        assertEquals(esperadosValidos, resumo.cpfValidos() + resumo.cnpjValidos());
+        assertEquals(esperadosInvalidos, resumo.invalidos());
+        assertEquals(resumo.linhas(), resumoDividido.linhas());
+        assertEquals(resumo.cpfValidos(), resumoDividido.cpfValidos());
+        assertEquals(resumo.cnpjValidos(), resumoDividido.cnpjValidos());
+        assertEquals(resumo.invalidos(), resumoDividido.invalidos());
+        assertEquals(invalidos, invalidos());
+    }
+
+    @Test
+    @DisplayName("Deve revalidar só os trechos alterados e chegar ao mesmo resultado da validação completa")
+    void deveRevalidarSoTrechosAlterados() throws IOException {
+        Random random = new Random(20240615L);
+        StringBuilder conteudo = new StringBuilder("id,documento\n");
+        for (int i = 0; i < 20_000; i++) {
+            String documento = switch (random.nextInt(3)) {
+                case 0 -> "529.982.247-2" + random.nextInt(10);
+                case 1 -> "11222333000" + (180 + random.nextInt(3));
+                default -> String.valueOf(random.nextInt(1_000_000));
+            };
+            conteudo.append(i).append(',').append(documento).append('\n');
+        }
+        ValidadorArquivo validador = new ValidadorArquivo(1, (byte) ',', true, ForkJoinPool.commonPool());
+
+        ResumoArquivo primeira = validarIncremental(conteudo.toString(), validador);
+        assertEquals(0, primeira.trechosReaproveitados());
+        assertTrue(primeira.trechos() > 100);
+        assertMesmoResultado(primeira, conteudo.toString(), validador);
+
+        ResumoArquivo semAlteracao = validarIncremental(conteudo.toString(), validador);
+        assertEquals(semAlteracao.trechos(), semAlteracao.trechosReaproveitados());
+        assertEquals(semAlteracao.bytes(), semAlteracao.bytesReaproveitados());
+
+        // altera uma linha no meio, insere uma perto do início e apaga a última
+        int meio = conteudo.indexOf("\n10000,") + 1;
+        conteudo.replace(meio, conteudo.indexOf("\n", meio), "10000,39053344705");
+        conteudo.insert(conteudo.indexOf("\n500,") + 1, "499.5,123\n");
+        conteudo.setLength(conteudo.lastIndexOf("\n", conteudo.length() - 2) + 1);
+
+        ResumoArquivo alterada = validarIncremental(conteudo.toString(), validador);
+        assertMesmoResultado(alterada, conteudo.toString(), validador);
+        assertTrue(alterada.trechosReaproveitados() > 0);
+        assertTrue(alterada.trechos() - alterada.trechosReaproveitados() <= 10);
+        assertTrue(alterada.bytesReaproveitados() > alterada.bytes() * 0.9);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o manifesto gravado com outra configuração")
+    void deveIgnorarManifestoDeOutraConfiguracao() throws IOException {
+        String conteudo = "documento\n52998224725\n123\n11222333000181\n".repeat(200);
+
+        validarIncremental(conteudo, new ValidadorArquivo(0, (byte) ';', true, ForkJoinPool.commonPool()));
+        ResumoArquivo semCabecalho = validarIncremental(conteudo,
+                new ValidadorArquivo(0, (byte) ';', false, ForkJoinPool.commonPool()));
+
+        assertEquals(0, semCabecalho.trechosReaproveitados());
+        assertEquals(400, semCabecalho.rejeitados());
+    }
+
+    private void assertMesmoResultado(ResumoArquivo incremental, String conteudo, ValidadorArquivo validador)
+            throws IOException {
+        String invalidosIncremental = invalidos();
+        ResumoArquivo completa = validar(conteudo, validador);
+
+        assertEquals(completa.linhas(), incremental.linhas());
+        assertEquals(completa.cpfValidos(), incremental.cpfValidos());
+        assertEquals(completa.cpfInvalidos(), incremental.cpfInvalidos());
+        assertEquals(completa.cnpjValidos(), incremental.cnpjValidos());
+        assertEquals(completa.cnpjInvalidos(), incremental.cnpjInvalidos());
+        assertEquals(completa.rejeitados(), incremental.rejeitados());
+        assertEquals(invalidos(), invalidosIncremental);
+    }
+
+    private ResumoArquivo validarIncremental(String conteudo, ValidadorArquivo validador) throws IOException {
+        Path arquivo = diretorio.resolve("documentos.csv");
+        Files.writeString(arquivo, conteudo, StandardCharsets.UTF_8);
+        return validador.validar(arquivo, diretorio.resolve("invalidos.csv"), diretorio.resolve("documentos.manifesto"), 1024);
+    }
+
+    private ResumoArquivo validar(String conteudo, ValidadorArquivo validador) throws IOException {
+        Path arquivo = diretorio.resolve("documentos.csv");
+        Files.writeString(arquivo, conteudo, StandardCharsets.UTF_8);
+        return validador.validar(arquivo, diretorio.resolve("invalidos.csv"));
+    }
+
+    private String invalidos() throws IOException {
+        return Files.readString(diretorio.resolve("invalidos.csv"), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package com.projeto.validador.auditoria;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnelAuditoriaTest {
+
+    @Test
+    @DisplayName("Deve recusar publicação com o anel cheio e reaproveitar as posições consumidas")
+    void deveRecusarPublicacaoComAnelCheio() {
+        AnelAuditoria anel = new AnelAuditoria(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(anel.publicar(i, "CPF", "VALIDO", "52998224725"));
+        }
+        assertFalse(anel.publicar(4, "CPF", "VALIDO", "52998224725"));
+        assertEquals(4, anel.ocupacao());
+
+        List<Long> instantes = new ArrayList<>();
+        assertEquals(2, anel.drenar(registro -> instantes.add(registro.instante), 2));
+        assertTrue(anel.publicar(4, "CPF", "VALIDO", "52998224725"));
+        assertTrue(anel.publicar(5, "CPF", "VALIDO", "52998224725"));
+        assertFalse(anel.publicar(6, "CPF", "VALIDO", "52998224725"));
+
+        assertEquals(4, anel.drenar(registro -> instantes.add(registro.instante), 100));
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), instantes);
+        assertEquals(0, anel.ocupacao());
+        assertEquals(0, anel.drenar(registro -> instantes.add(registro.instante), 100));
+    }
+
+    @Test
+    @DisplayName("Deve guardar no máximo os primeiros caracteres do documento")
+    void deveTruncarDocumento() {
+        AnelAuditoria anel = new AnelAuditoria(2);
+        String longo = "1".repeat(AnelAuditoria.TAMANHO_DOCUMENTO + 10);
+        anel.publicar(0, "-", "REJEITADO_TAMANHO_INVALIDO", longo);
+        anel.publicar(0, "CNPJ", "VALIDO", "12.ABC.345/01DE-35");
+
+        List<String> documentos = new ArrayList<>();
+        anel.drenar(registro -> documentos.add(
+                new String(Arrays.copyOf(registro.documento, registro.tamanhoDocumento), StandardCharsets.US_ASCII)), 2);
+
+        assertEquals(List.of(longo.substring(0, AnelAuditoria.TAMANHO_DOCUMENTO), "12.ABC.345/01DE-35"), documentos);
+    }
+
+    @Test
+    @DisplayName("Deve entregar todos os registros de vários produtores, na ordem de cada produtor")
+    void deveEntregarRegistrosDeVariosProdutores() throws InterruptedException {
+        int produtores = 4;
+        int porProdutor = 50_000;
+        AnelAuditoria anel = new AnelAuditoria(256);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < produtores; p++) {
+            String tipo = "P" + p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!anel.publicar(i, tipo, "VALIDO", "52998224725")) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long[] proximo = new long[produtores];
+        boolean[] emOrdem = {true};
+        int recebidos = 0;
+        while (recebidos < produtores * porProdutor) {
+            recebidos += anel.drenar(registro -> {
+                int p = registro.tipo.charAt(1) - '0';
+                emOrdem[0] &= registro.instante == proximo[p]++;
+            }, 1000);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(emOrdem[0]);
+        assertArrayEquals(new long[]{porProdutor, porProdutor, porProdutor, porProdutor}, proximo);
+        assertEquals(0, anel.drenar(registro -> { }, 1000));
+    }
+
+    @Test
+    @DisplayName("Deve exigir capacidade potência de 2")
+    void deveExigirCapacidadePotenciaDeDois() {
+        assertThrows(IllegalArgumentException.class, () -> new AnelAuditoria(1000));
+    }
+}
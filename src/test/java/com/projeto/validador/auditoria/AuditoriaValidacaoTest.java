@@ -0,0 +1,179 @@
+package com.projeto.validador.auditoria;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.binario.CodecLoteBinario;
+import com.projeto.validador.factory.MotivoRejeicao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditoriaValidacaoTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+
+    @Test
+    @DisplayName("Deve gravar o HMAC do documento normalizado, nunca o documento")
+    void deveGravarHashDoDocumento() throws Exception {
+        AuditoriaValidacao auditoria = new AuditoriaValidacao(propriedades(1024, false, DataSize.ofMegabytes(1), 10), registry);
+        auditoria.validado(validadorCpf, "529.982.247-25", true);
+        auditoria.validado(validadorCpf, "52998224725", true);
+        auditoria.validado(new ValidadorCnpj(), "12.abc.345/01de-35", false);
+        auditoria.rejeitado("123", MotivoRejeicao.TAMANHO_INVALIDO);
+        auditoria.rejeitado(null, MotivoRejeicao.NULO);
+        auditoria.encerrar();
+
+        List<String[]> linhas = linhas().stream().map(linha -> linha.split(" ")).toList();
+        assertEquals(5, linhas.size());
+        assertEquals(List.of("CPF", "CPF", "CNPJ", "-", "-"), linhas.stream().map(campos -> campos[1]).toList());
+        assertEquals(List.of("VALIDO", "VALIDO", "INVALIDO", "REJEITADO_TAMANHO_INVALIDO", "REJEITADO_NULO"),
+                linhas.stream().map(campos -> campos[2]).toList());
+        assertEquals(List.of(hmac("52998224725"), hmac("52998224725"), hmac("12ABC34501DE35"), hmac("123"), hmac("")),
+                linhas.stream().map(campos -> campos[3]).toList());
+        for (String[] campos : linhas) {
+            assertEquals(4, campos.length);
+        }
+        assertFalse(String.join("\n", linhas()).contains("52998224725"));
+        assertEquals(5.0, registry.get("validador.auditoria.gravados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve auditar cada documento dos lotes de texto, NDJSON, reativo e binário")
+    void deveAuditarLotes() throws Exception {
+        AuditoriaValidacao auditoria = new AuditoriaValidacao(propriedades(1024, false, DataSize.ofMegabytes(1), 10), registry);
+        ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+        ValidadorLoteService lote = new ValidadorLoteService(
+                new ValidadorFactory(List.of(validadorCpf, validadorCnpj)),
+                new MetricasValidacao(registry, List.of(validadorCpf, validadorCnpj)),
+                auditoria,
+                new ObjectMapper(),
+                256);
+
+        lote.validarTexto(new ByteArrayInputStream("529.982.247-25\n123\n".getBytes(StandardCharsets.UTF_8)),
+                OutputStream.nullOutputStream());
+        // a linha longa não é um documento e fica fora da trilha
+        lote.validarNdjson(new ByteArrayInputStream(("{\"documento\":\"12ABC34501DE35\"}\n" + "9".repeat(300) + "\n")
+                .getBytes(StandardCharsets.UTF_8)), OutputStream.nullOutputStream());
+        lote.validarLinha(1, "52998224724", false);
+
+        ByteArrayOutputStream binario = new ByteArrayOutputStream();
+        for (String documento : List.of("52998224725", "123")) {
+            binario.write(documento.length());
+            binario.writeBytes(documento.getBytes(StandardCharsets.US_ASCII));
+        }
+        // registro truncado no fim do corpo
+        binario.write(14);
+        binario.writeBytes("112".getBytes(StandardCharsets.US_ASCII));
+        new CodecLoteBinario(new MetricasValidacao(registry, List.of(validadorCpf, validadorCnpj)), auditoria).validar(new ByteArrayInputStream(binario.toByteArray()), OutputStream.nullOutputStream());
+        auditoria.encerrar();
+
+        List<String[]> linhas = linhas().stream().map(linha -> linha.split(" ")).toList();
+        assertEquals(List.of("CPF", "-", "CNPJ", "CPF", "CPF", "-", "-"), linhas.stream().map(campos -> campos[1]).toList());
+        assertEquals(List.of("VALIDO", "REJEITADO_TAMANHO_INVALIDO", "VALIDO", "INVALIDO", "VALIDO",
+                        "REJEITADO_TAMANHO_INVALIDO", "REJEITADO_TAMANHO_INVALIDO"),
+                linhas.stream().map(campos -> campos[2]).toList());
+        assertEquals(List.of(hmac("52998224725"), hmac("123"), hmac("12ABC34501DE35"), hmac("52998224724"),
+                        hmac("52998224725"), hmac("123"), hmac("112")),
+                linhas.stream().map(campos -> campos[3]).toList());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar registros com o anel cheio")
+    void deveDescartarComAnelCheio() throws Exception {
+        AuditoriaValidacao auditoria = new AuditoriaValidacao(propriedades(2, false, DataSize.ofMegabytes(1), 10), registry);
+        for (int i = 0; i < 10_000; i++) {
+            auditoria.validado(validadorCpf, "52998224725", true);
+        }
+        auditoria.encerrar();
+
+        double gravados = registry.get("validador.auditoria.gravados").counter().count();
+        double descartados = registry.get("validador.auditoria.descartados").tag("motivo", "anel_cheio").counter().count();
+        assertTrue(descartados > 0);
+        assertEquals(10_000.0, gravados + descartados);
+        assertEquals((long) gravados, linhas().size());
+    }
+
+    @Test
+    @DisplayName("Deve esperar o gravador com o anel cheio quando configurado para bloquear")
+    void deveBloquearComAnelCheio() throws Exception {
+        AuditoriaValidacao auditoria = new AuditoriaValidacao(propriedades(2, true, DataSize.ofMegabytes(1), 10), registry);
+        for (int i = 0; i < 1000; i++) {
+            auditoria.validado(validadorCpf, "52998224725", true);
+        }
+        auditoria.encerrar();
+
+        assertEquals(0.0, registry.get("validador.auditoria.descartados").tag("motivo", "anel_cheio").counter().count());
+        assertEquals(1000, linhas().size());
+    }
+
+    @Test
+    @DisplayName("Deve passar para um arquivo novo no tamanho máximo e apagar os mais antigos")
+    void deveRotacionarArquivos() throws Exception {
+        AuditoriaValidacao auditoria = new AuditoriaValidacao(propriedades(1024, false, DataSize.ofBytes(1), 3), registry);
+        for (int i = 1; i <= 5; i++) {
+            auditoria.validado(validadorCpf, "52998224725", true);
+            // um lote por registro: cada escrita passa do tamanho máximo e abre um arquivo
+            while (registry.get("validador.auditoria.gravados").counter().count() < i) {
+                Thread.sleep(1);
+            }
+        }
+        auditoria.encerrar();
+
+        assertEquals(3, arquivos().size());
+        assertEquals(3, linhas().size());
+    }
+
+    private PropriedadesAuditoria propriedades(int capacidade, boolean bloquear, DataSize tamanhoArquivo, int arquivosMantidos) {
+        return new PropriedadesAuditoria(true, diretorio, "segredo", capacidade, bloquear, tamanhoArquivo,
+                arquivosMantidos, Duration.ofMillis(10));
+    }
+
+    private List<Path> arquivos() throws Exception {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(ArquivoAuditoria::deAuditoria).sorted().toList();
+        }
+    }
+
+    private List<String> linhas() throws Exception {
+        List<String> linhas = new ArrayList<>();
+        for (Path arquivo : arquivos()) {
+            linhas.addAll(Files.readAllLines(arquivo, StandardCharsets.US_ASCII));
+        }
+        return linhas;
+    }
+
+    private static String hmac(String normalizado) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec("segredo".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(Arrays.copyOf(mac.doFinal(normalizado.getBytes(StandardCharsets.US_ASCII)), 16));
+    }
+}
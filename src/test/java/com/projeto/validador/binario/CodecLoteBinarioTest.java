@@ -0,0 +1,131 @@
+package com.projeto.validador.binario;
+
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.metricas.MetricasValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CodecLoteBinarioTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CodecLoteBinario codec = new CodecLoteBinario(
+            new MetricasValidacao(registry, List.of(new ValidadorCpf(), new ValidadorCnpj())),
+            AuditoriaValidacao.desabilitada());
+
+    @Test
+    @DisplayName("Deve responder bitset de validade e tipos para cada documento")
+    void deveResponderBitsetETipos() throws IOException {
+        byte[] resposta = validar(requisicao("52998224725", "11222333000182", "123", "12ABC34501DE35", "52998224724"));
+
+        assertEquals(2 + 1 + 2, resposta.length);
+        assertEquals(5, ((resposta[0] & 0xFF) << 8) | (resposta[1] & 0xFF));
+        assertEquals(0b01001, resposta[2]);
+        // tipos: CPF, CNPJ, rejeitado, CNPJ | CPF
+        assertEquals(CodecLoteBinario.TIPO_CPF
+                | CodecLoteBinario.TIPO_CNPJ << 2
+                | CodecLoteBinario.TIPO_REJEITADO << 4
+                | CodecLoteBinario.TIPO_CNPJ << 6, resposta[3] & 0xFF);
+        assertEquals(CodecLoteBinario.TIPO_CPF, resposta[4]);
+    }
+
+    @Test
+    @DisplayName("Deve dividir a resposta em blocos e ler registros que atravessam o buffer")
+    void deveDividirEmBlocos() throws IOException {
+        int quantidade = CodecLoteBinario.DOCUMENTOS_POR_BLOCO * 3 + 10;
+        String[] documentos = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            documentos[i] = i % 2 == 0 ? "52998224725" : "11222333000182";
+        }
+        // entrega a requisição em pedaços pequenos para forçar registros partidos entre leituras
+        InputStream entrada = new ByteArrayInputStream(requisicao(documentos)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        codec.validar(entrada, saida);
+        byte[] resposta = saida.toByteArray();
+
+        int posicao = 0;
+        int documento = 0;
+        while (posicao < resposta.length) {
+            int noBloco = ((resposta[posicao] & 0xFF) << 8) | (resposta[posicao + 1] & 0xFF);
+            int bytesValidos = (noBloco + 7) / 8;
+            for (int i = 0; i < noBloco; i++, documento++) {
+                boolean valido = (resposta[posicao + 2 + i / 8] >> (i % 8) & 1) == 1;
+                int tipo = resposta[posicao + 2 + bytesValidos + i / 4] >> ((i % 4) * 2) & 3;
+                assertEquals(documento % 2 == 0, valido);
+                assertEquals(documento % 2 == 0 ? CodecLoteBinario.TIPO_CPF : CodecLoteBinario.TIPO_CNPJ, tipo);
+            }
+            posicao += 2 + bytesValidos + (noBloco + 3) / 4;
+        }
+        assertEquals(quantidade, documento);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registro truncado no fim do corpo")
+    void deveRejeitarRegistroTruncado() throws IOException {
+        byte[] requisicao = requisicao("52998224725");
+        byte[] truncada = new byte[requisicao.length + 3];
+        System.arraycopy(requisicao, 0, truncada, 0, requisicao.length);
+        truncada[requisicao.length] = 11;
+
+        byte[] resposta = validar(truncada);
+
+        assertEquals(2, resposta[1]);
+        assertEquals(0b01, resposta[2]);
+        assertEquals(CodecLoteBinario.TIPO_CPF, resposta[3]);
+    }
+
+    @Test
+    @DisplayName("Deve registrar cada documento nas métricas de validação, como o lote em texto")
+    void deveRegistrarMetricas() throws IOException {
+        byte[] requisicao = requisicao("52998224725", "11222333000182", "123", "12ABC34501DE35", "52998224724");
+        byte[] truncada = new byte[requisicao.length + 3];
+        System.arraycopy(requisicao, 0, truncada, 0, requisicao.length);
+        truncada[requisicao.length] = 11;
+
+        validar(truncada);
+
+        assertEquals(1, contador("validador.resultado", "tipo", "CPF", "resultado", "valido"));
+        assertEquals(1, contador("validador.resultado", "tipo", "CPF", "resultado", "invalido"));
+        assertEquals(1, contador("validador.resultado", "tipo", "CNPJ", "resultado", "valido"));
+        assertEquals(1, contador("validador.resultado", "tipo", "CNPJ", "resultado", "invalido"));
+        assertEquals(2, contador("validador.entrada", "tipo", "CPF", "formato", "crua"));
+        assertEquals(2, registry.get("validador.validacao").tag("tipo", "CNPJ").timer().count());
+        assertEquals(2, contador("validador.rejeitado", "motivo", "tamanho_invalido"));
+    }
+
+    private double contador(String nome, String... tags) {
+        return registry.get(nome).tags(tags).counter().count();
+    }
+
+    private byte[] validar(byte[] requisicao) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        codec.validar(new ByteArrayInputStream(requisicao), saida);
+        return saida.toByteArray();
+    }
+
+    private static byte[] requisicao(String... documentos) {
+        ByteArrayOutputStream requisicao = new ByteArrayOutputStream();
+        for (String documento : documentos) {
+            byte[] bytes = documento.getBytes(StandardCharsets.US_ASCII);
+            requisicao.write(bytes.length);
+            requisicao.writeBytes(bytes);
+        }
+        return requisicao.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+package com.projeto.validador.cadastro;
+
+import com.projeto.validador.domain.GeradorDocumentos;
+import com.projeto.validador.domain.RegrasCnpj;
+import com.projeto.validador.domain.RegrasCpf;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorPis;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndiceCadastroTest {
+
+    @TempDir
+    Path diretorio;
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.01})
+    @DisplayName("Deve encontrar todos os documentos do dump e nenhum outro, com e sem filtro")
+    void deveEncontrarDocumentosDoDump(double falsoPositivo) throws Exception {
+        GeradorDocumentos gerador = new GeradorDocumentos(20250310L);
+        List<String> cadastrados = gerar(gerador, 20_000);
+        List<String> ausentes = gerar(gerador, 20_000);
+        Set<String> conjunto = new HashSet<>(cadastrados);
+
+        // o dump traz máscara, linhas em branco, lixo e repetidos
+        StringBuilder dump = new StringBuilder("documento\n\n");
+        for (int i = 0; i < cadastrados.size(); i++) {
+            String documento = cadastrados.get(i);
+            dump.append(i % 3 == 0 ? mascarar(documento) : documento).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        dump.append(cadastrados.get(0)).append('\n');
+        Files.writeString(diretorio.resolve("dump.txt"), dump, StandardCharsets.UTF_8);
+
+        Path arquivo = diretorio.resolve("cadastro.idx");
+        int quantidade = ConstrutorIndiceCadastro.construir(diretorio.resolve("dump.txt"), arquivo, falsoPositivo);
+        IndiceCadastro indice = IndiceCadastro.abrir(arquivo);
+
+        assertEquals(cadastrados.size(), quantidade);
+        assertEquals(quantidade, indice.getQuantidade());
+        assertEquals(falsoPositivo > 0, indice.getBitsFiltro() > 0);
+        for (String documento : cadastrados) {
+            assertTrue(indice.contem(IndiceCadastro.chave(tipo(documento), documento)), documento);
+            assertTrue(indice.contem(IndiceCadastro.chave(tipo(documento), mascarar(documento))), documento);
+        }
+        for (String documento : ausentes) {
+            assertEquals(conjunto.contains(documento), indice.contem(IndiceCadastro.chave(tipo(documento), documento)), documento);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder em índices vazios e de um documento")
+    void deveResponderEmIndicesPequenos() throws Exception {
+        Files.writeString(diretorio.resolve("vazio.txt"), "");
+        ConstrutorIndiceCadastro.construir(diretorio.resolve("vazio.txt"), diretorio.resolve("vazio.idx"), 0.01);
+        assertFalse(IndiceCadastro.abrir(diretorio.resolve("vazio.idx")).contem(IndiceCadastro.chave("CPF", "52998224725")));
+
+        Files.writeString(diretorio.resolve("um.txt"), "52998224725\n");
+        ConstrutorIndiceCadastro.construir(diretorio.resolve("um.txt"), diretorio.resolve("um.idx"), 0);
+        IndiceCadastro indice = IndiceCadastro.abrir(diretorio.resolve("um.idx"));
+        assertTrue(indice.contem(IndiceCadastro.chave("CPF", "529.982.247-25")));
+        assertFalse(indice.contem(IndiceCadastro.chave("CPF", "52998224806")));
+        assertFalse(indice.contem(IndiceCadastro.chave("CNPJ", "11222333000181")));
+        assertFalse(indice.contem(-1));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o índice na recarga sem invalidar o índice anterior")
+    void deveTrocarIndiceNaRecarga() throws Exception {
+        Path dump = diretorio.resolve("dump.txt");
+        Path arquivo = diretorio.resolve("cadastro.idx");
+        Files.writeString(dump, "52998224725\n");
+        CadastroDocumentos cadastro = new CadastroDocumentos(arquivo.toString(), dump.toString(), 0.01);
+        ValidadorCpf validadorCpf = new ValidadorCpf();
+
+        IndiceCadastro anterior = cadastro.atual();
+        assertEquals(Boolean.TRUE, cadastro.cadastrado(validadorCpf, "529.982.247-25", true));
+        assertEquals(Boolean.FALSE, cadastro.cadastrado(validadorCpf, "529.982.247-25", false));
+        assertNull(cadastro.cadastrado(new ValidadorPis(), "12345678919", true));
+
+        Files.writeString(dump, "11144477735\n");
+        IndiceCadastro novo = cadastro.recarregar();
+
+        assertEquals(Boolean.FALSE, cadastro.cadastrado(validadorCpf, "52998224725", true));
+        assertEquals(Boolean.TRUE, cadastro.cadastrado(validadorCpf, "11144477735", true));
+        assertTrue(anterior.contem(IndiceCadastro.chave("CPF", "52998224725")));
+        assertEquals(novo, cadastro.atual());
+    }
+
+    @Test
+    @DisplayName("Deve ficar desabilitado sem índice configurado")
+    void deveFicarDesabilitadoSemIndice() {
+        CadastroDocumentos cadastro = CadastroDocumentos.desabilitado();
+
+        assertNull(cadastro.cadastrado(new ValidadorCpf(), "52998224725", true));
+        assertThrows(IllegalStateException.class, cadastro::recarregar);
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivo que não é índice")
+    void deveRecusarArquivoQueNaoEIndice() throws Exception {
+        Path arquivo = diretorio.resolve("outro.idx");
+        Files.writeString(arquivo, "52998224725\n".repeat(10));
+
+        assertThrows(IllegalArgumentException.class, () -> IndiceCadastro.abrir(arquivo));
+    }
+
+    private static List<String> gerar(GeradorDocumentos gerador, int quantidade) {
+        byte[] buffer = new byte[14];
+        List<String> documentos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int fim = i % 2 == 0 ? gerador.cpf(buffer, 0, true) : gerador.cnpj(buffer, 0, true, i % 4 == 1);
+            documentos.add(new String(buffer, 0, fim, StandardCharsets.US_ASCII));
+        }
+        return documentos;
+    }
+
+    private static String tipo(String documento) {
+        return documento.length() == 11 ? "CPF" : "CNPJ";
+    }
+
+    private static String mascarar(String documento) {
+        return documento.length() == 11 ? RegrasCpf.formatar(documento) : RegrasCnpj.formatar(documento);
+    }
+}
@@ -0,0 +1,163 @@
+package com.projeto.validador.carga;
+
+import com.projeto.validador.ValidadorApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * p99 do primeiro minuto de uma instância recém-iniciada, sem e com o aquecimento do JIT
+ * ({@code AquecimentoJit}).
+ *
+ * Cada medição sobe a aplicação numa JVM nova, já que o código compilado de uma execução não pode valer para a
+ * outra, espera a probe de readiness e aplica logo em seguida a carga de {@link LatenciaApiCargaTest}, sem
+ * aquecimento do lado do cliente. O relatório traz o tempo até a readiness e os percentis de cada tipo, e vai
+ * para a saída e para {@code target/carga/aquecimento.txt}, com os histogramas e o log de cada JVM ao lado.
+ * O teste falha com status inesperado ou se, em algum tipo, o p99 com aquecimento não ficar abaixo do p99 sem
+ * ele. Os números de referência, medidos com os padrões abaixo, estão em {@code src/test/resources/carga/aquecimento.txt}.
+ *
+ * Propriedades de sistema: {@code carga.taxa} (padrão 200 req/s) e {@code carga.duracao} (padrão {@code PT60S}).
+ */
+@Tag("carga")
+class AquecimentoCargaTest {
+
+    private static final String NOME = "aquecimento";
+    private static final Duration LIMITE_PRONTIDAO = Duration.ofMinutes(3);
+
+    @Test
+    void primeiroMinutoSemEComAquecimento() throws Exception {
+        double taxa = Double.parseDouble(System.getProperty("carga.taxa", "200"));
+        Duration duracao = Duration.parse(System.getProperty("carga.duracao", "PT60S"));
+        Path diretorio = Files.createDirectories(Path.of("target", "carga"));
+
+        try (PrintStream relatorio = new PrintStream(Files.newOutputStream(diretorio.resolve(NOME + ".txt")), true)) {
+            String cabecalho = String.format("[%s] primeiros %s a %.0f req/s em JVM nova", NOME, duracao, taxa);
+            System.out.println();
+            System.out.println(cabecalho);
+            relatorio.println(cabecalho);
+
+            Map<String, GeradorCargaAberto.Medicao> semAquecimento = null;
+            for (boolean aquecido : new boolean[]{false, true}) {
+                String modo = aquecido ? "com-aquecimento" : "sem-aquecimento";
+                Map<String, GeradorCargaAberto.Medicao> medicoes = medir(modo, aquecido, taxa, duracao, diretorio, relatorio);
+                medicoes.forEach((grupo, medicao) ->
+                        assertEquals(0, medicao.erros().sum(), "Respostas com status inesperado em " + grupo + " " + modo));
+                if (!aquecido) {
+                    semAquecimento = medicoes;
+                    continue;
+                }
+                for (Map.Entry<String, GeradorCargaAberto.Medicao> entrada : medicoes.entrySet()) {
+                    double sem = LinhaDeBase.emMilissegundos(semAquecimento.get(entrada.getKey()).latencia(), 99);
+                    double com = LinhaDeBase.emMilissegundos(entrada.getValue().latencia(), 99);
+                    assertTrue(com < sem, String.format("p99 de %s com aquecimento (%.2f ms) não ficou abaixo do p99 sem ele (%.2f ms)",
+                            entrada.getKey(), com, sem));
+                }
+            }
+        }
+    }
+
+    private Map<String, GeradorCargaAberto.Medicao> medir(String modo, boolean aquecido, double taxa, Duration duracao,
+                                                          Path diretorio, PrintStream relatorio) throws Exception {
+        int porta = portaLivre();
+        Process aplicacao = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ValidadorApplication.class.getName(),
+                "--server.port=" + porta,
+                "--validador.aquecimento.habilitado=" + aquecido,
+                "--management.endpoint.health.probes.enabled=true")
+                .redirectErrorStream(true)
+                .redirectOutput(diretorio.resolve(NOME + "-" + modo + ".log").toFile())
+                .start();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            long inicio = System.nanoTime();
+            esperarProntidao(cliente, porta, aplicacao);
+            Duration prontidao = Duration.ofNanos(System.nanoTime() - inicio);
+
+            List<GeradorCargaAberto.Requisicao> requisicoes = LatenciaApiCargaTest.requisicoes(porta);
+            Map<String, GeradorCargaAberto.Medicao> medicoes = new GeradorCargaAberto(cliente, taxa)
+                    .executar(duracao, i -> requisicoes.get((int) (i % requisicoes.size())));
+
+            relatar(modo, prontidao, medicoes, diretorio, relatorio);
+            return medicoes;
+        } finally {
+            aplicacao.destroy();
+            if (!aplicacao.waitFor(30, TimeUnit.SECONDS)) {
+                aplicacao.destroyForcibly();
+            }
+        }
+    }
+
+    private static void esperarProntidao(HttpClient cliente, int porta, Process aplicacao) throws Exception {
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long limite = System.nanoTime() + LIMITE_PRONTIDAO.toNanos();
+        while (System.nanoTime() - limite < 0) {
+            if (!aplicacao.isAlive()) {
+                throw new IllegalStateException("Aplicação terminou antes de ficar pronta (código " + aplicacao.exitValue() + ")");
+            }
+            try {
+                if (cliente.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) return;
+            } catch (IOException e) {
+                // servidor ainda não está ouvindo
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Aplicação não ficou pronta em " + LIMITE_PRONTIDAO);
+    }
+
+    private static void relatar(String modo, Duration prontidao, Map<String, GeradorCargaAberto.Medicao> medicoes,
+                                Path diretorio, PrintStream relatorio) throws IOException {
+        for (Map.Entry<String, GeradorCargaAberto.Medicao> entrada : medicoes.entrySet()) {
+            GeradorCargaAberto.Medicao medicao = entrada.getValue();
+            String linha = String.format("%-15s %-5s pronta em %5d ms  requisições=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                    modo,
+                    entrada.getKey(),
+                    prontidao.toMillis(),
+                    medicao.latencia().getTotalCount(),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 50),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 99),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 99.9),
+                    medicao.latencia().getMaxValue() / 1e6);
+            System.out.println(linha);
+            relatorio.println(linha);
+            try (PrintStream saida = new PrintStream(Files.newOutputStream(
+                    diretorio.resolve(NOME + "-" + modo + "-" + entrada.getKey() + ".hgrm")))) {
+                medicao.latencia().outputPercentileDistribution(saida, 1e6);
+            }
+        }
+    }
+
+    private static int portaLivre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.projeto.validador.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Carga em modelo aberto: as requisições partem a uma taxa constante, sem esperar as respostas anteriores,
+ * como clientes independentes chegando ao serviço. Num modelo fechado (N clientes em laço) um servidor lento
+ * também desacelera a carga, e as piores latências somem da amostra.
+ *
+ * A latência é medida a partir do instante em que a requisição deveria ter partido, não de quando partiu.
+ * Se o próprio gerador atrasa (pausa de GC, conexões esgotadas), o atraso entra na latência
+ * (correção de omissão coordenada). O tempo desde o envio de fato fica em {@link Medicao#servico()}, para
+ * comparação.
+ */
+final class GeradorCargaAberto {
+
+    /**
+     * Uma requisição da carga, agrupada para o relatório, com o status que o serviço deve devolver.
+     */
+    record Requisicao(String grupo, HttpRequest request, int statusEsperado) {
+    }
+
+    /**
+     * Latências de um grupo, em nanossegundos.
+     */
+    record Medicao(Histogram latencia, Histogram servico, LongAdder erros) {
+
+        private Medicao() {
+            this(new ConcurrentHistogram(3), new ConcurrentHistogram(3), new LongAdder());
+        }
+    }
+
+    private final HttpClient cliente;
+    private final long intervaloNanos;
+
+    GeradorCargaAberto(HttpClient cliente, double requisicoesPorSegundo) {
+        if (requisicoesPorSegundo <= 0) {
+            throw new IllegalArgumentException("Taxa deve ser positiva: " + requisicoesPorSegundo);
+        }
+        this.cliente = cliente;
+        this.intervaloNanos = Math.max(1, (long) (1_000_000_000L / requisicoesPorSegundo));
+    }
+
+    /**
+     * Dispara {@code requisicoes.apply(i)} no instante {@code i} da taxa, durante {@code duracao}, e devolve
+     * as medições por grupo depois que todas as respostas chegarem. Status diferente do esperado e falha de
+     * conexão contam como erro, e a latência é registrada do mesmo jeito.
+     */
+    Map<String, Medicao> executar(Duration duracao, LongFunction<Requisicao> requisicoes) {
+        Map<String, Medicao> medicoes = new ConcurrentHashMap<>();
+        long total = duracao.toNanos() / intervaloNanos;
+        List<CompletableFuture<?>> respostas = new ArrayList<>((int) Math.min(total, Integer.MAX_VALUE));
+
+        long inicio = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long previsto = inicio + i * intervaloNanos;
+            esperarAte(previsto);
+
+            Requisicao requisicao = requisicoes.apply(i);
+            Medicao medicao = medicoes.computeIfAbsent(requisicao.grupo(), g -> new Medicao());
+            long enviado = System.nanoTime();
+            respostas.add(cliente.sendAsync(requisicao.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((resposta, erro) -> {
+                        long agora = System.nanoTime();
+                        medicao.latencia().recordValue(agora - previsto);
+                        medicao.servico().recordValue(agora - enviado);
+                        if (erro != null || resposta.statusCode() != requisicao.statusEsperado()) {
+                            medicao.erros().increment();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(respostas.toArray(CompletableFuture[]::new))
+                .exceptionally(erro -> null)
+                .join();
+        return new TreeMap<>(medicoes);
+    }
+
+    private static void esperarAte(long instanteNanos) {
+        long falta;
+        while ((falta = instanteNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(falta);
+        }
+    }
+}
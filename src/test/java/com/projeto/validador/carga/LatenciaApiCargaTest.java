@@ -0,0 +1,150 @@
+package com.projeto.validador.carga;
+
+import com.projeto.validador.domain.GeradorDocumentos;
+import com.projeto.validador.domain.RegrasCnpj;
+import com.projeto.validador.domain.RegrasCpf;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latência de {@code /v1/validar/cpf} e {@code /v1/validar/cnpj} sob taxa constante
+ * ({@link GeradorCargaAberto}), comparada com {@code src/test/resources/carga/latencia-api.properties}.
+ *
+ * A carga mistura documentos válidos, com máscara, com DVs errados e com tamanho errado (400), sorteados
+ * com semente fixa. Depois de um aquecimento fora da medição, o teste falha se algum percentil passar do
+ * limite da linha de base ou se alguma resposta vier com status diferente do esperado. Os histogramas
+ * completos ficam em {@code target/carga}.
+ *
+ * Propriedades de sistema:
+ * - {@code carga.taxa} e {@code carga.duracao} (ISO-8601) trocam a carga da linha de base; com valores
+ *   diferentes dela só há relatório, sem comparação;
+ * - {@code carga.aquecimento}, padrão {@code PT10S};
+ * - {@code carga.linha-de-base.gravar=true} regrava a linha de base com o resultado, em vez de comparar.
+ */
+@Tag("carga")
+// o aquecimento do cliente já vem antes da medição; o da aplicação rodaria em paralelo com ela
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "validador.aquecimento.habilitado=false")
+class LatenciaApiCargaTest {
+
+    private static final String NOME = "latencia-api";
+    private static final long SEMENTE = 42;
+    private static final int DOCUMENTOS_POR_TIPO = 4096;
+
+    @LocalServerPort
+    private int porta;
+
+    @Test
+    void latenciaSobTaxaConstante() throws IOException {
+        LinhaDeBase linhaDeBase = LinhaDeBase.carregar(NOME);
+        double taxa = Double.parseDouble(System.getProperty("carga.taxa", String.valueOf(linhaDeBase.taxa())));
+        Duration duracao = Duration.parse(System.getProperty("carga.duracao", linhaDeBase.duracao().toString()));
+        Duration aquecimento = Duration.parse(System.getProperty("carga.aquecimento", "PT10S"));
+        boolean comparavel = taxa == linhaDeBase.taxa() && duracao.equals(linhaDeBase.duracao());
+
+        List<GeradorCargaAberto.Requisicao> requisicoes = requisicoes(porta);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            GeradorCargaAberto gerador = new GeradorCargaAberto(cliente, taxa);
+
+            gerador.executar(aquecimento, i -> requisicoes.get((int) (i % requisicoes.size())));
+            Map<String, GeradorCargaAberto.Medicao> medicoes =
+                    gerador.executar(duracao, i -> requisicoes.get((int) (i % requisicoes.size())));
+
+            relatar(taxa, duracao, medicoes);
+            medicoes.forEach((grupo, medicao) ->
+                    assertEquals(0, medicao.erros().sum(), "Respostas com status inesperado ou falha em " + grupo));
+
+            if (Boolean.getBoolean("carga.linha-de-base.gravar")) {
+                linhaDeBase.gravar(medicoes);
+                System.out.println("Linha de base regravada: src/test/resources/carga/" + NOME + ".properties");
+            } else if (comparavel) {
+                List<String> regressoes = new ArrayList<>();
+                medicoes.forEach((grupo, medicao) -> regressoes.addAll(linhaDeBase.regressoes(grupo, medicao.latencia())));
+                assertTrue(regressoes.isEmpty(), "Latência pior que a linha de base:\n" + String.join("\n", regressoes));
+            } else {
+                System.out.println("Carga diferente da linha de base; latências não comparadas");
+            }
+        }
+    }
+
+    /**
+     * Por tipo: metade válidos sem máscara, 20% válidos com máscara, 20% com DVs errados e 10% com um
+     * caractere a menos. Também usado por {@link AquecimentoCargaTest} e {@link ModoThreadsCargaTest}.
+     */
+    static List<GeradorCargaAberto.Requisicao> requisicoes(int porta) {
+        GeradorDocumentos gerador = new GeradorDocumentos(SEMENTE);
+        SplittableRandom sorteio = new SplittableRandom(SEMENTE);
+        byte[] buffer = new byte[14];
+        List<GeradorCargaAberto.Requisicao> requisicoes = new ArrayList<>(2 * DOCUMENTOS_POR_TIPO);
+        for (int i = 0; i < DOCUMENTOS_POR_TIPO; i++) {
+            int faixa = sorteio.nextInt(10);
+
+            String cpf = new String(buffer, 0, gerador.cpf(buffer, 0, faixa < 7), StandardCharsets.US_ASCII);
+            requisicoes.add(requisicao(porta, "cpf", faixa, cpf, RegrasCpf.formatar(cpf)));
+
+            String cnpj = new String(buffer, 0, gerador.cnpj(buffer, 0, faixa < 7, sorteio.nextBoolean()), StandardCharsets.US_ASCII);
+            requisicoes.add(requisicao(porta, "cnpj", faixa, cnpj, RegrasCnpj.formatar(cnpj)));
+        }
+        return requisicoes;
+    }
+
+    private static GeradorCargaAberto.Requisicao requisicao(int porta, String tipo, int faixa, String documento, String comMascara) {
+        String enviado = faixa < 5 ? documento
+                : faixa < 7 ? comMascara
+                : faixa < 9 ? documento
+                : documento.substring(1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/v1/validar/" + tipo
+                        + "?documento=" + URLEncoder.encode(enviado, StandardCharsets.UTF_8)))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return new GeradorCargaAberto.Requisicao(tipo, request, faixa < 9 ? 200 : 400);
+    }
+
+    private static void relatar(double taxa, Duration duracao, Map<String, GeradorCargaAberto.Medicao> medicoes) throws IOException {
+        Path diretorio = Files.createDirectories(Path.of("target", "carga"));
+        System.out.printf("%n[%s] %.0f req/s por %s%n", NOME, taxa, duracao);
+        for (Map.Entry<String, GeradorCargaAberto.Medicao> entrada : medicoes.entrySet()) {
+            GeradorCargaAberto.Medicao medicao = entrada.getValue();
+            System.out.printf("%-5s requisições=%d erros=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms (serviço p99=%.2fms)%n",
+                    entrada.getKey(),
+                    medicao.latencia().getTotalCount(),
+                    medicao.erros().sum(),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 50),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 99),
+                    LinhaDeBase.emMilissegundos(medicao.latencia(), 99.9),
+                    medicao.latencia().getMaxValue() / 1e6,
+                    LinhaDeBase.emMilissegundos(medicao.servico(), 99));
+            try (PrintStream saida = new PrintStream(Files.newOutputStream(diretorio.resolve(NOME + "-" + entrada.getKey() + ".hgrm")))) {
+                medicao.latencia().outputPercentileDistribution(saida, 1e6);
+            }
+        }
+    }
+}
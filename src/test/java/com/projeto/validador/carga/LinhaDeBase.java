@@ -0,0 +1,113 @@
+package com.projeto.validador.carga;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latências de referência de um teste de carga, em {@code src/test/resources/carga/<nome>.properties}:
+ * a taxa e a duração da carga, a tolerância e, por grupo, p50, p99 e p99.9 em milissegundos.
+ *
+ * Um percentil regride quando passa de {@code referência * (1 + tolerancia) + folga-ms}. A folga absoluta
+ * evita falhas por ruído em latências de poucos décimos de milissegundo.
+ */
+final class LinhaDeBase {
+
+    static final double[] PERCENTIS = {50, 99, 99.9};
+
+    private final String nome;
+    private final Properties valores;
+
+    private LinhaDeBase(String nome, Properties valores) {
+        this.nome = nome;
+        this.valores = valores;
+    }
+
+    static LinhaDeBase carregar(String nome) {
+        Properties valores = new Properties();
+        try (InputStream entrada = LinhaDeBase.class.getResourceAsStream("/carga/" + nome + ".properties")) {
+            if (entrada == null) {
+                throw new IllegalStateException("Linha de base não encontrada: carga/" + nome + ".properties");
+            }
+            valores.load(entrada);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LinhaDeBase(nome, valores);
+    }
+
+    double taxa() {
+        return Double.parseDouble(valores.getProperty("taxa"));
+    }
+
+    Duration duracao() {
+        return Duration.parse(valores.getProperty("duracao"));
+    }
+
+    /**
+     * Percentis de {@code latencia} acima do limite do grupo, descritos para a mensagem de falha. Grupos sem
+     * referência não são comparados.
+     */
+    List<String> regressoes(String grupo, Histogram latencia) {
+        double tolerancia = Double.parseDouble(valores.getProperty("tolerancia"));
+        double folga = Double.parseDouble(valores.getProperty("folga-ms"));
+        List<String> regressoes = new ArrayList<>();
+        for (double percentil : PERCENTIS) {
+            String referencia = valores.getProperty(chave(grupo, percentil));
+            if (referencia == null) continue;
+
+            double limite = Double.parseDouble(referencia) * (1 + tolerancia) + folga;
+            double medido = emMilissegundos(latencia, percentil);
+            if (medido > limite) {
+                regressoes.add(String.format(Locale.ROOT, "%s p%s: %.2fms (referência %sms, limite %.2fms)",
+                        grupo, rotulo(percentil), medido, referencia, limite));
+            }
+        }
+        return regressoes;
+    }
+
+    /**
+     * Regrava a linha de base com as latências medidas, mantendo tolerância e folga, no diretório de recursos
+     * de teste do projeto (o teste roda a partir da raiz do projeto no Maven).
+     */
+    void gravar(Map<String, GeradorCargaAberto.Medicao> medicoes) throws IOException {
+        StringBuilder sb = new StringBuilder()
+                .append("# Latências de referência de ").append(nome)
+                .append(", em ms, medidas a partir do instante previsto de cada requisição.\n")
+                .append("# Regravar na máquina de referência com -Dcarga.linha-de-base.gravar=true.\n")
+                .append("taxa=").append(valores.getProperty("taxa")).append('\n')
+                .append("duracao=").append(valores.getProperty("duracao")).append('\n')
+                .append("tolerancia=").append(valores.getProperty("tolerancia")).append('\n')
+                .append("folga-ms=").append(valores.getProperty("folga-ms")).append('\n');
+        medicoes.forEach((grupo, medicao) -> {
+            for (double percentil : PERCENTIS) {
+                sb.append(chave(grupo, percentil)).append('=')
+                        .append(String.format(Locale.ROOT, "%.2f", emMilissegundos(medicao.latencia(), percentil)))
+                        .append('\n');
+            }
+        });
+        Files.writeString(Path.of("src/test/resources/carga", nome + ".properties"), sb);
+    }
+
+    static double emMilissegundos(Histogram histograma, double percentil) {
+        return histograma.getValueAtPercentile(percentil) / 1e6;
+    }
+
+    static String rotulo(double percentil) {
+        return percentil == Math.rint(percentil) ? String.valueOf((long) percentil) : String.valueOf(percentil);
+    }
+
+    private static String chave(String grupo, double percentil) {
+        return grupo + ".p" + rotulo(percentil);
+    }
+}
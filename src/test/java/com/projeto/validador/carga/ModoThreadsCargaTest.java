@@ -0,0 +1,289 @@
+package com.projeto.validador.carga;
+
+import com.projeto.validador.ValidadorApplication;
+import com.projeto.validador.service.ValidadorLoteService;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara os modos de atendimento sob clientes lentos: MVC com threads de plataforma, MVC com virtual threads
+ * e WebFlux (perfil reativo).
+ *
+ * Durante toda a medição, {@link #CLIENTES_LENTOS} clientes enviam lotes a conta-gotas, um atrás do outro. No
+ * MVC o lote vai para um handler síncrono, que lê o corpo na própria thread do Tomcat: é o caso em que um
+ * cliente lento segura uma thread do servidor. ({@code /v1/validar/lote} não serve para isso, porque devolve
+ * um {@code StreamingResponseBody} e lê o corpo no executor assíncrono do MVC.) No WebFlux o lote vai para o
+ * {@code /v1/validar/lote} reativo. Ao mesmo tempo, {@link GeradorCargaAberto} envia as consultas de
+ * {@link LatenciaApiCargaTest} a uma taxa constante.
+ *
+ * Cada modo sobe a aplicação no mesmo processo, com {@link #THREADS_TOMCAT} threads no pool do Tomcat, e o teste
+ * exige que os lotes em andamento ao mesmo tempo não passem do pool com threads de plataforma e passem dele com
+ * virtual threads e no WebFlux. O p99 das consultas vai para o relatório, na saída e em
+ * {@code target/carga/modos-threads.txt}, sem limite: com cliente e servidor no mesmo processo ele depende dos
+ * núcleos da máquina mais do que do modo. As threads de plataforma são medidas por último, com o JIT mais
+ * aquecido, para que o aquecimento não favoreça os outros modos.
+ *
+ * Propriedades de sistema: {@code carga.taxa} (padrão 100 req/s) e {@code carga.duracao} (padrão {@code PT15S}).
+ */
+@Tag("carga")
+class ModoThreadsCargaTest {
+
+    private static final String NOME = "modos-threads";
+    private static final String LOTE_SINCRONO = "/carga/lote-sincrono";
+    private static final String LOTE_REATIVO = "/v1/validar/lote";
+
+    private static final int THREADS_TOMCAT = 50;
+    private static final int CLIENTES_LENTOS = 200;
+    private static final int LINHAS_POR_LOTE_LENTO = 20;
+    private static final Duration INTERVALO_LINHAS = Duration.ofMillis(100);
+
+
+    enum Modo {
+        REATIVO("webflux", "reactive", false, LOTE_REATIVO),
+        VIRTUAL("virtual threads", "servlet", true, LOTE_SINCRONO),
+        PLATAFORMA("threads de plataforma", "servlet", false, LOTE_SINCRONO);
+
+        private final String descricao;
+        private final String tipoAplicacao;
+        private final boolean threadsVirtuais;
+        private final String caminhoLote;
+
+        Modo(String descricao, String tipoAplicacao, boolean threadsVirtuais, String caminhoLote) {
+            this.descricao = descricao;
+            this.tipoAplicacao = tipoAplicacao;
+            this.threadsVirtuais = threadsVirtuais;
+            this.caminhoLote = caminhoLote;
+        }
+    }
+
+    record Resultado(Histogram latencia, long erros, int lotesSimultaneos, long lotes, long lotesComErro) {
+    }
+
+    @Test
+    void cargaComClientesLentos() throws Exception {
+        double taxa = Double.parseDouble(System.getProperty("carga.taxa", "100"));
+        Duration duracao = Duration.parse(System.getProperty("carga.duracao", "PT15S"));
+        Path diretorio = Files.createDirectories(Path.of("target", "carga"));
+        Map<Modo, Resultado> resultados = new EnumMap<>(Modo.class);
+
+        try (PrintStream relatorio = new PrintStream(Files.newOutputStream(diretorio.resolve(NOME + ".txt")), true)) {
+            String cabecalho = String.format("[%s] %d clientes lentos, consultas a %.0f req/s por %s, pool do Tomcat de %d",
+                    NOME, CLIENTES_LENTOS, taxa, duracao, THREADS_TOMCAT);
+            System.out.println();
+            System.out.println(cabecalho);
+            relatorio.println(cabecalho);
+
+            for (Modo modo : Modo.values()) {
+                Resultado resultado = medir(modo, taxa, duracao);
+                resultados.put(modo, resultado);
+
+                String linha = String.format("%-22s consultas=%d p50=%.2fms p99=%.2fms max=%.2fms lotes=%d lotes simultâneos=%d",
+                        modo.descricao,
+                        resultado.latencia().getTotalCount(),
+                        LinhaDeBase.emMilissegundos(resultado.latencia(), 50),
+                        LinhaDeBase.emMilissegundos(resultado.latencia(), 99),
+                        resultado.latencia().getMaxValue() / 1e6,
+                        resultado.lotes(),
+                        resultado.lotesSimultaneos());
+                System.out.println(linha);
+                relatorio.println(linha);
+
+                assertEquals(0, resultado.erros(), "Consultas com status inesperado em " + modo.descricao);
+                assertEquals(0, resultado.lotesComErro(), "Lotes lentos com falha em " + modo.descricao);
+            }
+        }
+
+        Resultado plataforma = resultados.get(Modo.PLATAFORMA);
+        assertTrue(plataforma.lotesSimultaneos() <= THREADS_TOMCAT,
+                "Threads de plataforma atenderam mais lotes síncronos que o pool: " + plataforma.lotesSimultaneos());
+        for (Modo modo : List.of(Modo.VIRTUAL, Modo.REATIVO)) {
+            Resultado resultado = resultados.get(modo);
+            assertTrue(resultado.lotesSimultaneos() > THREADS_TOMCAT,
+                    modo.descricao + " não atendeu mais lotes lentos que o pool: " + resultado.lotesSimultaneos());
+        }
+    }
+
+    private Resultado medir(Modo modo, double taxa, Duration duracao) throws Exception {
+        LotesEmAndamento emAndamento = new LotesEmAndamento();
+        SpringApplicationBuilder aplicacao = new SpringApplicationBuilder(ValidadorApplication.class)
+                .initializers(contexto -> registrar((GenericApplicationContext) contexto, modo, emAndamento));
+
+        // como argumentos, que valem sobre o application.yml; os clientes ficam em threads de plataforma para
+        // não dividir os carriers com as virtual threads do servidor, que roda no mesmo processo
+        try (ConfigurableApplicationContext contexto = aplicacao.run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + THREADS_TOMCAT,
+                "--spring.main.web-application-type=" + modo.tipoAplicacao,
+                "--spring.threads.virtual.enabled=" + modo.threadsVirtuais);
+             ExecutorService executor = Executors.newCachedThreadPool()) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            HttpClient cliente = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            AtomicBoolean ativo = new AtomicBoolean(true);
+            LongAdder lotes = new LongAdder();
+            LongAdder lotesComErro = new LongAdder();
+            URI lote = URI.create("http://localhost:" + porta + modo.caminhoLote);
+            List<CompletableFuture<?>> lentos = new ArrayList<>(CLIENTES_LENTOS);
+            for (int i = 0; i < CLIENTES_LENTOS; i++) {
+                lentos.add(CompletableFuture.runAsync(() -> {
+                    while (ativo.get()) {
+                        if (loteLento(cliente, lote) != 200) lotesComErro.increment();
+                        lotes.increment();
+                    }
+                }, executor));
+            }
+            // os lentos tomam o servidor antes da primeira consulta
+            Thread.sleep(INTERVALO_LINHAS.multipliedBy(LINHAS_POR_LOTE_LENTO / 2));
+
+            Histogram latencia = new Histogram(3);
+            long erros = 0;
+            List<GeradorCargaAberto.Requisicao> requisicoes = LatenciaApiCargaTest.requisicoes(porta);
+            try {
+                for (GeradorCargaAberto.Medicao medicao : new GeradorCargaAberto(cliente, taxa)
+                        .executar(duracao, i -> requisicoes.get((int) (i % requisicoes.size()))).values()) {
+                    latencia.add(medicao.latencia());
+                    erros += medicao.erros().sum();
+                }
+            } finally {
+                ativo.set(false);
+                CompletableFuture.allOf(lentos.toArray(CompletableFuture[]::new)).join();
+            }
+            return new Resultado(latencia, erros, emAndamento.maximo.get(), lotes.sum(), lotesComErro.sum());
+        }
+    }
+
+    /**
+     * No MVC, o handler síncrono do lote; no WebFlux, a contagem dos lotes em andamento no endpoint reativo.
+     */
+    private static void registrar(GenericApplicationContext contexto, Modo modo, LotesEmAndamento emAndamento) {
+        if (modo == Modo.REATIVO) {
+            contexto.registerBean("lotesEmAndamento", WebFilter.class, () -> (exchange, cadeia) -> {
+                if (!exchange.getRequest().getPath().value().equals(LOTE_REATIVO)) return cadeia.filter(exchange);
+                emAndamento.entrar();
+                return cadeia.filter(exchange).doFinally(sinal -> emAndamento.sair());
+            });
+        } else {
+            contexto.registerBean("loteSincrono", RouterFunction.class, () -> RouterFunctions.route()
+                    .POST(LOTE_SINCRONO, request ->
+                            loteSincrono(request, contexto.getBean(ValidadorLoteService.class), emAndamento))
+                    .build());
+        }
+    }
+
+    private static ServerResponse loteSincrono(ServerRequest request, ValidadorLoteService validadorLoteService,
+                                               LotesEmAndamento emAndamento) throws IOException {
+        emAndamento.entrar();
+        try {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+            validadorLoteService.validarTexto(request.servletRequest().getInputStream(), saida);
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(saida.toString(StandardCharsets.UTF_8));
+        } finally {
+            emAndamento.sair();
+        }
+    }
+
+    private static int loteLento(HttpClient cliente, URI lote) {
+        HttpRequest request = HttpRequest.newBuilder(lote)
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(LoteLento::new))
+                .build();
+        try {
+            return cliente.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static final class LotesEmAndamento {
+
+        private final AtomicInteger atual = new AtomicInteger();
+        private final AtomicInteger maximo = new AtomicInteger();
+
+        void entrar() {
+            maximo.accumulateAndGet(atual.incrementAndGet(), Math::max);
+        }
+
+        void sair() {
+            atual.decrementAndGet();
+        }
+    }
+
+    /**
+     * Corpo enviado a conta-gotas: uma linha a cada {@link #INTERVALO_LINHAS}.
+     */
+    private static final class LoteLento extends InputStream {
+
+        private static final byte[] LINHA = "52998224725\n".getBytes(StandardCharsets.US_ASCII);
+
+        private int enviadas;
+
+        @Override
+        public int read() {
+            byte[] um = new byte[1];
+            return read(um, 0, 1) == -1 ? -1 : um[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destino, int offset, int tamanho) {
+            if (enviadas == LINHAS_POR_LOTE_LENTO) return -1;
+            if (enviadas > 0) {
+                try {
+                    Thread.sleep(INTERVALO_LINHAS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+            int copiar = Math.min(tamanho, LINHA.length);
+            System.arraycopy(LINHA, 0, destino, offset, copiar);
+            enviadas++;
+            return copiar;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.projeto.validador.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.cadastro.CadastroDocumentos;
+import com.projeto.validador.config.EncoderResultadoValidacao;
+import com.projeto.validador.exception.GlobalExceptionHandlerReativo;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import com.projeto.validador.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+class ValidadorReativoControllerTest {
+
+    private static final int TAMANHO_MAXIMO_LINHA = 256;
+
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+    private final ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+    private final ValidadorFactory factory = new ValidadorFactory(List.of(validadorCpf, validadorCnpj));
+    private final MetricasValidacao metricas = new MetricasValidacao(new SimpleMeterRegistry(), List.of(validadorCpf, validadorCnpj));
+
+    private final WebTestClient cliente = WebTestClient
+            .bindToController(new ValidadorReativoController(
+                    new ValidadorService(factory, metricas, CadastroDocumentos.desabilitado(),
+                            AuditoriaValidacao.desabilitada()),
+                    new ValidadorLoteService(factory, metricas, AuditoriaValidacao.desabilitada(), new ObjectMapper(),
+                            TAMANHO_MAXIMO_LINHA)))
+            .controllerAdvice(new GlobalExceptionHandlerReativo(10))
+            .httpMessageCodecs(codecs -> codecs.customCodecs().register(new EncoderResultadoValidacao()))
+            .build();
+
+    @Test
+    @DisplayName("Deve validar documento com o mesmo contrato do controller servlet")
+    void deveValidarDocumento() {
+        cliente.get().uri("/v1/validar/cpf?documento=529.982.247-25")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(" CPF valido");
+
+        cliente.get().uri("/v1/validar/cpf?documento=11222333000181")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.path").isEqualTo("/v1/validar/cpf")
+                .jsonPath("$.message").isEqualTo("Documento inválido: 11222333000181 - Motivo: "
+                        + "Tamanho incompatível com o tipo de documento informado: 14");
+    }
+
+    @Test
+    @DisplayName("Deve responder em JSON quando o cliente pede JSON")
+    void deveResponderEmJson() {
+        cliente.get().uri("/v1/validar/cnpj?documento=12.abc.345/01de-36")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody().json("""
+                        {"documento":"12ABC34501DE36","tipo":"CNPJ","valido":false,"motivo":"Dígitos verificadores não conferem"}
+                        """, JsonCompareMode.STRICT);
+    }
+
+    @Test
+    @DisplayName("Deve validar lote em texto linha a linha")
+    void deveValidarLoteEmTexto() {
+        cliente.post().uri("/v1/validar/lote")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("52998224725\r\n11222333000182\n\n123\n" + "9".repeat(TAMANHO_MAXIMO_LINHA + 1) + "\n11222333000181")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("""
+                        1;CPF;valido
+                        2;CNPJ;invalido
+                        4;;Tamanho inválido para documento: 3
+                        5;;Linha excede o tamanho máximo
+                        6;CNPJ;valido
+                        """);
+    }
+
+    @Test
+    @DisplayName("Deve validar lote em NDJSON linha a linha")
+    void deveValidarLoteEmNdjson() {
+        cliente.post().uri("/v1/validar/lote")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("""
+                        {"documento":"52998224725"}
+                        "11222333000181"
+                        {"outro":{"documento":"x"},"documento":"52998224726"}
+                        {invalido
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("""
+                        {"linha":1,"documento":"52998224725","tipo":"CPF","valido":true}
+                        {"linha":2,"documento":"11222333000181","tipo":"CNPJ","valido":true}
+                        {"linha":3,"documento":"52998224726","tipo":"CPF","valido":false}
+                        {"linha":4,"valido":false,"erro":"Documento não pode ser nulo"}
+                        """);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar em NDJSON a linha acima do tamanho máximo e seguir com as próximas")
+    void deveRejeitarLinhaLongaEmNdjson() {
+        cliente.post().uri("/v1/validar/lote")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"documento\":\"" + "9".repeat(300_000) + "\"}\n{\"documento\":\"52998224725\"}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("""
+                        {"linha":1,"valido":false,"erro":"Linha excede o tamanho máximo"}
+                        {"linha":2,"documento":"52998224725","tipo":"CPF","valido":true}
+                        """);
+    }
+}
@@ -0,0 +1,92 @@
+package com.projeto.validador.diagnostico;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEndpointTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve gravar os eventos de etapa só durante a gravação e devolver o arquivo")
+    void deveGravarEventosDeEtapa() throws Exception {
+        JfrEndpoint endpoint = new JfrEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(50), "default", diretorio);
+        emitir("antes");
+
+        assertEquals(200, endpoint.iniciar(null).getStatus());
+        assertEquals("RUNNING", endpoint.situacao().get("estado"));
+        emitir("durante");
+        WebEndpointResponse<Resource> resposta = endpoint.parar();
+        emitir("depois");
+
+        assertEquals(200, resposta.getStatus());
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(resposta.getBody().getFile().toPath()).stream()
+                .filter(evento -> evento.getEventType().getName().equals(EventoEtapaValidacao.NOME))
+                .toList();
+        assertEquals(1, eventos.size());
+        assertEquals(EventoEtapaValidacao.REGRA, eventos.get(0).getString("etapa"));
+        assertEquals("CPF", eventos.get(0).getString("tipo"));
+        assertEquals("durante", eventos.get(0).getString("desfecho"));
+        assertFalse(eventos.get(0).getDuration().isNegative());
+    }
+
+    @Test
+    @DisplayName("Deve deixar variáveis de ambiente e propriedades de sistema fora da gravação")
+    void deveOmitirAmbienteEPropriedades() throws Exception {
+        JfrEndpoint endpoint = new JfrEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(50), "profile", diretorio);
+
+        endpoint.iniciar(null);
+        WebEndpointResponse<Resource> resposta = endpoint.parar();
+
+        List<String> tipos = RecordingFile.readAllEvents(resposta.getBody().getFile().toPath()).stream()
+                .map(evento -> evento.getEventType().getName())
+                .toList();
+        assertFalse(tipos.isEmpty());
+        assertFalse(tipos.contains("jdk.InitialEnvironmentVariable"));
+        assertFalse(tipos.contains("jdk.InitialSystemProperty"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma segunda gravação e responder 404 sem gravação")
+    void deveManterUmaGravacaoPorVez() throws Exception {
+        JfrEndpoint endpoint = new JfrEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(50), "default", diretorio);
+        assertEquals(404, endpoint.parar().getStatus());
+
+        assertEquals(200, endpoint.iniciar(Duration.ofSeconds(30)).getStatus());
+        assertEquals(409, endpoint.iniciar(Duration.ofSeconds(30)).getStatus());
+        assertTrue(endpoint.parar().getBody().exists());
+        assertEquals(404, endpoint.parar().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve limitar a duração pedida à duração máxima")
+    void deveLimitarDuracao() throws Exception {
+        JfrEndpoint endpoint = new JfrEndpoint(Duration.ofSeconds(5), DataSize.ofMegabytes(50), "default", diretorio);
+
+        endpoint.iniciar(Duration.ofHours(1));
+
+        assertEquals(String.valueOf(Duration.ofSeconds(5)), endpoint.situacao().get("duracao"));
+        endpoint.parar();
+    }
+
+    private static void emitir(String desfecho) {
+        EventoEtapaValidacao evento = new EventoEtapaValidacao();
+        evento.begin();
+        evento.terminar(EventoEtapaValidacao.REGRA, "CPF", desfecho);
+    }
+}
@@ -0,0 +1,159 @@
+package com.projeto.validador.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DigitosCnpjTest {
+
+    private static final String ALFANUMERICOS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final String MASCARAS = "./- _#\tÇé";
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+        " ",
+        "123",
+        "11222333000181",
+        "11.222.333/0001-81",
+        "11.222.333/0001-82",
+        "11222333000181 ",
+        "112223330001810",
+        "11ABC3330001XY",
+        "12ABC34501DE35",
+        "12.abc.345/01de-35",
+        "12ABC34501DE3X",
+        "00000000000000",
+        "áéíóú11222333000181",
+        "1122233300018１"
+    })
+    @DisplayName("Deve responder igual à implementação por regex em casos de borda")
+    void deveResponderIgualAImplementacaoAnteriorEmCasosDeBorda(String entrada) {
+        assertEquals(validoLegado(entrada), DigitosCnpj.valido(entrada));
+    }
+
+    @Test
+    @DisplayName("Deve responder igual à implementação por regex em entradas aleatórias")
+    void deveResponderIgualAImplementacaoAnteriorEmEntradasAleatorias() {
+        Random random = new Random(20240601L);
+        int validos = 0;
+
+        for (int i = 0; i < 200_000; i++) {
+            String entrada = gerarEntrada(random);
+            boolean esperado = validoLegado(entrada);
+            if (esperado) validos++;
+
+            assertEquals(esperado, DigitosCnpj.valido(entrada), entrada);
+            byte[] bytes = entrada.getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(esperado, DigitosCnpj.valido(bytes, 0, bytes.length), entrada);
+        }
+
+        // garante que a amostra exercita também o caminho válido
+        assertTrue(validos > 10_000);
+    }
+
+    @Test
+    @DisplayName("Deve chegar ao mesmo resultado pela chave compacta e pelos DVs calculados")
+    void deveChegarAoMesmoResultadoPelaChave() {
+        Random random = new Random(20240604L);
+
+        for (int i = 0; i < 100_000; i++) {
+            String entrada = gerarEntrada(random);
+            long chave = DigitosCnpj.chave(entrada);
+            boolean valido = chave >= 0 && DigitosCnpj.dvsInformados(entrada) == DigitosCnpj.calcularDvs(chave);
+
+            assertTrue(chave < DigitosCnpj.CHAVES, entrada);
+            assertEquals(DigitosCnpj.valido(entrada), valido, entrada);
+        }
+        assertEquals(0, DigitosCnpj.chave("000000000000-00"));
+        assertEquals(DigitosCnpj.CHAVES - 1, DigitosCnpj.chave("ZZZZZZZZZZZZ00"));
+    }
+
+    @Test
+    @DisplayName("Deve validar apenas o intervalo informado")
+    void deveValidarApenasOIntervaloInformado() {
+        String linha = "x;12.ABC.345/01DE-35;y";
+        byte[] bytes = linha.getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(DigitosCnpj.valido(linha, 2, 20));
+        assertTrue(DigitosCnpj.valido(bytes, 2, 20));
+        assertFalse(DigitosCnpj.valido(linha, 0, linha.length()));
+    }
+
+    private static String gerarEntrada(Random random) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            sb.append(random.nextInt(3) == 0
+                    ? ALFANUMERICOS.charAt(random.nextInt(ALFANUMERICOS.length()))
+                    : (char) ('0' + random.nextInt(10)));
+        }
+        sb.append(dvsLegado(sb.toString().toUpperCase()));
+
+        switch (random.nextInt(6)) {
+            case 0 -> sb.setCharAt(12 + random.nextInt(2), (char) ('0' + random.nextInt(10)));
+            case 1 -> sb.setCharAt(random.nextInt(14), ALFANUMERICOS.charAt(random.nextInt(ALFANUMERICOS.length())));
+            case 2 -> sb.deleteCharAt(random.nextInt(sb.length()));
+            case 3 -> sb.insert(random.nextInt(sb.length() + 1), ALFANUMERICOS.charAt(random.nextInt(ALFANUMERICOS.length())));
+            default -> {
+                // mantém válido
+            }
+        }
+
+        int mascaras = random.nextInt(5);
+        for (int i = 0; i < mascaras; i++) {
+            sb.insert(random.nextInt(sb.length() + 1), MASCARAS.charAt(random.nextInt(MASCARAS.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String dvsLegado(String base12) {
+        int dv1 = calcularDvLegado(base12, true);
+        int dv2 = calcularDvLegado(base12 + dv1, false);
+        return "" + dv1 + dv2;
+    }
+
+    // implementação anterior de RegrasCnpj.cnpjAlfanumericoValido, mantida como oráculo
+    private static boolean validoLegado(String entrada) {
+        if (entrada == null) return false;
+
+        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+        if (limpo.length() != 14) return false;
+
+        String base12 = limpo.substring(0, 12);
+        String dvsInformados = limpo.substring(12);
+        if (!dvsInformados.matches("\\d{2}")) return false;
+
+        int dvCalculado1 = calcularDvLegado(base12, true);
+        if (dvCalculado1 < 0) return false;
+        int dvCalculado2 = calcularDvLegado(base12 + dvCalculado1, false);
+
+        return Character.getNumericValue(dvsInformados.charAt(0)) == dvCalculado1
+                && Character.getNumericValue(dvsInformados.charAt(1)) == dvCalculado2;
+    }
+
+    private static int calcularDvLegado(String caracteres, boolean primeiraRodada) {
+        int[] pesos = primeiraRodada
+                ? new int[]{5,4,3,2,9,8,7,6,5,4,3,2}
+                : new int[]{6,5,4,3,2,9,8,7,6,5,4,3,2};
+        if (caracteres.length() != pesos.length) return -1;
+
+        int soma = 0;
+        for (int i = 0; i < caracteres.length(); i++) {
+            char caractere = caracteres.charAt(i);
+            if (!Character.isLetterOrDigit(caractere)) return -1;
+            soma += (((int) caractere) - 48) * pesos[i];
+        }
+
+        int dv = 11 - soma % 11;
+        return dv == 10 || dv == 11 ? 0 : dv;
+    }
+}
@@ -0,0 +1,215 @@
+package com.projeto.validador.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DigitosCpfTest {
+
+    private static final String CARACTERES = "0123456789/.-: Aa٣";
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+        " ",
+        "123",
+        "52998224725",
+        "52998224724",
+        "52998224735",
+        "529.982.247-25",
+        "5299822472",
+        "529982247250",
+        "00000000000",
+        "11111111111",
+        "99999999999",
+        "5299822472/",
+        "5299822472:",
+        "52998224７25",
+        "٥٢٩٩٨٢٢٤٧٢٥"
+    })
+    @DisplayName("Deve responder igual à implementação anterior em casos de borda")
+    void deveResponderIgualAImplementacaoAnteriorEmCasosDeBorda(String entrada) {
+        assertEquals(validoLegado(entrada), DigitosCpf.valido(entrada));
+        if (entrada != null && entrada.length() == DigitosCpf.TAMANHO) {
+            byte[] bytes = entrada.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length == DigitosCpf.TAMANHO) {
+                assertEquals(validoLegado(entrada), DigitosCpf.valido(bytes, 0));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder igual à implementação anterior em entradas aleatórias")
+    void deveResponderIgualAImplementacaoAnteriorEmEntradasAleatorias() {
+        Random random = new Random(20240602L);
+        int validos = 0;
+
+        for (int i = 0; i < 200_000; i++) {
+            String entrada = gerarEntrada(random);
+            boolean esperado = validoLegado(entrada);
+            if (esperado) validos++;
+
+            assertEquals(esperado, DigitosCpf.valido(entrada), entrada);
+        }
+
+        assertTrue(validos > 10_000);
+    }
+
+    @Test
+    @DisplayName("Deve validar CPF com máscara igual ao CPF limpo")
+    void deveValidarComMascaraIgualAoCpfLimpo() {
+        Random random = new Random(20240611L);
+
+        for (int i = 0; i < 200_000; i++) {
+            String entrada = gerarEntrada(random);
+            boolean esperado = !entrada.matches(".*[A-Za-z].*") && validoLegado(entrada.replaceAll("[^0-9]", ""));
+
+            assertEquals(esperado, DigitosCpf.validoComMascara(entrada), entrada);
+        }
+        assertTrue(DigitosCpf.validoComMascara("529.982.247-25"));
+        assertFalse(DigitosCpf.validoComMascara("529.982.247-2"));
+        assertFalse(DigitosCpf.validoComMascara("111.111.111-11"));
+        assertFalse(DigitosCpf.validoComMascara(null));
+    }
+
+    @Test
+    @DisplayName("Deve chegar ao mesmo resultado pela chave compacta e pelos DVs calculados")
+    void deveChegarAoMesmoResultadoPelaChave() {
+        Random random = new Random(20240605L);
+
+        for (int i = 0; i < 100_000; i++) {
+            String entrada = gerarEntrada(random);
+            long chave = DigitosCpf.chave(entrada);
+            boolean valido = chave >= 0 && DigitosCpf.dvsInformados(entrada) == DigitosCpf.calcularDvs(chave);
+
+            assertTrue(chave < 1_000_000_000L, entrada);
+            assertEquals(DigitosCpf.valido(entrada), valido, entrada);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve validar lote de CPFs de largura fixa em um buffer")
+    void deveValidarLoteEmBuffer() {
+        String[] cpfs = {"52998224725", "52998224724", "11111111111", "5299822472A", "39053344705"};
+        byte[] dados = String.join("\n", cpfs).getBytes(StandardCharsets.US_ASCII);
+
+        boolean[] resultado = new boolean[cpfs.length];
+        DigitosCpf.validar(dados, 0, DigitosCpf.TAMANHO + 1, cpfs.length, resultado);
+
+        assertArrayEquals(new boolean[]{true, false, false, false, true}, resultado);
+    }
+
+    @Test
+    @DisplayName("Deve validar lote aleatório igual à validação individual")
+    void deveValidarLoteAleatorioIgualAValidacaoIndividual() {
+        Random random = new Random(20240603L);
+        int quantidade = 10_000;
+        String[] cpfs = new String[quantidade];
+        byte[] dados = new byte[quantidade * DigitosCpf.TAMANHO];
+        for (int i = 0; i < quantidade; i++) {
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < DigitosCpf.TAMANHO) {
+                sb.append(random.nextInt(20) == 0 ? 'x' : (char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                sb.replace(9, 11, dvsLegado(sb.substring(0, 9)));
+            }
+            cpfs[i] = sb.toString();
+            System.arraycopy(cpfs[i].getBytes(StandardCharsets.US_ASCII), 0, dados, i * DigitosCpf.TAMANHO, DigitosCpf.TAMANHO);
+        }
+
+        boolean[] doBuffer = new boolean[quantidade];
+        boolean[] doArray = new boolean[quantidade];
+        DigitosCpf.validar(dados, 0, DigitosCpf.TAMANHO, quantidade, doBuffer);
+        DigitosCpf.validar(cpfs, doArray);
+
+        for (int i = 0; i < quantidade; i++) {
+            assertEquals(validoLegado(cpfs[i]), doBuffer[i], cpfs[i]);
+            assertEquals(validoLegado(cpfs[i]), doArray[i], cpfs[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPFs com todos os dígitos iguais mesmo com DVs corretos")
+    void deveRejeitarTodosDigitosIguais() {
+        for (char c = '0'; c <= '9'; c++) {
+            assertFalse(DigitosCpf.valido(String.valueOf(c).repeat(11)));
+        }
+    }
+
+    private static String gerarEntrada(Random random) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 9; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        sb.append(dvsLegado(sb.toString()));
+
+        switch (random.nextInt(6)) {
+            case 0 -> sb.setCharAt(9 + random.nextInt(2), (char) ('0' + random.nextInt(10)));
+            case 1 -> sb.setCharAt(random.nextInt(11), CARACTERES.charAt(random.nextInt(CARACTERES.length())));
+            case 2 -> sb.deleteCharAt(random.nextInt(sb.length()));
+            case 3 -> sb.insert(random.nextInt(sb.length() + 1), CARACTERES.charAt(random.nextInt(CARACTERES.length())));
+            case 4 -> {
+                char c = (char) ('0' + random.nextInt(10));
+                sb.setLength(0);
+                sb.append(String.valueOf(c).repeat(11));
+            }
+            default -> {
+                // mantém válido
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String dvsLegado(String base9) {
+        int soma1 = 0, soma2 = 0;
+        for (int i = 0; i < 9; i++) {
+            int num = base9.charAt(i) - '0';
+            soma1 += num * (10 - i);
+            soma2 += num * (11 - i);
+        }
+        int digito1 = (soma1 * 10) % 11;
+        if (digito1 == 10) digito1 = 0;
+        soma2 += digito1 * 2;
+        int digito2 = (soma2 * 10) % 11;
+        if (digito2 == 10) digito2 = 0;
+        return "" + digito1 + digito2;
+    }
+
+    // implementação anterior de RegrasCpf.cpfValido, mantida como oráculo
+    private static boolean validoLegado(String cpf) {
+        if (cpf == null || cpf.length() != 11 || !cpf.matches("\\d+")) {
+            return false;
+        }
+        if (cpf.chars().distinct().count() == 1) {
+            return false;
+        }
+        try {
+            int soma1 = 0, soma2 = 0;
+            for (int i = 0; i < 9; i++) {
+                int num = Character.getNumericValue(cpf.charAt(i));
+                soma1 += num * (10 - i);
+                soma2 += num * (11 - i);
+            }
+            int digito1 = (soma1 * 10) % 11;
+            if (digito1 == 10) digito1 = 0;
+            soma2 += digito1 * 2;
+            int digito2 = (soma2 * 10) % 11;
+            if (digito2 == 10) digito2 = 0;
+            return digito1 == Character.getNumericValue(cpf.charAt(9)) &&
+                    digito2 == Character.getNumericValue(cpf.charAt(10));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.projeto.validador.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FormatadorDocumentoTest {
+
+    private static final String CARACTERES = "0123456789ABCXYZabcxyz./- _ç٣";
+
+    @Test
+    @DisplayName("Deve formatar igual à implementação anterior em entradas aleatórias")
+    void deveFormatarIgualAImplementacaoAnterior() {
+        Random random = new Random(20240615L);
+
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int tamanho = random.nextInt(4) == 0 ? 14 + random.nextInt(6) : random.nextInt(22);
+            for (int j = 0; j < tamanho; j++) {
+                sb.append(CARACTERES.charAt(random.nextInt(CARACTERES.length())));
+            }
+            String entrada = sb.toString();
+
+            assertEquals(formatarLegado(entrada), RegrasCnpj.formatar(entrada), entrada);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escrever o mesmo resultado em StringBuilder, char[] e ByteBuffer")
+    void deveEscreverOMesmoResultadoEmTodosOsDestinos() {
+        String[] entradas = {"52998224725", "529.982.247-25", "12abc34501de35", "12.ABC.345/01DE-35", "123", ""};
+
+        for (String entrada : entradas) {
+            for (FormatadorDocumento formatador : new FormatadorDocumento[]{FormatadorDocumento.CPF, FormatadorDocumento.CNPJ}) {
+                StringBuilder sb = new StringBuilder("x");
+                boolean formatado = formatador.formatar(entrada, sb);
+
+                char[] chars = new char[20];
+                int fim = formatador.formatar(entrada, chars, 1);
+
+                ByteBuffer bytes = ByteBuffer.allocate(20);
+                bytes.put((byte) 'x');
+                assertEquals(formatado, formatador.formatar(entrada, bytes));
+
+                assertEquals(formatado ? formatador.getTamanhoFormatado() + 1 : -1, fim);
+                if (formatado) {
+                    assertEquals(sb.substring(1), new String(chars, 1, fim - 1));
+                    assertEquals(sb.toString(), new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII));
+                } else {
+                    assertEquals("x", sb.toString());
+                    assertEquals(1, bytes.position());
+                }
+            }
+
+            StringBuilder sb = new StringBuilder();
+            char[] chars = new char[20];
+            ByteBuffer bytes = ByteBuffer.allocate(20);
+            int escritos = FormatadorDocumento.normalizar(entrada, sb);
+            assertEquals(escritos, FormatadorDocumento.normalizar(entrada, chars, 0));
+            assertEquals(escritos, FormatadorDocumento.normalizar(entrada, bytes));
+            assertEquals(sb.toString(), new String(chars, 0, escritos));
+            assertEquals(sb.toString(), new String(bytes.array(), 0, escritos, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve formatar CPF e escolher o formatador pelo tamanho sem máscara")
+    void deveFormatarCpfEEscolherFormatadorPeloTamanho() {
+        assertEquals("529.982.247-25", RegrasCpf.formatar("52998224725"));
+        assertEquals("529.982.247-25", RegrasCpf.formatar(" 529 982 247 25 "));
+        assertEquals("5299822472", RegrasCpf.formatar("529.982.247-2"));
+        assertNull(RegrasCpf.formatar(null));
+
+        assertSame(FormatadorDocumento.CPF, FormatadorDocumento.para("529.982.247-25"));
+        assertSame(FormatadorDocumento.CNPJ, FormatadorDocumento.para("12.abc.345/01de-35"));
+        assertNull(FormatadorDocumento.para("123"));
+        assertFalse(FormatadorDocumento.CNPJ.formatar("52998224725", new StringBuilder()));
+    }
+
+    // implementação anterior de RegrasCnpj.formatar, mantida como oráculo
+    private static String formatarLegado(String entrada) {
+        String limpo = entrada.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+        if (limpo.length() != 14) {
+            return limpo;
+        }
+        return String.format("%s.%s.%s/%s-%s",
+                limpo.substring(0, 2),
+                limpo.substring(2, 5),
+                limpo.substring(5, 8),
+                limpo.substring(8, 12),
+                limpo.substring(12));
+    }
+}
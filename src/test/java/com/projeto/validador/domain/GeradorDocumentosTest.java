@@ -0,0 +1,81 @@
+package com.projeto.validador.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeradorDocumentosTest {
+
+    @Test
+    @DisplayName("Deve gerar apenas documentos válidos ou apenas inválidos, conforme pedido")
+    void deveGerarValidosEInvalidos() throws IOException {
+        for (GeradorDocumentos.Tipo tipo : GeradorDocumentos.Tipo.values()) {
+            for (boolean alfanumerico : new boolean[]{false, true}) {
+                for (String documento : gerar(tipo, 20_000, true, alfanumerico, 1L)) {
+                    assertTrue(valido(tipo, documento), documento);
+                }
+                for (String documento : gerar(tipo, 20_000, false, alfanumerico, 2L)) {
+                    assertFalse(valido(tipo, documento), documento);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar CNPJs alfanuméricos com letras na base e DVs numéricos")
+    void deveGerarCnpjAlfanumerico() throws IOException {
+        String[] documentos = gerar(GeradorDocumentos.Tipo.CNPJ, 1_000, true, true, 3L);
+
+        long comLetras = 0;
+        for (String documento : documentos) {
+            assertEquals(DigitosCnpj.TAMANHO, documento.length());
+            assertTrue(documento.substring(12).matches("\\d{2}"), documento);
+            if (documento.matches(".*[A-Z].*")) comLetras++;
+        }
+        assertTrue(comLetras > 900);
+    }
+
+    @Test
+    @DisplayName("Deve repetir a mesma sequência com a mesma semente")
+    void deveRepetirSequenciaComMesmaSemente() throws IOException {
+        assertEquals(String.join(",", gerar(GeradorDocumentos.Tipo.CPF, 100, true, false, 42L)),
+                String.join(",", gerar(GeradorDocumentos.Tipo.CPF, 100, true, false, 42L)));
+        assertFalse(String.join(",", gerar(GeradorDocumentos.Tipo.CPF, 100, true, false, 42L))
+                .equals(String.join(",", gerar(GeradorDocumentos.Tipo.CPF, 100, true, false, 43L))));
+    }
+
+    @Test
+    @DisplayName("Deve calcular os DVs a partir da base com ou sem máscara")
+    void deveCalcularDvsDaBase() {
+        assertEquals(25, DigitosCpf.calcularDvs("529982247"));
+        assertEquals(25, DigitosCpf.calcularDvs("529.982.247"));
+        assertEquals(-1, DigitosCpf.calcularDvs("52998224"));
+        assertEquals(-1, DigitosCpf.calcularDvs("5299822470"));
+        assertEquals(-1, DigitosCpf.calcularDvs("52998224A"));
+
+        assertEquals(81, DigitosCnpj.calcularDvs("112223330001"));
+        assertEquals(35, DigitosCnpj.calcularDvs("12.abc.345/01de"));
+        assertEquals(-1, DigitosCnpj.calcularDvs("12ABC34501D"));
+        assertEquals(-1, DigitosCnpj.calcularDvs(null));
+    }
+
+    private static boolean valido(GeradorDocumentos.Tipo tipo, String documento) {
+        return tipo == GeradorDocumentos.Tipo.CPF ? DigitosCpf.valido(documento) : DigitosCnpj.valido(documento);
+    }
+
+    private static String[] gerar(GeradorDocumentos.Tipo tipo, int quantidade, boolean validos, boolean alfanumerico,
+                                  long semente) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        new GeradorDocumentos(semente).gerar(tipo, quantidade, validos, alfanumerico, saida);
+        String[] documentos = saida.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(quantidade, documentos.length);
+        return documentos;
+    }
+}
@@ -0,0 +1,114 @@
+package com.projeto.validador.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuloPonderadoTest {
+
+    @Test
+    @DisplayName("Deve calcular os DVs de CPF e CNPJ numérico como as regras existentes")
+    void deveCalcularDvsComoRegrasExistentes() {
+        ModuloPonderado cpfDv1 = ModuloPonderado.modulo11(10, 9, 8, 7, 6, 5, 4, 3, 2);
+        ModuloPonderado cpfDv2 = ModuloPonderado.modulo11(11, 10, 9, 8, 7, 6, 5, 4, 3, 2);
+        ModuloPonderado cnpjDv1 = ModuloPonderado.modulo11(5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2);
+        ModuloPonderado cnpjDv2 = ModuloPonderado.modulo11(6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2);
+
+        SplittableRandom random = new SplittableRandom(20250301L);
+        for (int i = 0; i < 100_000; i++) {
+            long baseCpf = random.nextLong(1_000_000_000L);
+            int dv1 = cpfDv1.dv(baseCpf);
+            assertEquals(DigitosCpf.calcularDvs(String.format("%09d", baseCpf)), dv1 * 10 + cpfDv2.dv(baseCpf * 10 + dv1));
+
+            long baseCnpj = random.nextLong(1_000_000_000_000L);
+            int dv1Cnpj = cnpjDv1.dv(baseCnpj);
+            assertEquals(DigitosCnpj.calcularDvs(String.format("%012d", baseCnpj)),
+                    dv1Cnpj * 10 + cnpjDv2.dv(baseCnpj * 10 + dv1Cnpj));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve extrair os dígitos ignorando a máscara")
+    void deveExtrairDigitosIgnorandoMascara() {
+        assertEquals(52998224725L, ModuloPonderado.numero("529.982.247-25", 11));
+        assertEquals(1L, ModuloPonderado.numero("000.000.000-01", 11));
+        assertEquals(-1, ModuloPonderado.numero("529.982.247-2", 11));
+        assertEquals(-1, ModuloPonderado.numero("529.982.247-255", 11));
+        assertEquals(-1, ModuloPonderado.numero("529.982.247-2A", 11));
+        assertEquals(-1, ModuloPonderado.numero(null, 11));
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer números com todos os dígitos iguais")
+    void deveReconhecerDigitosIguais() {
+        assertTrue(ModuloPonderado.digitosIguais(0L, 11));
+        assertTrue(ModuloPonderado.digitosIguais(77777777777L, 11));
+        assertFalse(ModuloPonderado.digitosIguais(7777777777L, 11));
+        assertFalse(ModuloPonderado.digitosIguais(12345678919L, 11));
+    }
+
+    @Test
+    @DisplayName("Deve recusar módulo ou pesos inválidos")
+    void deveRecusarConfiguracaoInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> ModuloPonderado.modulo11());
+        assertThrows(IllegalArgumentException.class, () -> new ModuloPonderado(1, new int[]{2}, resto -> resto));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678919", "123.45678.91-9"})
+    @DisplayName("Deve validar PIS com e sem máscara")
+    void deveValidarPis(String pis) {
+        assertTrue(DigitosPis.valido(pis));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678918", "1234567891", "00000000000", "1234567891A"})
+    @DisplayName("Deve rejeitar PIS com DV errado, tamanho errado ou dígitos iguais")
+    void deveRejeitarPis(String pis) {
+        assertFalse(DigitosPis.valido(pis));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"02650306461", "62472927637", "68619418605"})
+    @DisplayName("Deve validar CNH, inclusive com desconto no segundo DV")
+    void deveValidarCnh(String cnh) {
+        assertTrue(DigitosCnh.valido(cnh));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"02650306462", "68619418607", "68586165000", "11111111111"})
+    @DisplayName("Deve rejeitar CNH com DV errado ou sem segundo DV possível")
+    void deveRejeitarCnh(String cnh) {
+        assertFalse(DigitosCnh.valido(cnh));
+    }
+
+    @Test
+    @DisplayName("Deve validar RENAVAM")
+    void deveValidarRenavam() {
+        assertTrue(DigitosRenavam.valido("14283256656"));
+        assertFalse(DigitosRenavam.valido("14283256657"));
+        assertFalse(DigitosRenavam.valido("00000000000"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"004356870906", "102385010671", "3745 6610 0116"})
+    @DisplayName("Deve validar título de eleitor, inclusive a regra de SP e MG para resto 0")
+    void deveValidarTituloEleitor(String titulo) {
+        assertTrue(DigitosTituloEleitor.valido(titulo));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"004356870907", "374566100106", "123456782912", "123456780012", "00435687090"})
+    @DisplayName("Deve rejeitar título de eleitor com DV ou UF inválidos")
+    void deveRejeitarTituloEleitor(String titulo) {
+        assertFalse(DigitosTituloEleitor.valido(titulo));
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.validador.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultadoValidacaoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @CsvSource({
+        "CPF, true, 529.982.247-25",
+        "CPF, false, 52998224724",
+        "CNPJ, true, 12.abc.345/01de-35",
+        "CNPJ, false, ' 12ABC34501DE36 '"
+    })
+    @DisplayName("Deve gerar os mesmos bytes que a serialização do Jackson e o texto do contrato original")
+    void deveGerarMesmosBytesQueJackson(String tipo, boolean valido, String entrada) throws Exception {
+        ResultadoValidacao resultado = new ResultadoValidacao.Desfecho(tipo, valido).para(entrada);
+
+        assertEquals(objectMapper.writeValueAsString(resultado), new String(resultado.jsonUtf8(), StandardCharsets.UTF_8));
+        assertEquals(String.format(valido ? " %s valido" : " %s invalido", tipo),
+                new String(resultado.textoUtf8(), StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "CPF, true, true, 529.982.247-25",
+        "CNPJ, true, false, 12.abc.345/01de-35",
+        "CNPJ, false, false, ' 12ABC34501DE36 '"
+    })
+    @DisplayName("Deve incluir a presença no cadastro no JSON sem mudar o texto")
+    void deveIncluirCadastrado(String tipo, boolean valido, boolean cadastrado, String entrada) throws Exception {
+        ResultadoValidacao.Desfecho desfecho = new ResultadoValidacao.Desfecho(tipo, valido);
+        ResultadoValidacao resultado = desfecho.para(entrada, cadastrado);
+
+        String json = new String(resultado.jsonUtf8(), StandardCharsets.UTF_8);
+        assertEquals(objectMapper.writeValueAsString(resultado), json);
+        assertTrue(json.endsWith(",\"cadastrado\":" + cadastrado + "}"));
+        assertEquals(desfecho.para(entrada).getTexto(), resultado.getTexto());
+    }
+}
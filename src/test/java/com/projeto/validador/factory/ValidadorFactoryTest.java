@@ -0,0 +1,119 @@
+package com.projeto.validador.factory;
+
+import com.projeto.validador.dto.DocumentoInvalidoException;
+import com.projeto.validador.interfaces.Validador;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidadorFactoryTest {
+
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+    private final ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+    private final ValidadorFactory factory = new ValidadorFactory(List.of(validadorCpf, validadorCnpj));
+
+    @Test
+    @DisplayName("Deve resolver o validador pelo tamanho do documento")
+    void deveResolverValidadorPeloTamanho() {
+        assertSame(validadorCpf, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factory.resolver("52998224725")).validador());
+        assertSame(validadorCnpj, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factory.resolver("11222333000181")).validador());
+    }
+
+    @Test
+    @DisplayName("Deve resolver o validador pelo tamanho sem máscara")
+    void deveResolverValidadorPeloTamanhoSemMascara() {
+        assertSame(validadorCpf, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factory.resolver("529.982.247-25")).validador());
+        assertSame(validadorCnpj, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factory.resolver("12.ABC.345/01DE-35")).validador());
+        assertTrue(validadorCpf.isValido("529.982.247-25"));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tipo declarado e rejeitar documento de outro tipo")
+    void deveRespeitarTipoDeclarado() {
+        assertSame(validadorCpf, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factory.resolver("529.982.247-25", "CPF")).validador());
+
+        ResolucaoValidador.Rejeitado rejeitado = assertInstanceOf(ResolucaoValidador.Rejeitado.class,
+                factory.resolver("11222333000181", "CPF"));
+        assertEquals(MotivoRejeicao.TAMANHO_INCOMPATIVEL, rejeitado.motivo());
+        assertEquals("Tamanho incompatível com o tipo de documento informado: 14", rejeitado.descricao());
+
+        assertEquals(MotivoRejeicao.TIPO_DESCONHECIDO, assertInstanceOf(ResolucaoValidador.Rejeitado.class,
+                factory.resolver("11222333000181", "RG")).motivo());
+    }
+
+    @Test
+    @DisplayName("Deve rotear para novos validadores sem alterar a factory")
+    void deveRotearParaNovosValidadores() {
+        Validador validadorPis = new Validador() {
+            public boolean isValido(String entrada) {
+                return true;
+            }
+
+            public String getTipoDocumento() {
+                return "PIS";
+            }
+
+            public int getTamanho() {
+                return 12;
+            }
+        };
+        ValidadorFactory factoryComPis = new ValidadorFactory(List.of(validadorCpf, validadorCnpj, validadorPis));
+
+        assertSame(validadorPis, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factoryComPis.resolver("123456789012")).validador());
+        assertSame(validadorPis, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factoryComPis.resolver("123456789012", "PIS")).validador());
+        assertThrows(IllegalStateException.class,
+                () -> new ValidadorFactory(List.of(validadorCpf, validadorCnpj, new ValidadorCpf())));
+    }
+
+    @Test
+    @DisplayName("Deve manter o CPF na dedução pelo tamanho com outros documentos de 11 dígitos")
+    void deveManterCpfNaDeducaoPeloTamanho() {
+        ValidadorPis validadorPis = new ValidadorPis();
+        ValidadorCnh validadorCnh = new ValidadorCnh();
+        ValidadorFactory factoryCompleta = new ValidadorFactory(List.of(validadorCpf, validadorCnpj, validadorPis,
+                validadorCnh, new ValidadorRenavam(), new ValidadorTituloEleitor()));
+
+        assertSame(validadorCpf, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factoryCompleta.resolver("12345678919")).validador());
+        assertSame(validadorPis, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factoryCompleta.resolver("123.45678.91-9", "PIS")).validador());
+        assertSame(validadorCnh, assertInstanceOf(ResolucaoValidador.Encontrado.class,
+                factoryCompleta.resolver("02650306461", "CNH")).validador());
+        assertEquals(MotivoRejeicao.TAMANHO_INVALIDO, assertInstanceOf(ResolucaoValidador.Rejeitado.class,
+                factoryCompleta.resolver("004356870906")).motivo());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar documento nulo ou de tamanho inválido sem lançar exceção")
+    void deveRejeitarSemLancarExcecao() {
+        assertSame(ResolucaoValidador.Rejeitado.NULO, factory.resolver(null));
+
+        ResolucaoValidador.Rejeitado rejeitado = assertInstanceOf(ResolucaoValidador.Rejeitado.class, factory.resolver("123"));
+        assertEquals(MotivoRejeicao.TAMANHO_INVALIDO, rejeitado.motivo());
+        assertEquals("Tamanho inválido para documento: 3", rejeitado.descricao());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção sem stack trace ao buscar validador de documento inválido")
+    void deveLancarExcecaoSemStackTrace() {
+        DocumentoInvalidoException die = assertThrows(DocumentoInvalidoException.class,
+                () -> factory.getValidator("123"));
+
+        assertEquals(0, die.getStackTrace().length);
+        assertEquals("Documento inválido: 123 - Motivo: Tamanho inválido para documento: 3", die.getMessage());
+    }
+}
@@ -0,0 +1,60 @@
+package com.projeto.validador.metricas;
+
+import com.projeto.validador.factory.MotivoRejeicao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricasValidacaoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+    private final ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+    private final MetricasValidacao metricas = new MetricasValidacao(registry, List.of(validadorCpf, validadorCnpj));
+
+    @Test
+    @DisplayName("Deve registrar todos os medidores na inicialização")
+    void deveRegistrarMedidoresNaInicializacao() {
+        assertEquals(2, registry.find("validador.validacao").timers().size());
+        assertEquals(4, registry.find("validador.resultado").counters().size());
+        assertEquals(4, registry.find("validador.entrada").counters().size());
+        assertEquals(MotivoRejeicao.values().length, registry.find("validador.rejeitado").counters().size());
+    }
+
+    @Test
+    @DisplayName("Deve contar resultado, formato da entrada e tempo por tipo de documento")
+    void deveContarPorTipo() {
+        long inicio = System.nanoTime();
+        metricas.registrar(validadorCnpj, "11.222.333/0001-81", true, inicio);
+        metricas.registrar(validadorCnpj, "11222333000182", false, inicio);
+        metricas.registrar(validadorCpf, "52998224725", true, inicio);
+        metricas.rejeitado(MotivoRejeicao.TAMANHO_INVALIDO);
+
+        assertEquals(2, registry.get("validador.validacao").tag("tipo", "CNPJ").timer().count());
+        assertEquals(1.0, registry.get("validador.resultado").tags("tipo", "CNPJ", "resultado", "invalido").counter().count());
+        assertEquals(1.0, registry.get("validador.entrada").tags("tipo", "CNPJ", "formato", "mascarada").counter().count());
+        assertEquals(1.0, registry.get("validador.entrada").tags("tipo", "CPF", "formato", "crua").counter().count());
+        assertEquals(1.0, registry.get("validador.rejeitado").tag("motivo", "tamanho_invalido").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve identificar entrada com máscara")
+    void deveIdentificarEntradaComMascara() {
+        assertTrue(MetricasValidacao.mascarado("529.982.247-25"));
+        assertTrue(MetricasValidacao.mascarado("12ABC34501DE 35"));
+        assertFalse(MetricasValidacao.mascarado("12abc34501DE35"));
+
+        byte[] buffer = "x529.982.247-2512abc34501DE35".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(MetricasValidacao.mascarado(buffer, 1, 14));
+        assertFalse(MetricasValidacao.mascarado(buffer, 15, 14));
+    }
+}
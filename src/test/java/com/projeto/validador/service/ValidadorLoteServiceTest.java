@@ -0,0 +1,89 @@
+package com.projeto.validador.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ValidadorLoteServiceTest {
+
+    private static final int TAMANHO_MAXIMO_LINHA = 256;
+
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+    private final ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+    private final ValidadorLoteService service = new ValidadorLoteService(
+            new ValidadorFactory(List.of(validadorCpf, validadorCnpj)),
+            new MetricasValidacao(new SimpleMeterRegistry(), List.of(validadorCpf, validadorCnpj)),
+            AuditoriaValidacao.desabilitada(),
+            new ObjectMapper(),
+            TAMANHO_MAXIMO_LINHA);
+
+    @Test
+    @DisplayName("Deve validar lote em texto linha a linha")
+    void deveValidarLoteEmTexto() throws IOException {
+        String entrada = "52998224725\r\n11222333000182\n\n123\n" + "9".repeat(TAMANHO_MAXIMO_LINHA + 1) + "\n11222333000181";
+
+        assertEquals("""
+                1;CPF;valido
+                2;CNPJ;invalido
+                4;;Tamanho inválido para documento: 3
+                5;;Linha excede o tamanho máximo
+                6;CNPJ;valido
+                """, validarTexto(entrada));
+    }
+
+    @Test
+    @DisplayName("Deve validar lote em NDJSON linha a linha")
+    void deveValidarLoteEmNdjson() throws IOException {
+        String entrada = """
+                {"documento":"52998224725"}
+                "11222333000181"
+                {"outro":{"documento":"x"},"documento":"52998224726"}
+                {invalido
+                """;
+
+        assertEquals("""
+                {"linha":1,"documento":"52998224725","tipo":"CPF","valido":true}
+                {"linha":2,"documento":"11222333000181","tipo":"CNPJ","valido":true}
+                {"linha":3,"documento":"52998224726","tipo":"CPF","valido":false}
+                {"linha":4,"valido":false,"erro":"Documento não pode ser nulo"}
+                """, validarNdjson(entrada));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar em NDJSON a linha acima do tamanho máximo e seguir com as próximas")
+    void deveRejeitarLinhaLongaEmNdjson() throws IOException {
+        String entrada = "{\"documento\":\"" + "9".repeat(TAMANHO_MAXIMO_LINHA) + "\"}\n"
+                + "{\"documento\":\"52998224725\"}\n";
+
+        assertEquals("""
+                {"linha":1,"valido":false,"erro":"Linha excede o tamanho máximo"}
+                {"linha":2,"documento":"52998224725","tipo":"CPF","valido":true}
+                """, validarNdjson(entrada));
+    }
+
+    private String validarTexto(String entrada) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        service.validarTexto(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)), saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    private String validarNdjson(String entrada) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        service.validarNdjson(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)), saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+}
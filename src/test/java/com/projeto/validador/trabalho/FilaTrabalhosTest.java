@@ -0,0 +1,196 @@
+package com.projeto.validador.trabalho;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.validador.auditoria.AuditoriaValidacao;
+import com.projeto.validador.factory.ValidadorCnpj;
+import com.projeto.validador.factory.ValidadorCpf;
+import com.projeto.validador.factory.ValidadorFactory;
+import com.projeto.validador.metricas.MetricasValidacao;
+import com.projeto.validador.service.ValidadorLoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilaTrabalhosTest {
+
+    private static final String[] DOCUMENTOS = {
+        "52998224725", "52998224724", "529.982.247-25", "11222333000181", "12.ABC.345/01DE-35", "123", "", "  "
+    };
+
+    @TempDir
+    Path diretorio;
+
+    private final ValidadorCpf validadorCpf = new ValidadorCpf();
+    private final ValidadorCnpj validadorCnpj = new ValidadorCnpj();
+    private final ValidadorLoteService loteService = new ValidadorLoteService(
+            new ValidadorFactory(List.of(validadorCpf, validadorCnpj)),
+            new MetricasValidacao(new SimpleMeterRegistry(), List.of(validadorCpf, validadorCnpj)),
+            AuditoriaValidacao.desabilitada(),
+            new ObjectMapper(),
+            256);
+
+    private static final Duration RETENCAO = Duration.ofHours(1);
+
+    private FilaTrabalhos fila;
+
+    @AfterEach
+    void encerrar() {
+        if (fila != null) fila.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve processar em trechos paralelos com o mesmo resultado do lote em streaming")
+    void deveProcessarEmTrechosComMesmoResultadoDoLote() throws Exception {
+        fila = fila(2, 4, 64, 10, DataSize.ofMegabytes(1));
+        String entrada = gerarEntrada(2_000);
+
+        Trabalho trabalho = fila.submeter(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)));
+        aguardar(trabalho);
+
+        assertEquals(EstadoTrabalho.CONCLUIDO, trabalho.getEstado());
+        assertEquals(2_000, trabalho.getProgresso().linhas());
+        assertEquals(esperado(entrada), Files.readString(trabalho.resultado()));
+        assertEquals(Files.size(trabalho.resultado()), trabalho.getProgresso().bytesResultado());
+    }
+
+    @Test
+    @DisplayName("Deve retomar do diário descartando resultados gravados depois da última linha registrada")
+    void deveRetomarDoDiario() throws Exception {
+        String entrada = gerarEntrada(500);
+        byte[] bytes = entrada.getBytes(StandardCharsets.UTF_8);
+        int corte = entrada.indexOf('\n', entrada.length() / 2) + 1;
+        long linhasAntes = entrada.substring(0, corte).chars().filter(c -> c == '\n').count();
+        String resultadoAntes = esperado(entrada.substring(0, corte));
+
+        // estado de uma queda no meio: metade registrada no diário e lixo depois dela no resultado
+        Path dir = Files.createDirectory(diretorio.resolve("6f1c1a4e-0000-4000-8000-000000000001"));
+        Files.write(dir.resolve(Trabalho.ENTRADA), bytes);
+        Files.writeString(dir.resolve(Trabalho.RESULTADO), resultadoAntes + "999;CPF;val");
+        Files.writeString(dir.resolve(Trabalho.DIARIO), "10;20;1\n" + corte + ";"
+                + resultadoAntes.getBytes(StandardCharsets.UTF_8).length + ";" + linhasAntes + "\n9999;9");
+        Path interrompido = Files.createDirectories(diretorio.resolve("6f1c1a4e-0000-4000-8000-000000000002").resolve("aninhado"));
+        Files.writeString(interrompido.resolve("dados"), "x");
+        Path alheio = Files.createDirectory(diretorio.resolve("nao-e-trabalho"));
+
+        fila = fila(1, 2, 128, 10, DataSize.ofMegabytes(1));
+        fila.recuperar();
+        Trabalho trabalho = fila.buscar(dir.getFileName().toString());
+        aguardar(trabalho);
+
+        assertEquals(EstadoTrabalho.CONCLUIDO, trabalho.getEstado());
+        assertEquals(esperado(entrada), Files.readString(trabalho.resultado()));
+        assertFalse(Files.exists(interrompido.getParent()));
+        assertTrue(Files.exists(alheio));
+
+        // depois de concluído, reabrir não agenda de novo
+        assertEquals(EstadoTrabalho.CONCLUIDO, Trabalho.abrir(dir).getEstado());
+    }
+
+    @Test
+    @DisplayName("Deve manter a numeração com linha maior que o trecho e entrada sem quebra no fim")
+    void deveManterNumeracaoComLinhaMaiorQueOTrecho() throws Exception {
+        fila = fila(1, 2, 16, 10, DataSize.ofMegabytes(1));
+        String entrada = "52998224725\n" + "9".repeat(300) + "\n\n11222333000181";
+
+        Trabalho trabalho = fila.submeter(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)));
+        aguardar(trabalho);
+
+        assertEquals(esperado(entrada), Files.readString(trabalho.resultado()));
+        assertEquals(4, trabalho.getProgresso().linhas());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como falho o trabalho com diário corrompido sem interromper a recuperação")
+    void deveMarcarComoFalhoTrabalhoComDiarioCorrompido() throws Exception {
+        Path dir = Files.createDirectory(diretorio.resolve("6f1c1a4e-0000-4000-8000-000000000003"));
+        Files.writeString(dir.resolve(Trabalho.ENTRADA), "52998224725\n");
+        Files.writeString(dir.resolve(Trabalho.DIARIO), "10;abc;1\n");
+
+        fila = fila(1, 2, 128, 10, DataSize.ofMegabytes(1));
+        fila.recuperar();
+        Trabalho trabalho = fila.buscar(dir.getFileName().toString());
+
+        assertEquals(EstadoTrabalho.FALHOU, trabalho.getEstado());
+        assertEquals("Diário de progresso corrompido: 10;abc;1", trabalho.getErro());
+    }
+
+    @Test
+    @DisplayName("Deve apagar o trabalho terminado depois da retenção")
+    void deveApagarTrabalhoDepoisDaRetencao() throws Exception {
+        fila = fila(1, 2, 128, 10, DataSize.ofMegabytes(1));
+        Trabalho trabalho = fila.submeter(new ByteArrayInputStream("52998224725\n".getBytes(StandardCharsets.UTF_8)));
+        aguardar(trabalho);
+
+        fila.expirar(Instant.now());
+        assertEquals(trabalho, fila.buscar(trabalho.getId()));
+
+        fila.expirar(Instant.now().plus(RETENCAO).plusSeconds(1));
+        assertThrows(ResponseStatusException.class, () -> fila.buscar(trabalho.getId()));
+        assertFalse(Files.exists(trabalho.entrada().getParent()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar entrada acima do tamanho máximo sem deixar arquivos nem ocupar a fila")
+    void deveRecusarEntradaAcimaDoTamanhoMaximo() throws Exception {
+        fila = fila(1, 2, 128, 1, DataSize.ofBytes(100));
+
+        ResponseStatusException erro = assertThrows(ResponseStatusException.class,
+                () -> fila.submeter(new ByteArrayInputStream(new byte[101])));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, erro.getStatusCode());
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+        aguardar(fila.submeter(new ByteArrayInputStream("52998224725\n".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private FilaTrabalhos fila(int simultaneos, int threads, int tamanhoTrecho, int pendentesMaximos,
+                               DataSize tamanhoMaximoEntrada) throws IOException {
+        return new FilaTrabalhos(loteService, diretorio, simultaneos, threads, tamanhoTrecho, pendentesMaximos,
+                RETENCAO, tamanhoMaximoEntrada);
+    }
+
+    private String esperado(String entrada) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        loteService.validarTexto(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)), saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String gerarEntrada(int linhas) {
+        Random random = new Random(20240620L);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < linhas; i++) {
+            sb.append(DOCUMENTOS[random.nextInt(DOCUMENTOS.length)]).append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        return sb.toString();
+    }
+
+    private static void aguardar(Trabalho trabalho) throws InterruptedException {
+        long limite = System.nanoTime() + 10_000_000_000L;
+        while (trabalho.getEstado() != EstadoTrabalho.CONCLUIDO && trabalho.getEstado() != EstadoTrabalho.FALHOU) {
+            assertTrue(System.nanoTime() < limite, "Trabalho não terminou: " + trabalho.getEstado());
+            Thread.sleep(10);
+        }
+    }
+}